@@ -114,8 +114,7 @@ export class TimerApiService {
    * @returns 타임스탬프 엔트리 목록
    */
   static async getTimerHistory(timerId: string): Promise<TimestampEntry[]> {
-    const response: AxiosResponse<TimestampEntry[]> = await apiClient.get(`/timers/${timerId}/history`);
-    return response.data;
+    return TimerApiService.getAllHistoryPages(`/timers/${timerId}/history`);
   }
 
   /**
@@ -125,18 +124,41 @@ export class TimerApiService {
    * @returns 사용자별 타임스탬프 목록
    */
   static async getUserTimerHistory(timerId: string, userId: string): Promise<TimestampEntry[]> {
-    const response: AxiosResponse<TimestampEntry[]> = await apiClient.get(`/timers/${timerId}/history/${userId}`);
-    return response.data;
+    return TimerApiService.getAllHistoryPages(`/timers/${timerId}/history/${userId}`);
+  }
+
+  /**
+   * 히스토리 페이지를 X-Next-Cursor 헤더가 없을 때까지 이어서 조회
+   * @param url 히스토리 조회 경로
+   * @returns 전체 타임스탬프 목록
+   */
+  private static async getAllHistoryPages(url: string): Promise<TimestampEntry[]> {
+    const entries: TimestampEntry[] = [];
+    let after: string | undefined;
+    do {
+      const response: AxiosResponse<TimestampEntry[]> = await apiClient.get(url, { params: { after } });
+      entries.push(...response.data);
+      after = response.headers['x-next-cursor'];
+    } while (after);
+    return entries;
   }
 
   // ==================== Redis 디버그 API ====================
   
   /**
-   * 모든 Redis 키 조회
+   * Redis 키 조회 (SCAN 페이지 단위 NDJSON)
+   * nextCursor를 다시 넘기면 이어서 조회, '0'이면 순회 완료
    */
-  static async getRedisKeys(pattern: string = '*'): Promise<string[]> {
-    const response: AxiosResponse<string[]> = await apiClient.get(`/debug/redis/keys?pattern=${pattern}`);
-    return response.data;
+  static async getRedisKeys(pattern: string = '*', cursor: string = '0'): Promise<{ keys: string[]; nextCursor: string }> {
+    const response: AxiosResponse<string> = await apiClient.get(
+      `/debug/redis/keys?pattern=${encodeURIComponent(pattern)}&cursor=${cursor}`,
+      { responseType: 'text' }
+    );
+    const pages = TimerApiService.parseNdjson(response.data);
+    return {
+      keys: pages.flatMap((page) => page.keys),
+      nextCursor: pages.length > 0 ? pages[pages.length - 1].nextCursor : '0',
+    };
   }
 
   /**
@@ -150,9 +172,22 @@ export class TimerApiService {
   /**
    * 모든 타이머의 온라인 사용자 현황 조회
    */
-  static async getAllTimerUsers(): Promise<any[]> {
-    const response: AxiosResponse<any[]> = await apiClient.get(`/debug/redis/timers/all-users`);
-    return response.data;
+  static async getAllTimerUsers(cursor: string = '0'): Promise<any[]> {
+    const response: AxiosResponse<string> = await apiClient.get(
+      `/debug/redis/timers/all-users?cursor=${cursor}`,
+      { responseType: 'text' }
+    );
+    return TimerApiService.parseNdjson(response.data);
+  }
+
+  /**
+   * NDJSON 응답 파싱 (줄마다 JSON 객체 하나)
+   */
+  private static parseNdjson(body: string): any[] {
+    return body
+      .split('\n')
+      .filter((line) => line.trim().length > 0)
+      .map((line) => JSON.parse(line));
   }
 
   /**
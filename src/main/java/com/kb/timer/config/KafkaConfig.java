@@ -1,6 +1,8 @@
 package com.kb.timer.config;
 
 import com.kb.timer.model.event.TimerEvent;
+import com.kb.timer.util.TimerEventDeserializer;
+import com.kb.timer.util.TimerEventSerializer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -13,7 +15,6 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import reactor.kafka.receiver.ReceiverOptions;
 import reactor.kafka.sender.SenderOptions;
 
@@ -21,6 +22,7 @@ import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,6 +40,21 @@ public class KafkaConfig {
     @Value("${server.instance.id:unknown}")
     private String serverInstanceId;
     
+    @Value("${timer.kafka.topics.timer-events:timer-events}")
+    private String timerEventsTopic;
+    
+    @Value("${timer.kafka.topics.user-actions:user-actions}")
+    private String userActionsTopic;
+    
+    @Value("${timer.kafka.consumer.max-deferred-commits:1000}")
+    private int maxDeferredCommits;
+    
+    @Value("${timer.kafka.serde.binary-topics:}")
+    private String binaryTopics;
+    
+    @Value("${timer.kafka.producer.profile:low-latency}")
+    private String producerProfile;
+    
     /**
      * Reactive Kafka Producer 설정
      */
@@ -46,14 +63,15 @@ public class KafkaConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 토픽별 포맷 선택 (binary-topics에 포함된 토픽만 바이너리, 나머지는 JSON)
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, TimerEventSerializer.class);
+        props.put(TimerEventSerializer.BINARY_TOPICS_CONFIG, binaryTopics);
         
-        // 성능 최적화 설정
-        props.put(ProducerConfig.ACKS_CONFIG, "1"); // 리더만 확인
-        props.put(ProducerConfig.RETRIES_CONFIG, 3);
-        props.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
-        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        // 배치/압축/내구성 설정은 프로파일로 선택
+        KafkaProducerProfile profile = KafkaProducerProfile.of(producerProfile);
+        profile.applyTo(props);
         props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
+        log.info("Kafka 프로듀서 프로파일 적용: {}", profile.getName());
         
         // 클라이언트 ID 설정 (디버깅용)
         props.put(ProducerConfig.CLIENT_ID_CONFIG, "timer-producer-" + getServerInstanceId());
@@ -70,7 +88,7 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "timer-service");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, TimerEventDeserializer.class);
         
         // JSON 역직렬화 설정
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.kb.timer.model.event");
@@ -100,7 +118,7 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "timer-service");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, TimerEventDeserializer.class);
         
         // JSON 역직렬화 설정
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.kb.timer.model.event");
@@ -118,7 +136,9 @@ public class KafkaConfig {
         // 고유한 클라이언트 ID 설정 (JMX 충돌 방지)
         props.put(ConsumerConfig.CLIENT_ID_CONFIG, "timer-events-consumer-" + getServerInstanceId());
         
+        // 레일별 병렬 처리로 확인 순서가 뒤섞여도 연속 구간까지만 커밋
         return ReceiverOptions.<String, TimerEvent>create(props)
+                .maxDeferredCommits(maxDeferredCommits)
                 .subscription(java.util.Collections.singleton("timer-events"));
     }
     
@@ -131,7 +151,7 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "timer-service");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, TimerEventDeserializer.class);
         
         // JSON 역직렬화 설정
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.kb.timer.model.event");
@@ -149,10 +169,71 @@ public class KafkaConfig {
         // 고유한 클라이언트 ID 설정 (JMX 충돌 방지)
         props.put(ConsumerConfig.CLIENT_ID_CONFIG, "user-actions-consumer-" + getServerInstanceId());
         
+        // 레일별 병렬 처리로 확인 순서가 뒤섞여도 연속 구간까지만 커밋
         return ReceiverOptions.<String, TimerEvent>create(props)
+                .maxDeferredCommits(maxDeferredCommits)
                 .subscription(java.util.Collections.singleton("user-actions"));
     }
     
+    /**
+     * Timer Events 토픽 브로드캐스트용 Consumer 설정 (partition-aware 라우팅 모드)
+     * 노드 전용 그룹으로 모든 파티션을 받고, 로컬 구독자가 없는 파티션은 일시 정지하여 읽지 않음
+     */
+    @Bean
+    public ReceiverOptions<String, TimerEvent> timerEventsBroadcastConsumerOptions() {
+        return broadcastConsumerOptions(timerEventsTopic, "timer-service-broadcast-events-", "timer-events-broadcast-");
+    }
+    
+    /**
+     * User Actions 토픽 브로드캐스트용 Consumer 설정 (partition-aware 라우팅 모드)
+     */
+    @Bean
+    public ReceiverOptions<String, TimerEvent> userActionsBroadcastConsumerOptions() {
+        return broadcastConsumerOptions(userActionsTopic, "timer-service-broadcast-actions-", "user-actions-broadcast-");
+    }
+    
+    /**
+     * Timer Events 토픽 캐시 무효화용 Consumer 설정
+     * 공유 그룹 Consumer는 일부 파티션만 받으므로, 모든 노드가 TARGET_TIME_CHANGED / TIMER_COMPLETED를
+     * 빠짐없이 받아 로컬 Timer 캐시를 무효화하도록 노드별 그룹으로 전체 파티션을 읽음
+     */
+    @Bean
+    public ReceiverOptions<String, TimerEvent> timerEventsCacheConsumerOptions() {
+        return broadcastConsumerOptions(timerEventsTopic, "timer-service-cache-", "timer-events-cache-");
+    }
+    
+    /**
+     * 노드 전용 그룹 Consumer 설정 생성
+     * 그룹의 유일한 멤버로 토픽을 구독하므로 모든 파티션이 이 노드에 할당되고, 나중에 추가된 파티션도 리밸런싱으로 받음
+     * 실시간 전달 전용이므로 오프셋을 커밋하지 않고 항상 최신 위치부터 읽음
+     * (설정 생성만 하며, 브로커 연결은 Consumer가 실제로 소비를 시작할 때 이루어짐)
+     */
+    private ReceiverOptions<String, TimerEvent> broadcastConsumerOptions(String topic, String groupIdPrefix, String clientIdPrefix) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // 노드별 그룹 ID (다른 노드와 파티션을 나눠 갖지 않음)
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupIdPrefix + getServerInstanceId());
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, TimerEventDeserializer.class);
+        
+        // JSON 역직렬화 설정
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.kb.timer.model.event");
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, true);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, TimerEvent.class.getName());
+        
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
+        
+        // 고유한 클라이언트 ID 설정 (JMX 충돌 방지)
+        props.put(ConsumerConfig.CLIENT_ID_CONFIG, clientIdPrefix + getServerInstanceId());
+        
+        return ReceiverOptions.<String, TimerEvent>create(props)
+                .subscription(List.of(topic));
+    }
+    
     /**
      * Reactive Kafka Producer Template
      */
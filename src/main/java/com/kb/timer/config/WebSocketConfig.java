@@ -1,19 +1,57 @@
 package com.kb.timer.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정 클래스
  * STOMP 프로토콜을 사용한 실시간 통신 설정
+ *
+ * 브로커 모드 (timer.websocket.broker.mode):
+ * - simple: 노드별 인메모리 브로커, 각 노드가 Kafka 이벤트를 자기 구독자에게 재브로드캐스트
+ * - relay: 외부 STOMP 브로커(RabbitMQ/ActiveMQ) 릴레이, 이벤트 발행 노드만 브로커로 한 번 전송
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    public static final String BROKER_MODE_RELAY = "relay";
+    
+    @Value("${timer.websocket.broker.mode:simple}")
+    private String brokerMode;
+    
+    @Value("${timer.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+    
+    @Value("${timer.websocket.broker.relay.port:61613}")
+    private int relayPort;
+    
+    @Value("${timer.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+    
+    @Value("${timer.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+    
+    @Value("${timer.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    
+    @Value("${timer.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    
+    @Value("${timer.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    
+    @Value("${timer.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    
     /**
      * 메시지 브로커 설정
      */
@@ -22,7 +60,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트로 메시지를 보낼 때 사용할 prefix
         // /topic: 1:N 브로드캐스트 (타이머 이벤트)
         // /queue: 1:1 개인 메시지 (에러, 개인 알림)
-        config.enableSimpleBroker("/topic", "/queue");
+        if (BROKER_MODE_RELAY.equals(brokerMode)) {
+            // 외부 브로커가 모든 노드의 구독자에게 팬아웃
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            log.info("STOMP 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -31,6 +81,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setUserDestinationPrefix("/user");
     }
     
+    /**
+     * 클라이언트 송신 채널 스레드 풀 설정
+     * 구독자가 많은 타이머의 팬아웃이 기본 풀을 점유하지 않도록 크기 조정
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize);
+    }
+    
+    /**
+     * WebSocket 전송 설정
+     * 느린 클라이언트가 송신 스레드를 오래 붙잡지 않도록 전송 시간/버퍼 제한
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+    
     /**
      * STOMP 엔드포인트 등록
      */
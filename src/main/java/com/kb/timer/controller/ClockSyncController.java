@@ -0,0 +1,47 @@
+package com.kb.timer.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시계 동기화 컨트롤러
+ * NTP 방식의 오프셋/RTT 추정을 위한 서버 타임스탬프 제공
+ *
+ * 클라이언트 계산 (t3 = 응답 수신 시각):
+ * - offset = ((t1 - t0) + (t2 - t3)) / 2
+ * - rtt = (t3 - t0) - (t2 - t1)
+ * 여러 번 호출하여 RTT가 가장 작은 표본의 offset을 사용하고, 이후 남은 시간은 틱 스트림의 targetTime으로 로컬 계산
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/clock")
+public class ClockSyncController {
+
+    /**
+     * 시계 동기화 표본
+     * GET /api/v1/clock?t0={클라이언트 송신 시각 epoch 밀리초}
+     *
+     * @param t0 클라이언트 송신 시각 (선택, 그대로 돌려줌)
+     * @return t0, t1(서버 수신 시각), t2(서버 송신 시각)
+     */
+    @GetMapping
+    public Mono<Map<String, Long>> sync(@RequestParam(required = false) Long t0) {
+        long t1 = System.currentTimeMillis();
+        return Mono.fromSupplier(() -> {
+            Map<String, Long> sample = new HashMap<>();
+            if (t0 != null) {
+                sample.put("t0", t0);
+            }
+            sample.put("t1", t1);
+            sample.put("t2", System.currentTimeMillis());
+            return sample;
+        });
+    }
+}
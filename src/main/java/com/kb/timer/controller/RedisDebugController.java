@@ -1,10 +1,14 @@
 package com.kb.timer.controller;
 
+import com.kb.timer.service.LocalSubscriptionRegistry;
 import com.kb.timer.service.RedisConnectionManager;
+import com.kb.timer.service.RedisKeyScanner;
 import com.kb.timer.service.ServerShutdownHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -25,24 +29,34 @@ public class RedisDebugController {
     private final RedisConnectionManager redisConnectionManager;
     private final ReactiveRedisTemplate<String, String> redisTemplate;
     private final ServerShutdownHandler serverShutdownHandler;
+    private final RedisKeyScanner redisKeyScanner;
+    private final LocalSubscriptionRegistry localSubscriptionRegistry;
+    
+    // 정리 작업 시 SCAN COUNT 힌트 및 DEL 배치 크기
+    private static final int SCAN_COUNT = 500;
 
     /**
-     * 모든 Redis 키 조회
+     * Redis 키 조회 (SCAN 페이지 단위 NDJSON 스트리밍)
+     * GET /api/v1/debug/redis/keys?pattern=timer:*&cursor=0&count=500&maxPages=10
+     * 마지막 줄의 nextCursor를 cursor로 넘겨 이어서 조회 ("0"이면 순회 완료)
      */
-    @GetMapping("/keys")
-    public Mono<Map<String, Object>> getAllKeys(@RequestParam(defaultValue = "*") String pattern) {
-        log.debug("Redis 키 조회 요청: pattern={}", pattern);
+    @GetMapping(value = "/keys", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> getAllKeys(@RequestParam(defaultValue = "*") String pattern,
+                                                @RequestParam(defaultValue = "0") String cursor,
+                                                @RequestParam(defaultValue = "500") long count,
+                                                @RequestParam(defaultValue = "10") int maxPages) {
+        log.debug("Redis 키 조회 요청: pattern={}, cursor={}, count={}, maxPages={}", pattern, cursor, count, maxPages);
         
-        return redisTemplate.keys(pattern)
-                .collectList()
-                .map(keys -> {
+        return redisKeyScanner.scanPages(cursor, pattern, count, maxPages)
+                .map(page -> {
                     Map<String, Object> result = new HashMap<>();
                     result.put("pattern", pattern);
-                    result.put("keys", keys);
-                    result.put("count", keys.size());
+                    result.put("cursor", page.cursor());
+                    result.put("nextCursor", page.nextCursor());
+                    result.put("keys", page.keys());
+                    result.put("count", page.keys().size());
                     return result;
                 })
-                .doOnNext(result -> log.debug("Redis 키 조회 결과: {}", result))
                 .doOnError(error -> log.error("Redis 키 조회 실패: {}", error.getMessage(), error));
     }
 
@@ -75,31 +89,41 @@ public class RedisDebugController {
     }
 
     /**
-     * 모든 타이머의 온라인 사용자 현황 조회
+     * 모든 타이머의 온라인 사용자 현황 조회 (SCAN 페이지 단위 NDJSON 스트리밍)
+     * GET /api/v1/debug/redis/timers/all-users?cursor=0&count=500&maxPages=10&maxMembers=100
+     * 각 줄의 nextCursor를 cursor로 넘기면 해당 페이지 이후부터 이어서 조회
      */
-    @GetMapping("/timers/all-users")
-    public Flux<Map<String, Object>> getAllTimerUsers() {
-        log.info("모든 타이머 사용자 현황 조회");
+    @GetMapping(value = "/timers/all-users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> getAllTimerUsers(@RequestParam(defaultValue = "0") String cursor,
+                                                      @RequestParam(defaultValue = "500") long count,
+                                                      @RequestParam(defaultValue = "10") int maxPages,
+                                                      @RequestParam(defaultValue = "100") int maxMembers) {
+        log.info("모든 타이머 사용자 현황 조회: cursor={}, count={}, maxPages={}", cursor, count, maxPages);
         
-        return redisTemplate.keys("timer:*:online_users")
-                .flatMap(key -> {
-                    String timerId = key.replaceAll("^timer:|:online_users$", "");
-                    
-                    return redisTemplate.opsForSet().size(key)
-                            .defaultIfEmpty(0L)
-                            .flatMap(count -> 
-                                redisTemplate.opsForSet().members(key)
-                                        .collectList()
-                                        .map(members -> {
-                                            Map<String, Object> result = new HashMap<>();
-                                            result.put("timerId", timerId);
-                                            result.put("redisKey", key);
-                                            result.put("onlineUserCount", count);
-                                            result.put("userList", members);
-                                            return result;
-                                        })
-                            );
-                })
+        return redisKeyScanner.scanPages(cursor, "timer:*:online_users", count, maxPages)
+                .concatMap(page -> Flux.fromIterable(page.keys())
+                        .concatMap(key -> {
+                            String timerId = key.replaceAll("^timer:|:online_users$", "");
+                            
+                            // 큰 집합도 SMEMBERS 대신 SSCAN으로 maxMembers까지만 조회
+                            return redisTemplate.opsForSet().size(key)
+                                    .defaultIfEmpty(0L)
+                                    .flatMap(size -> 
+                                        redisTemplate.opsForSet().scan(key, ScanOptions.scanOptions().count(maxMembers).build())
+                                                .take(maxMembers)
+                                                .collectList()
+                                                .map(members -> {
+                                                    Map<String, Object> result = new HashMap<>();
+                                                    result.put("timerId", timerId);
+                                                    result.put("redisKey", key);
+                                                    result.put("onlineUserCount", size);
+                                                    result.put("userList", members);
+                                                    result.put("truncated", size > members.size());
+                                                    result.put("nextCursor", page.nextCursor());
+                                                    return result;
+                                                })
+                                    );
+                        }))
                 .doOnNext(result -> log.debug("타이머 사용자 현황: {}", result))
                 .doOnComplete(() -> log.info("모든 타이머 사용자 현황 조회 완료"))
                 .doOnError(error -> log.error("모든 타이머 사용자 현황 조회 실패: {}", error.getMessage(), error));
@@ -200,9 +224,12 @@ public class RedisDebugController {
     public Mono<Map<String, Object>> cleanupAllUsers() {
         log.info("모든 타이머 사용자 정리 시작");
         
-        return redisTemplate.keys("timer:*:online_users")
-                .flatMap(key -> redisTemplate.delete(key))
-                .count()
+        return redisTemplate.scan(ScanOptions.scanOptions().match("timer:*:online_users").count(SCAN_COUNT).build())
+                .buffer(SCAN_COUNT)
+                .concatMap(keys -> redisTemplate.delete(keys.toArray(String[]::new)))
+                .reduce(0L, Long::sum)
+                .flatMap(deletedCount -> redisTemplate.delete(RedisConnectionManager.ACTIVE_TIMERS_KEY)
+                        .thenReturn(deletedCount))
                 .map(deletedCount -> {
                     Map<String, Object> result = new HashMap<>();
                     result.put("deletedTimerKeys", deletedCount);
@@ -233,6 +260,7 @@ public class RedisDebugController {
 
     /**
      * Redis 전체 통계
+     * 키를 나열하지 않고 클러스터 전체 활성 타이머 인덱스(ZCOUNT), 노드 로컬 구독 인덱스 카운터와 DBSIZE로 계산
      */
     @GetMapping("/stats")
     public Mono<Map<String, Object>> getRedisStats() {
@@ -241,19 +269,21 @@ public class RedisDebugController {
         return Mono.fromCallable(() -> {
             Map<String, Object> stats = new HashMap<>();
             stats.put("timestamp", System.currentTimeMillis());
+            stats.put("localActiveTimerCount", localSubscriptionRegistry.getSubscribedTimerIds().size());
+            stats.put("localSessionCount", localSubscriptionRegistry.getLocalSessionCount());
             return stats;
         })
-        .flatMap(stats -> 
-            redisTemplate.keys("timer:users:*")
-                    .count()
-                    .map(timerCount -> {
-                        stats.put("activeTimerCount", timerCount);
+        .flatMap(stats ->
+            redisConnectionManager.getActiveTimerCount()
+                    .map(activeTimerCount -> {
+                        stats.put("activeTimerCount", activeTimerCount);
                         return stats;
                     })
         )
         .flatMap(stats ->
-            redisTemplate.keys("*")
-                    .count()
+            redisTemplate.execute(connection -> connection.serverCommands().dbSize())
+                    .next()
+                    .defaultIfEmpty(0L)
                     .map(totalKeys -> {
                         stats.put("totalRedisKeys", totalKeys);
                         return stats;
@@ -3,6 +3,7 @@ package com.kb.timer.controller;
 import com.kb.timer.service.TimerCompletionMonitoringService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
@@ -20,6 +21,12 @@ public class TimerMonitoringController {
 
     private final TimerCompletionMonitoringService monitoringService;
 
+    @Value("${timer.sweeper.interval-ms:10000}")
+    private long sweepIntervalMs;
+
+    @Value("${timer.sweeper.grace-ms:5000}")
+    private long sweepGraceMs;
+
     /**
      * 최근 타이머 완료 처리 통계 조회
      * 
@@ -68,9 +75,9 @@ public class TimerMonitoringController {
             return Map.of(
                 "status", "healthy",
                 "service", "TimerCompletionMonitoringService",
-                "description", "1분마다 누락된 타이머 완료 처리를 감지합니다",
-                "checkInterval", "60초",
-                "detectionWindow", "5분",
+                "description", "체크포인트 이후 구간만 증분 스위프하여 누락된 타이머 완료를 재처리합니다",
+                "checkInterval", sweepIntervalMs + "ms",
+                "graceWindow", sweepGraceMs + "ms",
                 "timestamp", java.time.Instant.now().toString()
             );
         });
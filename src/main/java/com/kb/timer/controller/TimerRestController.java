@@ -4,17 +4,22 @@ import com.kb.timer.model.dto.ChangeTargetTimeRequest;
 import com.kb.timer.model.dto.CreateTimerRequest;
 import com.kb.timer.model.dto.SaveTimestampRequest;
 import com.kb.timer.model.dto.TimerResponse;
+import com.kb.timer.model.dto.TimestampHistoryPage;
 import com.kb.timer.model.entity.TimestampEntry;
 import com.kb.timer.service.TimerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 타이머 관련 REST API 컨트롤러
@@ -26,6 +31,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TimerRestController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TimerService timerService;
 
     /**
@@ -45,6 +52,24 @@ public class TimerRestController {
                 .doOnError(error -> log.error("REST API - 타이머 생성 실패: {}", error.getMessage(), error));
     }
 
+    /**
+     * 여러 타이머를 한 번에 생성합니다.
+     * JSON 배열 또는 NDJSON 스트림을 받아 청크 단위로 저장하고, 생성된 타이머 정보를 NDJSON으로 스트리밍합니다.
+     * 
+     * @param requests 타이머 생성 요청 목록
+     * @return 생성된 타이머 정보 스트림 (요청 순서 유지)
+     */
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TimerResponse> createTimers(@Valid @RequestBody Flux<CreateTimerRequest> requests) {
+        log.info("REST API - 타이머 일괄 생성 요청");
+        
+        return timerService.createTimers(requests)
+                .doOnComplete(() -> log.info("REST API - 타이머 일괄 생성 완료"))
+                .doOnError(error -> log.error("REST API - 타이머 일괄 생성 실패: {}", error.getMessage(), error));
+    }
+
     /**
      * 특정 타이머의 정보를 조회합니다.
      * 
@@ -130,40 +155,93 @@ public class TimerRestController {
     }
 
     /**
-     * 특정 타이머의 타임스탬프 히스토리를 조회합니다.
+     * 특정 타이머의 타임스탬프 히스토리를 한 페이지 조회합니다.
+     * 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 전달하며, 이 값을 after로 넘겨 이어서 조회합니다.
      * 
      * @param timerId 타이머 ID
+     * @param limit 페이지 크기 (생략 시 기본값)
+     * @param after 이전 페이지의 커서
+     * @param fields 포함할 선택 필드 (생략 시 metadata 포함, metadata가 없는 값을 주면 제외)
      * @return 타임스탬프 엔트리 목록
      */
-    @GetMapping("/{timerId}/history")
-    public Flux<TimestampEntry> getTimerHistory(@PathVariable String timerId) {
-        log.info("REST API - 타이머 히스토리 조회: timerId={}", timerId);
+    @GetMapping(value = "/{timerId}/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TimestampEntry>>> getTimerHistory(
+            @PathVariable String timerId,
+            @RequestParam(defaultValue = "0") int limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Set<String> fields) {
+        log.info("REST API - 타이머 히스토리 조회: timerId={}, limit={}, after={}", timerId, limit, after);
         
-        return timerService.getTimerHistory(timerId)
-                .doOnNext(entry -> log.debug("REST API - 타임스탬프 엔트리: {}", entry.getId()))
-                .doOnComplete(() -> log.info("REST API - 타이머 히스토리 조회 완료: timerId={}", timerId))
+        return timerService.getTimerHistoryPage(timerId, null, after, limit, fields == null || includesMetadata(fields))
+                .map(this::toHistoryResponse)
                 .doOnError(error -> log.error("REST API - 타이머 히스토리 조회 실패: timerId={}, error={}", 
                         timerId, error.getMessage(), error));
     }
 
     /**
-     * 특정 사용자의 타임스탬프 히스토리를 조회합니다.
+     * 특정 사용자의 타임스탬프 히스토리를 한 페이지 조회합니다.
      * 
      * @param timerId 타이머 ID
      * @param userId 사용자 ID
+     * @param limit 페이지 크기 (생략 시 기본값)
+     * @param after 이전 페이지의 커서
+     * @param fields 포함할 선택 필드 (생략 시 metadata 포함, metadata가 없는 값을 주면 제외)
      * @return 사용자별 타임스탬프 목록
      */
-    @GetMapping("/{timerId}/history/{userId}")
-    public Flux<TimestampEntry> getUserTimerHistory(@PathVariable String timerId, @PathVariable String userId) {
-        log.info("REST API - 사용자별 타이머 히스토리 조회: timerId={}, userId={}", timerId, userId);
+    @GetMapping(value = "/{timerId}/history/{userId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TimestampEntry>>> getUserTimerHistory(
+            @PathVariable String timerId,
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "0") int limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Set<String> fields) {
+        log.info("REST API - 사용자별 타이머 히스토리 조회: timerId={}, userId={}, limit={}, after={}", 
+                timerId, userId, limit, after);
         
-        return timerService.getUserTimerHistory(timerId, userId)
-                .doOnNext(entry -> log.debug("REST API - 사용자 타임스탬프 엔트리: {}", entry.getId()))
-                .doOnComplete(() -> log.info("REST API - 사용자별 타이머 히스토리 조회 완료: timerId={}, userId={}", timerId, userId))
+        return timerService.getTimerHistoryPage(timerId, userId, after, limit, fields == null || includesMetadata(fields))
+                .map(this::toHistoryResponse)
                 .doOnError(error -> log.error("REST API - 사용자별 타이머 히스토리 조회 실패: timerId={}, userId={}, error={}", 
                         timerId, userId, error.getMessage(), error));
     }
 
+    /**
+     * 타임스탬프 히스토리를 NDJSON 또는 SSE로 스트리밍합니다.
+     * 클라이언트가 읽는 속도에 맞춰 MongoDB 커서를 읽으므로 히스토리 전체를 메모리에 올리지 않습니다.
+     * /{timerId}/history/{userId}와 겹치지 않도록 별도 경로를 사용합니다.
+     * 
+     * @param timerId 타이머 ID
+     * @param userId 사용자 ID (생략 시 타이머 전체)
+     * @param after 이 커서 이후부터 스트리밍
+     * @param fields 추가로 포함할 필드 (metadata, 생략 시 제외)
+     * @return 타임스탬프 엔트리 스트림
+     */
+    @GetMapping(value = "/{timerId}/history-stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TimestampEntry> streamTimerHistory(
+            @PathVariable String timerId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Set<String> fields) {
+        log.info("REST API - 타이머 히스토리 스트리밍: timerId={}, userId={}, after={}", timerId, userId, after);
+        
+        return timerService.streamTimerHistory(timerId, userId, after, includesMetadata(fields))
+                .doOnComplete(() -> log.info("REST API - 타이머 히스토리 스트리밍 완료: timerId={}", timerId))
+                .doOnError(error -> log.error("REST API - 타이머 히스토리 스트리밍 실패: timerId={}, error={}", 
+                        timerId, error.getMessage(), error));
+    }
+
+    private boolean includesMetadata(Set<String> fields) {
+        return fields != null && fields.contains("metadata");
+    }
+
+    private ResponseEntity<List<TimestampEntry>> toHistoryResponse(TimestampHistoryPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getEntries());
+    }
+
     /**
      * 타이머 완료를 알립니다.
      * 
@@ -1,6 +1,7 @@
 package com.kb.timer.controller;
 
 import com.kb.timer.model.dto.TimerResponse;
+import com.kb.timer.model.dto.TimerTick;
 import com.kb.timer.model.event.TargetTimeChangedEvent;
 import com.kb.timer.service.RedisConnectionManager;
 import com.kb.timer.service.TimerService;
@@ -52,13 +53,32 @@ public class TimerWebSocketController {
         
         // Redis에 연결 정보 기록
         return redisConnectionManager.recordUserConnection(timerId, userId, serverId, sessionId)
-                .then(timerService.publishUserJoinedEvent(timerId, userId))
+                .flatMap(onlineCount -> timerService.publishUserJoinedEvent(timerId, userId, onlineCount))
                 .then(getCurrentTimerState(timerId, userId))
                 .doOnSuccess(response -> log.info("타이머 구독 완료: timerId={}, userId={}", timerId, userId))
                 .doOnError(error -> log.error("타이머 구독 실패: timerId={}, userId={}, error={}", 
                           timerId, userId, error.getMessage(), error));
     }
 
+    /**
+     * 현재 상태 틱 1회 조회 (/app/timer/{timerId}/tick 구독)
+     * /topic 구독은 브로커가 처리하여 컨트롤러로 오지 않으므로 애플리케이션 prefix(/app)로 매핑하고,
+     * 응답은 브로커를 거치지 않고 구독한 세션에만 바로 전송됨
+     * 
+     * 클라이언트는 두 목적지를 함께 구독:
+     * - /app/timer/{timerId}/tick: 초기 상태 틱 (1회)
+     * - /topic/timer/{timerId}/tick: 이후 상태가 바뀔 때마다 전송되는 틱
+     * 
+     * @param timerId 타이머 ID
+     * @return 현재 상태 틱
+     */
+    @SubscribeMapping("/timer/{timerId}/tick")
+    public Mono<TimerTick> subscribeTimerTick(@DestinationVariable String timerId) {
+        return timerService.getTimerTick(timerId)
+                .doOnError(error -> log.error("타이머 틱 구독 실패: timerId={}, error={}", 
+                          timerId, error.getMessage(), error));
+    }
+
     /**
      * 타임스탬프 저장 요청 처리
      * 클라이언트가 현재 시점의 타임스탬프를 저장할 때 호출됨
@@ -1,6 +1,7 @@
 package com.kb.timer.controller;
 
 import com.kb.timer.model.dto.TimerResponse;
+import com.kb.timer.service.LocalSubscriptionRegistry;
 import com.kb.timer.service.RedisConnectionManager;
 import com.kb.timer.service.TimerService;
 import com.kb.timer.util.ServerInstanceIdGenerator;
@@ -9,14 +10,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 이벤트 핸들러
@@ -30,6 +35,7 @@ public class WebSocketEventHandler {
     private final RedisConnectionManager redisConnectionManager;
     private final TimerService timerService;
     private final ServerInstanceIdGenerator serverInstanceIdGenerator;
+    private final LocalSubscriptionRegistry localSubscriptionRegistry;
     
     // 세션 ID -> {timerId, userId} 매핑 추적
     private final ConcurrentMap<String, SessionInfo> sessionTracker = new ConcurrentHashMap<>();
@@ -77,13 +83,17 @@ public class WebSocketEventHandler {
         // 세션 추적 정보에서 타이머 정보 조회
         SessionInfo sessionInfo = sessionTracker.remove(sessionId);
         
+        // 로컬 구독 인덱스에서 제거 (추적 정보 제거 이후에 해야 구독 처리와 경합해도 누수 없음)
+        localSubscriptionRegistry.unregister(sessionId);
+        
         if (sessionInfo != null) {
             log.info("세션 정보 발견: sessionId={}, timerId={}, userId={}", 
                     sessionId, sessionInfo.timerId, sessionInfo.userId);
             
             // Redis에서 사용자 연결 정보 제거
             redisConnectionManager.removeUserConnection(sessionInfo.timerId, sessionInfo.userId)
-                    .then(redisConnectionManager.removeSessionById(sessionId)) // 세션 ID로 직접 삭제 (cost 낮음)
+                    .then(redisConnectionManager.removeSessionById(sessionId, 
+                            serverInstanceIdGenerator.getServerInstanceId())) // 세션 ID로 직접 삭제 (cost 낮음)
                     .then(timerService.publishUserLeftEvent(sessionInfo.timerId, sessionInfo.userId))
                     .doOnSuccess(ignored -> log.info("연결 해제 처리 완료: sessionId={}, timerId={}, userId={}", 
                             sessionId, sessionInfo.timerId, sessionInfo.userId))
@@ -102,7 +112,8 @@ public class WebSocketEventHandler {
                         // Redis에서 사용자 연결 정보 제거
                         return redisConnectionManager.removeUserConnection(
                                 redisSessionInfo.getTimerId(), redisSessionInfo.getUserId())
-                                .then(redisConnectionManager.removeSessionById(sessionId)) // 세션 ID로 직접 삭제 (cost 낮음)
+                                .then(redisConnectionManager.removeSessionById(sessionId, 
+                                        redisSessionInfo.getServerId())) // 세션 ID로 직접 삭제 (cost 낮음)
                                 .then(timerService.publishUserLeftEvent(
                                         redisSessionInfo.getTimerId(), redisSessionInfo.getUserId()));
                     })
@@ -163,6 +174,13 @@ public class WebSocketEventHandler {
                 timerInfoMono.flatMap(timerResponse -> {
                         String actualTimerId = timerResponse.getTimerId();
                         
+                        // share token으로 구독한 경우에도 실제 타이머 ID로 세션 추적 정보 갱신 및 로컬 구독 등록
+                        // 그 사이 연결이 해제되어 추적 정보가 없으면 등록하지 않음
+                        sessionTracker.computeIfPresent(sessionId, (id, info) -> {
+                            localSubscriptionRegistry.register(sessionId, actualTimerId);
+                            return new SessionInfo(actualTimerId, userId);
+                        });
+                        
                         // 소유자가 아닌 사용자가 접속한 경우 (공유 타이머 접속)
                         if (!timerResponse.getOwnerId().equals(userId)) {
                             log.info("🔗 공유 타이머 접속 감지: timerId={}, actualTimerId={}, accessedUserId={}, ownerId={}", 
@@ -172,11 +190,11 @@ public class WebSocketEventHandler {
                             // 공유 타이머 접속 이벤트 발행 (소유자에게 알림) - 실제 타이머 ID 사용
                             return timerService.publishSharedTimerAccessedEvent(actualTimerId, userId, timerResponse.getOwnerId())
                                     .then(redisConnectionManager.recordUserConnection(actualTimerId, userId, serverId, sessionId))
-                                    .then(timerService.publishUserJoinedEvent(actualTimerId, userId));
+                                    .flatMap(onlineCount -> timerService.publishUserJoinedEvent(actualTimerId, userId, onlineCount));
                         } else {
                             // 소유자 본인 접속
                             return redisConnectionManager.recordUserConnection(actualTimerId, userId, serverId, sessionId)
-                                    .then(timerService.publishUserJoinedEvent(actualTimerId, userId));
+                                    .flatMap(onlineCount -> timerService.publishUserJoinedEvent(actualTimerId, userId, onlineCount));
                         }
                     })
                     .doOnSuccess(ignored -> log.info("타이머 구독 완료: timerId={}, userId={}", timerId, userId))
@@ -203,6 +221,28 @@ public class WebSocketEventHandler {
         // 구독 해제 시 특별한 처리는 없음 (연결 해제 시점에서 일괄 처리)
     }
 
+    /**
+     * 로컬 세션 presence TTL 일괄 갱신 (timer.redis.heartbeat-interval 주기)
+     * 연결 중인 사용자가 TTL 만료로 온라인 목록에서 사라지지 않도록 세션 추적 정보 전체를 한 번에 갱신
+     */
+    @Scheduled(fixedDelayString = "${timer.redis.heartbeat-interval:30}", timeUnit = TimeUnit.SECONDS)
+    public void refreshLocalPresence() {
+        if (sessionTracker.isEmpty()) {
+            return;
+        }
+        
+        List<com.kb.timer.model.dto.SessionInfo> sessions = new ArrayList<>(sessionTracker.size());
+        sessionTracker.forEach((sessionId, info) -> sessions.add(com.kb.timer.model.dto.SessionInfo.builder()
+                .sessionId(sessionId)
+                .timerId(info.timerId)
+                .userId(info.userId)
+                .build()));
+        
+        redisConnectionManager.refreshLocalSessionTTLs(serverInstanceIdGenerator.getServerInstanceId(), sessions)
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
     /**
      * destination에서 타이머 ID 추출
      * 
@@ -211,8 +251,10 @@ public class WebSocketEventHandler {
      */
     private String extractTimerIdFromDestination(String destination) {
         // "/topic/timer/{timerId}" 형식에서 timerId 추출
+        // "/topic/timer/{timerId}/tick" 같은 하위 토픽은 접속자 집계 대상이 아님
         if (destination.startsWith("/topic/timer/")) {
-            return destination.substring("/topic/timer/".length());
+            String timerId = destination.substring("/topic/timer/".length());
+            return timerId.isEmpty() || timerId.contains("/") ? null : timerId;
         }
         return null;
     }
@@ -0,0 +1,37 @@
+package com.kb.timer.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 타이머 상태 틱
+ * /topic/timer/{timerId}/tick 으로 상태가 바뀔 때만 전송되는 최소 페이로드
+ * 클라이언트는 시계 동기화(/api/v1/clock)로 구한 오프셋과 targetTime으로 남은 시간을 로컬 계산
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimerTick {
+    
+    /**
+     * 목표 시각 (epoch 밀리초)
+     */
+    @JsonProperty("t")
+    private long targetTimeMs;
+    
+    /**
+     * 상태 버전 (마지막 상태 변경 시각, epoch 밀리초) - 클라이언트는 더 작은 버전을 무시
+     */
+    @JsonProperty("v")
+    private long version;
+    
+    /**
+     * 완료 여부
+     */
+    @JsonProperty("c")
+    private boolean completed;
+}
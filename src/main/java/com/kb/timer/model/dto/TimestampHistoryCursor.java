@@ -0,0 +1,59 @@
+package com.kb.timer.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 타임스탬프 히스토리 키셋 페이지 커서
+ * 마지막으로 받은 엔트리의 (createdAt, id)를 담으며, 다음 페이지는 이 값 이후부터 조회
+ * 클라이언트에는 URL-safe Base64 문자열로 전달
+ *
+ * @param createdAt 마지막 엔트리의 생성 시각
+ * @param id 마지막 엔트리의 문서 ID
+ */
+public record TimestampHistoryCursor(Instant createdAt, String id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 커서를 클라이언트 전달용 문자열로 인코딩
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = createdAt.toEpochMilli() + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열 디코딩
+     *
+     * @param encoded 인코딩된 커서
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TimestampHistoryCursor decode(String encoded) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(encoded);
+        }
+
+        int separatorIndex = raw.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+            throw invalid(encoded);
+        }
+        try {
+            long createdAtMs = Long.parseLong(raw.substring(0, separatorIndex));
+            return new TimestampHistoryCursor(Instant.ofEpochMilli(createdAtMs), raw.substring(separatorIndex + 1));
+        } catch (NumberFormatException e) {
+            throw invalid(encoded);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String encoded) {
+        return new IllegalArgumentException("잘못된 히스토리 커서입니다: " + encoded);
+    }
+}
@@ -0,0 +1,29 @@
+package com.kb.timer.model.dto;
+
+import com.kb.timer.model.entity.TimestampEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 타임스탬프 히스토리 한 페이지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimestampHistoryPage {
+    
+    /**
+     * 이번 페이지의 엔트리 목록 ((createdAt, id) 오름차순)
+     */
+    private List<TimestampEntry> entries;
+    
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,38 @@
+package com.kb.timer.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 누락 타이머 스위퍼 체크포인트
+ * 마지막으로 검사를 마친 targetTime(high-water mark)을 저장하여 다음 실행은 그 이후 범위만 검사
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sweeper_checkpoints")
+public class SweeperCheckpoint {
+
+    /**
+     * 스위퍼 이름
+     */
+    @Id
+    private String id;
+
+    /**
+     * 검사 완료된 targetTime 상한
+     */
+    private Instant highWaterMark;
+
+    /**
+     * 마지막 갱신 시각
+     */
+    private Instant updatedAt;
+}
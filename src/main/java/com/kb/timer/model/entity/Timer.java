@@ -3,6 +3,7 @@ package com.kb.timer.model.entity;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,6 +16,7 @@ import java.time.Instant;
 @Data
 @Builder
 @Document(collection = "timers")
+@CompoundIndex(def = "{'completed': 1, 'targetTime': 1}")
 public class Timer {
     @Id
     private String id;
@@ -50,6 +52,12 @@ public class Timer {
      */
     private Instant completedAt;
 
+    /**
+     * 완료 처리한 배치 식별자 (벌크 완료 시 이번 배치에서 완료된 문서 식별용)
+     */
+    @Indexed(sparse = true)
+    private String completionBatchId;
+
     /**
      * 공유 토큰 (URL 생성용)
      */
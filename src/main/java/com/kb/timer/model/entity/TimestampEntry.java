@@ -18,6 +18,8 @@ import java.util.Map;
 @Document(collection = "timer_timestamps")
 @CompoundIndex(def = "{'timerId': 1, 'savedAt': 1}")
 @CompoundIndex(def = "{'userId': 1, 'savedAt': -1}")
+@CompoundIndex(name = "timer_history_keyset", def = "{'timerId': 1, 'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "timer_user_history_keyset", def = "{'timerId': 1, 'userId': 1, 'createdAt': 1, '_id': 1}")
 @Data
 @Builder
 public class TimestampEntry {
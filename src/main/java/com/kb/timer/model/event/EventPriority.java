@@ -3,6 +3,7 @@ package com.kb.timer.model.event;
 /**
  * 이벤트 우선순위
  * 금융 서비스 특성상 중요도에 따른 차별화 처리
+ * CRITICAL/IMPORTANT는 priority 레인(timer-events), NORMAL은 normal 레인(user-actions)으로 발행
  */
 public enum EventPriority {
     /**
@@ -13,13 +14,21 @@ public enum EventPriority {
     
     /**
      * 중간 우선순위 이벤트
-     * 예: 목표 시간 변경, 타임스탬프 저장
+     * 예: 목표 시간 변경
      */
     IMPORTANT,
     
     /**
      * 일반 이벤트
-     * 예: 사용자 입장/퇴장
+     * 예: 사용자 입장/퇴장, 타임스탬프 저장, 공유 타이머 접속
      */
-    NORMAL
+    NORMAL;
+    
+    /**
+     * priority 레인으로 발행해야 하는지 여부
+     * @return CRITICAL/IMPORTANT 여부
+     */
+    public boolean isPriorityLane() {
+        return this != NORMAL;
+    }
 }
@@ -1,5 +1,6 @@
 package com.kb.timer.model.event;
 
+import com.kb.timer.model.entity.TimerCompletionLog;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -12,8 +13,19 @@ public class TimerCompletionEvent extends ApplicationEvent {
     
     private final String timerId;
     
+    /**
+     * 만료를 감지한 스케줄러가 작성한 완료 로그 (선택)
+     * 조건부 업데이트로 이 노드가 실제 완료한 경우에만 저장됨
+     */
+    private final TimerCompletionLog completionLog;
+    
     public TimerCompletionEvent(Object source, String timerId) {
+        this(source, timerId, null);
+    }
+    
+    public TimerCompletionEvent(Object source, String timerId, TimerCompletionLog completionLog) {
         super(source);
         this.timerId = timerId;
+        this.completionLog = completionLog;
     }
 }
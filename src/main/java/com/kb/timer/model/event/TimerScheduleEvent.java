@@ -4,6 +4,8 @@ import com.kb.timer.model.entity.Timer;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.List;
+
 /**
  * 타이머 스케줄링 관련 이벤트
  */
@@ -13,12 +15,14 @@ public class TimerScheduleEvent extends ApplicationEvent {
     public enum Type {
         SCHEDULE,    // 타이머 스케줄 등록
         UPDATE,      // 타이머 스케줄 업데이트  
-        CANCEL       // 타이머 스케줄 취소
+        CANCEL,      // 타이머 스케줄 취소
+        SCHEDULE_BATCH // 여러 타이머 스케줄 일괄 등록
     }
     
     private final Type type;
     private final Timer timer;
     private final String timerId;
+    private final List<Timer> timers;
     
     // 타이머 스케줄 등록/업데이트용 생성자
     public TimerScheduleEvent(Object source, Type type, Timer timer) {
@@ -26,6 +30,16 @@ public class TimerScheduleEvent extends ApplicationEvent {
         this.type = type;
         this.timer = timer;
         this.timerId = timer.getId();
+        this.timers = null;
+    }
+    
+    // 타이머 스케줄 일괄 등록용 생성자
+    public TimerScheduleEvent(Object source, List<Timer> timers) {
+        super(source);
+        this.type = Type.SCHEDULE_BATCH;
+        this.timer = null;
+        this.timerId = null;
+        this.timers = timers;
     }
     
     // 타이머 스케줄 취소용 생성자 (Timer 객체 없이 ID만으로)
@@ -34,5 +48,6 @@ public class TimerScheduleEvent extends ApplicationEvent {
         this.type = type;
         this.timer = null;
         this.timerId = timerId;
+        this.timers = null;
     }
 }
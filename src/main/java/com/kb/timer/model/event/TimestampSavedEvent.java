@@ -53,6 +53,6 @@ public class TimestampSavedEvent extends TimerEvent {
     
     @Override
     public EventPriority getPriority() {
-        return EventPriority.IMPORTANT;
+        return EventPriority.NORMAL; // 대량 발생 가능하므로 완료 알림과 같은 레인에 두지 않음
     }
 }
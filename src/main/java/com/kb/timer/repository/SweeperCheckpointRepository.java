@@ -0,0 +1,13 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.SweeperCheckpoint;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스위퍼 체크포인트 레포지토리
+ */
+@Repository
+public interface SweeperCheckpointRepository extends ReactiveMongoRepository<SweeperCheckpoint, String>,
+        SweeperCheckpointRepositoryCustom {
+}
@@ -0,0 +1,22 @@
+package com.kb.timer.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * 스위퍼 체크포인트 커스텀 레포지토리
+ */
+public interface SweeperCheckpointRepositoryCustom {
+
+    /**
+     * high-water mark를 compare-and-set으로 전진
+     * 여러 노드가 같은 범위를 동시에 검사하지 않도록 기대값이 일치할 때만 갱신
+     *
+     * @param id 스위퍼 이름
+     * @param expected 현재 high-water mark
+     * @param next 새 high-water mark
+     * @return 갱신 성공 여부
+     */
+    Mono<Boolean> advanceHighWaterMark(String id, Instant expected, Instant next);
+}
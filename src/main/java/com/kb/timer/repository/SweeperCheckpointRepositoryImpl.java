@@ -0,0 +1,31 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.SweeperCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * 스위퍼 체크포인트 커스텀 레포지토리 구현
+ */
+@RequiredArgsConstructor
+public class SweeperCheckpointRepositoryImpl implements SweeperCheckpointRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Boolean> advanceHighWaterMark(String id, Instant expected, Instant next) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("highWaterMark").is(expected));
+        Update update = new Update()
+                .set("highWaterMark", next)
+                .set("updatedAt", Instant.now());
+
+        return mongoTemplate.updateFirst(query, update, SweeperCheckpoint.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+}
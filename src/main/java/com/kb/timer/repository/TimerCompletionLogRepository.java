@@ -1,12 +1,14 @@
 package com.kb.timer.repository;
 
 import com.kb.timer.model.entity.TimerCompletionLog;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.Collection;
 
 /**
  * 타이머 완료 로그 Repository
@@ -53,4 +55,17 @@ public interface TimerCompletionLogRepository extends ReactiveMongoRepository<Ti
      * @return 성공한 로그 존재 여부
      */
     Mono<Boolean> existsByTimerIdAndSuccessTrue(String timerId);
+    
+    /**
+     * 주어진 타이머들 중 성공한 완료 로그가 있는 타이머 ID 조회
+     * 타이머별 exists 쿼리 대신 $in 한 번으로 확인
+     * 
+     * @param timerIds 타이머 ID 목록
+     * @return 성공 로그가 있는 타이머 ID 목록
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { timerId: { $in: ?0 }, success: true } }",
+            "{ $group: { _id: '$timerId' } }"
+    })
+    Flux<String> findTimerIdsWithSuccessfulLog(Collection<String> timerIds);
 }
@@ -9,5 +9,5 @@ import org.springframework.stereotype.Repository;
  * MongoDB를 사용한 리액티브 데이터 접근
  */
 @Repository
-public interface TimerEventLogRepository extends ReactiveMongoRepository<TimerEventLog, String> {
+public interface TimerEventLogRepository extends ReactiveMongoRepository<TimerEventLog, String>, TimerEventLogRepositoryCustom {
 }
@@ -0,0 +1,22 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.TimerEventLog;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 타이머 이벤트 로그 커스텀 레포지토리
+ * Kafka Consumer 마이크로 배치 단위의 벌크 삽입을 담당
+ */
+public interface TimerEventLogRepositoryCustom {
+
+    /**
+     * 이벤트 로그를 한 번의 unordered insertMany로 저장
+     * 일부 문서가 실패해도 나머지 문서는 계속 삽입됨
+     *
+     * @param eventLogs 저장할 이벤트 로그 목록
+     * @return 삽입된 문서 수
+     */
+    Mono<Integer> insertAllUnordered(List<TimerEventLog> eventLogs);
+}
@@ -0,0 +1,32 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.TimerEventLog;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 타이머 이벤트 로그 커스텀 레포지토리 구현
+ * ReactiveMongoTemplate 벌크 연산으로 배치 삽입 수행
+ */
+@RequiredArgsConstructor
+public class TimerEventLogRepositoryImpl implements TimerEventLogRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Integer> insertAllUnordered(List<TimerEventLog> eventLogs) {
+        if (eventLogs.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TimerEventLog.class)
+                .insert(eventLogs)
+                .execute()
+                .map(BulkWriteResult::getInsertedCount);
+    }
+}
@@ -1,6 +1,8 @@
 package com.kb.timer.repository;
 
 import com.kb.timer.model.entity.Timer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -13,7 +15,7 @@ import java.time.Instant;
  * 타이머 엔티티의 데이터베이스 접근을 담당
  */
 @Repository
-public interface TimerRepository extends ReactiveMongoRepository<Timer, String> {
+public interface TimerRepository extends ReactiveMongoRepository<Timer, String>, TimerRepositoryCustom {
     
     /**
      * 공유 토큰으로 타이머 조회
@@ -28,4 +30,22 @@ public interface TimerRepository extends ReactiveMongoRepository<Timer, String>
      * @return 미완료 타이머 목록
      */
     Flux<Timer> findByCompletedFalseAndTargetTimeBefore(Instant targetTime);
+    
+    /**
+     * 모든 미완료 타이머 목록 조회 (인프로세스 스케줄러 복구용)
+     * 재시작 중에 목표 시간이 지난 타이머도 포함
+     * @return 미완료 타이머 목록
+     */
+    Flux<Timer> findByCompletedFalse();
+    
+    /**
+     * 지정 구간에 목표 시각이 있는 미완료 타이머 조회 (누락 스위퍼용)
+     * {completed:1, targetTime:1} 복합 인덱스 범위 스캔, targetTime 오름차순
+     * @param after 구간 시작 (미포함)
+     * @param until 구간 끝 (포함)
+     * @param pageable 최대 조회 건수 및 정렬
+     * @return 미완료 타이머 목록
+     */
+    @Query("{ 'completed': false, 'targetTime': { $gt: ?0, $lte: ?1 } }")
+    Flux<Timer> findIncompleteDueBetween(Instant after, Instant until, Pageable pageable);
 }
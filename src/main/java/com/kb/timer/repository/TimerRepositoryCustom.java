@@ -0,0 +1,47 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 타이머 커스텀 레포지토리
+ * 파생 쿼리로 표현하기 어려운 원자적/벌크 업데이트를 담당
+ */
+public interface TimerRepositoryCustom {
+
+    /**
+     * 미완료 타이머를 원자적으로 완료 처리 (수동 완료용, 목표 시각 전이어도 완료)
+     * findAndModify({_id, completed:false}, $set completed/completedAt)
+     *
+     * @param timerId 타이머 ID
+     * @param completedAt 완료 시각
+     * @return 완료 처리된 타이머 (이미 완료됐으면 empty)
+     */
+    Mono<Timer> completeIfPending(String timerId, Instant completedAt);
+
+    /**
+     * 미완료 타이머의 목표 시간만 원자적으로 변경
+     * findAndModify({_id, completed:false}, $set targetTime/updatedAt)
+     * 전체 문서 save와 달리 동시에 완료 처리된 completed 값을 덮어쓰지 않음
+     *
+     * @param timerId 타이머 ID
+     * @param newTargetTime 새 목표 시간
+     * @param updatedAt 변경 시각
+     * @return 변경 전 타이머 (이미 완료됐거나 없으면 empty)
+     */
+    Mono<Timer> changeTargetTimeIfPending(String timerId, Instant newTargetTime, Instant updatedAt);
+
+    /**
+     * 목표 시각이 지난 미완료 타이머들을 한 번의 updateMulti로 완료 처리
+     * 이번 호출에서 실제로 완료 상태로 바뀐 타이머만 반환 (이미 완료됐거나 목표 시각이 변경된 타이머 제외)
+     *
+     * @param timerIds 완료 처리할 타이머 ID 목록
+     * @param completedAt 완료 시각
+     * @return 이번 배치에서 완료 처리된 타이머 목록
+     */
+    Flux<Timer> completeTimers(Collection<String> timerIds, Instant completedAt);
+}
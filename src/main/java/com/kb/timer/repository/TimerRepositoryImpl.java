@@ -0,0 +1,73 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.entity.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 타이머 커스텀 레포지토리 구현
+ * ReactiveMongoTemplate으로 조건부/벌크 업데이트 수행
+ */
+@RequiredArgsConstructor
+public class TimerRepositoryImpl implements TimerRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Timer> completeIfPending(String timerId, Instant completedAt) {
+        Query pending = Query.query(Criteria.where("_id").is(timerId)
+                .and("completed").is(false));
+        Update complete = new Update()
+                .set("completed", true)
+                .set("completedAt", completedAt)
+                .set("updatedAt", completedAt);
+
+        return mongoTemplate.findAndModify(pending, complete, FindAndModifyOptions.options().returnNew(true), Timer.class);
+    }
+
+    @Override
+    public Mono<Timer> changeTargetTimeIfPending(String timerId, Instant newTargetTime, Instant updatedAt) {
+        Query pending = Query.query(Criteria.where("_id").is(timerId)
+                .and("completed").is(false));
+        Update change = new Update()
+                .set("targetTime", newTargetTime)
+                .set("updatedAt", updatedAt);
+
+        // 이벤트의 이전 목표 시간을 원자적으로 얻기 위해 변경 전 문서 반환
+        return mongoTemplate.findAndModify(pending, change, FindAndModifyOptions.options().returnNew(false), Timer.class);
+    }
+
+    @Override
+    public Flux<Timer> completeTimers(Collection<String> timerIds, Instant completedAt) {
+        if (timerIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        // 배치 식별자로 이번 업데이트에서 완료된 문서만 다시 조회 (다른 노드와의 중복 완료 방지)
+        String completionBatchId = UUID.randomUUID().toString();
+
+        Query pending = Query.query(Criteria.where("_id").in(timerIds)
+                .and("completed").is(false)
+                .and("targetTime").lte(completedAt));
+        Update complete = new Update()
+                .set("completed", true)
+                .set("completedAt", completedAt)
+                .set("updatedAt", completedAt)
+                .set("completionBatchId", completionBatchId);
+
+        return mongoTemplate.updateMulti(pending, complete, Timer.class)
+                .filter(result -> result.getModifiedCount() > 0)
+                .flatMapMany(result -> mongoTemplate.find(
+                        Query.query(Criteria.where("completionBatchId").is(completionBatchId)), Timer.class));
+    }
+}
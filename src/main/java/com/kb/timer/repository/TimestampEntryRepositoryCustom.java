@@ -0,0 +1,26 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.dto.TimestampHistoryCursor;
+import com.kb.timer.model.entity.TimestampEntry;
+import reactor.core.publisher.Flux;
+
+/**
+ * 타임스탬프 엔트리 커스텀 레포지토리
+ * 키셋 페이지네이션과 필드 프로젝션이 필요한 히스토리 조회를 담당
+ */
+public interface TimestampEntryRepositoryCustom {
+
+    /**
+     * (createdAt, id) 오름차순 키셋 조회
+     * {timerId, userId, createdAt, _id} 복합 인덱스를 타므로 커서 위치와 관계없이 skip 비용이 없음
+     *
+     * @param timerId 타이머 ID
+     * @param userId 사용자 ID (null이면 타이머 전체)
+     * @param after 이 커서 이후부터 조회 (null이면 처음부터)
+     * @param limit 최대 조회 수 (0이면 제한 없음, 스트리밍용)
+     * @param includeMetadata metadata 필드 포함 여부
+     * @return 타임스탬프 엔트리 스트림
+     */
+    Flux<TimestampEntry> findHistoryAfter(String timerId, String userId, TimestampHistoryCursor after,
+                                          int limit, boolean includeMetadata);
+}
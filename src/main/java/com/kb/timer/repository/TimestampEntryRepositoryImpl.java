@@ -0,0 +1,51 @@
+package com.kb.timer.repository;
+
+import com.kb.timer.model.dto.TimestampHistoryCursor;
+import com.kb.timer.model.entity.TimestampEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+/**
+ * 타임스탬프 엔트리 커스텀 레포지토리 구현
+ * ReactiveMongoTemplate으로 키셋 조건과 프로젝션을 조합하여 조회
+ */
+@RequiredArgsConstructor
+public class TimestampEntryRepositoryImpl implements TimestampEntryRepositoryCustom {
+
+    // 스트리밍 조회 시 getMore 한 번에 가져올 문서 수 (응답 메모리 상한)
+    private static final int STREAM_CURSOR_BATCH_SIZE = 500;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Flux<TimestampEntry> findHistoryAfter(String timerId, String userId, TimestampHistoryCursor after,
+                                                 int limit, boolean includeMetadata) {
+        Criteria criteria = Criteria.where("timerId").is(timerId);
+        if (userId != null) {
+            criteria.and("userId").is(userId);
+        }
+        if (after != null) {
+            // createdAt이 같은 엔트리는 id로 순서를 정해 누락/중복 없이 이어서 조회
+            criteria.orOperator(
+                    Criteria.where("createdAt").gt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("id").gt(after.id()));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "createdAt", "id"));
+        if (limit > 0) {
+            query.limit(limit);
+        } else {
+            query.cursorBatchSize(STREAM_CURSOR_BATCH_SIZE);
+        }
+        if (!includeMetadata) {
+            query.fields().exclude("metadata");
+        }
+
+        return mongoTemplate.find(query, TimestampEntry.class);
+    }
+}
@@ -1,25 +1,65 @@
 package com.kb.timer.service;
 
+import com.kb.timer.config.WebSocketConfig;
 import com.kb.timer.model.entity.TimerEventLog;
 import com.kb.timer.model.event.SharedTimerAccessedEvent;
 import com.kb.timer.model.event.TimerEvent;
 import com.kb.timer.repository.TimerEventLogRepository;
+import com.kb.timer.util.TimerPartitioner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.kafka.receiver.KafkaReceiver;
 import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Kafka 이벤트 소비 서비스
  * Kafka에서 이벤트를 소비하고 WebSocket으로 브로드캐스트
+ *
+ * 라우팅 모드 (timer.kafka.routing.mode):
+ * - group: 모든 노드가 같은 컨슈머 그룹으로 파티션을 나눠 소비 (기본값)
+ * - partition-aware: 그룹 Consumer는 이벤트 로그 저장만 담당하고,
+ *   브로드캐스트는 모든 파티션을 수동 할당받은 Consumer가 로컬 구독 타이머의 파티션만 읽어서 처리
+ *
+ * 우선순위 레인:
+ * - priority 레인(timer-events): CRITICAL/IMPORTANT 이벤트 (타이머 완료, 목표 시간 변경)
+ * - normal 레인(user-actions): NORMAL 이벤트 (입장/퇴장, 타임스탬프 저장 등)
+ * 레인마다 별도 Consumer, 스케줄러, 병렬도, 배치 윈도우를 사용하여 입장/퇴장 폭주가 완료 알림을 지연시키지 않음
+ *
+ * 캐시 무효화:
+ * - 기본: 이 노드가 이미 소비하는 이벤트로 로컬 Timer 캐시를 무효화
+ *   (group 모드는 그룹 Consumer 배치, partition-aware 모드는 구독 파티션만 읽는 브로드캐스트 Consumer)
+ *   이 노드가 받지 않는 파티션의 타이머는 캐시 TTL로 만료
+ * - timer.cache.invalidation-consumer.enabled=true: timer-events 전체 파티션을 노드별로 읽는 별도 Consumer가 무효화
+ *   (무효화 지연은 줄지만 노드 수만큼 fetch 트래픽이 늘어남)
  */
 @Slf4j
 @Service
@@ -28,52 +68,443 @@ public class KafkaEventConsumer {
     
     private final ReceiverOptions<String, TimerEvent> timerEventsConsumerOptions;
     private final ReceiverOptions<String, TimerEvent> userActionsConsumerOptions;
-    private final RedisConnectionManager connectionManager;
+    private final ReceiverOptions<String, TimerEvent> timerEventsBroadcastConsumerOptions;
+    private final ReceiverOptions<String, TimerEvent> userActionsBroadcastConsumerOptions;
+    private final ReceiverOptions<String, TimerEvent> timerEventsCacheConsumerOptions;
+    private final LocalSubscriptionRegistry localSubscriptionRegistry;
     private final TimerEventLogRepository eventLogRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TimerBroadcaster timerBroadcaster;
+    private final MeterRegistry meterRegistry;
+    private final TimerCache timerCache;
     
     @Value("${server.instance.id}")
     private String serverId;
     
-    private reactor.core.Disposable timerEventsDisposable;
-    private reactor.core.Disposable userActionsDisposable;
+    @Value("${timer.websocket.broker.mode:simple}")
+    private String brokerMode;
+    
+    @Value("${timer.kafka.routing.mode:group}")
+    private String routingMode;
+    
+    @Value("${timer.kafka.routing.reconcile-interval-ms:50}")
+    private long reconcileIntervalMs;
+    
+    @Value("${timer.cache.invalidation-consumer.enabled:false}")
+    private boolean cacheInvalidationConsumerEnabled;
+    
+    @Value("${timer.kafka.routing.resume-lookback-ms:1000}")
+    private long resumeLookbackMs;
+    
+    @Value("${timer.kafka.consumer.batch-max-size:500}")
+    private int batchMaxSize;
+    
+    @Value("${timer.kafka.consumer.lanes.priority.parallelism:8}")
+    private int priorityParallelism;
+    
+    @Value("${timer.kafka.consumer.lanes.priority.batch-window-ms:5}")
+    private long priorityBatchWindowMs;
+    
+    @Value("${timer.kafka.consumer.lanes.normal.parallelism:4}")
+    private int normalParallelism;
+    
+    @Value("${timer.kafka.consumer.lanes.normal.batch-window-ms:50}")
+    private long normalBatchWindowMs;
+    
+    @Value("${timer.kafka.consumer.log-retry-max-backoff-ms:30000}")
+    private long logRetryMaxBackoffMs;
+    
+    @Value("${timer.kafka.consumer.lag-sample-interval-ms:5000}")
+    private long lagSampleIntervalMs;
+    
+    public static final String ROUTING_MODE_PARTITION_AWARE = "partition-aware";
+    
+    /**
+     * 소비 레인 설정
+     * @param name 메트릭 태그용 레인 이름
+     * @param label 로그용 토픽 이름
+     * @param parallelism 레일 수 (레일 내부는 타이머별 순서 보장)
+     * @param batchWindowMs 마이크로 배치 수집 윈도우
+     * @param scheduler 레인 전용 스케줄러
+     * @param eventLag 이벤트 발생 시각부터 처리 시작까지의 지연
+     */
+    private record Lane(String name, String label, int parallelism, long batchWindowMs,
+                        Scheduler scheduler, Timer eventLag) {
+    }
+    
+    private Lane priorityLane;
+    private Lane normalLane;
+    
+    // 레인별 Consumer records-lag-max 샘플 (게이지 노출용)
+    private final Map<String, AtomicLong> recordsLagByLane = new ConcurrentHashMap<>();
+    
+    private Disposable timerEventsDisposable;
+    private Disposable userActionsDisposable;
+    private Disposable timerEventsBroadcastDisposable;
+    private Disposable userActionsBroadcastDisposable;
+    private Disposable reconcileDisposable;
+    private Disposable lagSampleDisposable;
+    private Disposable cacheInvalidationDisposable;
+    
+    private KafkaReceiver<String, TimerEvent> timerEventsReceiver;
+    private KafkaReceiver<String, TimerEvent> userActionsReceiver;
+    private KafkaReceiver<String, TimerEvent> timerEventsBroadcastReceiver;
+    private KafkaReceiver<String, TimerEvent> userActionsBroadcastReceiver;
+    
+    // 라우터가 직접 일시 정지한 파티션 (reactor-kafka의 배압 pause와 구분하기 위해 따로 관리)
+    private final Set<TopicPartition> pausedByRouter = ConcurrentHashMap.newKeySet();
+    private volatile long appliedRegistryVersion = -1;
+    // 마지막으로 라우팅을 적용할 때 구독 집합을 읽은 시각 (이후 새로 구독된 타이머의 이벤트는 이 시각 이후에 기록됨)
+    private volatile long appliedRegistryAt = System.currentTimeMillis();
     
     /**
      * Kafka 이벤트 소비 시작
      */
     @PostConstruct
     public void startConsuming() {
-        // Timer Events 토픽 구독
-        timerEventsDisposable = KafkaReceiver.create(timerEventsConsumerOptions)
-            .receive()
-            .doOnNext(record -> {
-                log.debug("Timer Event 수신: key={}, type={}, timerId={}", 
-                    record.key(), record.value().getEventType(), record.value().getTimerId());
+        priorityLane = createLane("priority", "Timer Event", priorityParallelism, priorityBatchWindowMs);
+        normalLane = createLane("normal", "User Action Event", normalParallelism, normalBatchWindowMs);
+        timerEventsReceiver = KafkaReceiver.create(timerEventsConsumerOptions);
+        userActionsReceiver = KafkaReceiver.create(userActionsConsumerOptions);
+        lagSampleDisposable = Flux.interval(Duration.ofMillis(lagSampleIntervalMs))
+            .concatMap(tick -> Mono.when(
+                    sampleRecordsLag(timerEventsReceiver, priorityLane),
+                    sampleRecordsLag(userActionsReceiver, normalLane))
+                .onErrorComplete())
+            .subscribe();
+        if (cacheInvalidationConsumerEnabled) {
+            cacheInvalidationDisposable = startCacheInvalidationConsuming(KafkaReceiver.create(timerEventsCacheConsumerOptions));
+        }
+        
+        if (isPartitionAware()) {
+            startPartitionAwareConsuming();
+            return;
+        }
+        
+        // 레인별 마이크로 배치 소비 (관련 이벤트 브로드캐스트 + 이벤트 로그 벌크 저장)
+        // 릴레이 모드에서는 발행 노드가 KafkaEventPublisher에서 외부 브로커로 직접 전송하므로 로그 저장만 수행
+        // (공유 그룹에서는 각 노드가 일부 파티션만 받으므로 Consumer에서 발행 노드를 가려 전송하면 대부분의 이벤트가 유실됨)
+        boolean broadcast = !isRelayMode();
+        timerEventsDisposable = consumeInBatches(timerEventsReceiver, priorityLane, broadcast);
+        userActionsDisposable = consumeInBatches(userActionsReceiver, normalLane, broadcast);
+        
+        log.info("Kafka Consumer 시작: serverId={}, brokerMode={}, priorityParallelism={}, normalParallelism={}", 
+            serverId, brokerMode, priorityParallelism, normalParallelism);
+    }
+    
+    /**
+     * 소비 레인 생성 및 레인별 메트릭 등록
+     */
+    private Lane createLane(String name, String label, int parallelism, long batchWindowMs) {
+        Scheduler scheduler = Schedulers.newParallel("kafka-lane-" + name, parallelism);
+        Timer eventLag = Timer.builder("timer.kafka.consumer.event.lag")
+            .description("이벤트 발생 시각부터 Consumer 처리 시작까지의 지연")
+            .tag("lane", name)
+            .register(meterRegistry);
+        AtomicLong recordsLag = recordsLagByLane.computeIfAbsent(name, key -> new AtomicLong());
+        Gauge.builder("timer.kafka.consumer.records.lag", recordsLag, AtomicLong::get)
+            .description("Consumer가 할당받은 파티션 중 최대 레코드 지연 수 (records-lag-max)")
+            .tag("lane", name)
+            .register(meterRegistry);
+        return new Lane(name, label, parallelism, batchWindowMs, scheduler, eventLag);
+    }
+    
+    /**
+     * Consumer 메트릭에서 records-lag-max를 읽어 레인 게이지에 반영
+     */
+    private Mono<Void> sampleRecordsLag(KafkaReceiver<String, TimerEvent> receiver, Lane lane) {
+        return receiver.doOnConsumer(consumer -> consumer.metrics().entrySet().stream()
+                .filter(entry -> "records-lag-max".equals(entry.getKey().name())
+                    && entry.getKey().tags().get("topic") == null)
+                .map(entry -> entry.getValue().metricValue())
+                .filter(Number.class::isInstance)
+                .mapToLong(value -> Math.max(0, ((Number) value).longValue()))
+                .max()
+                .orElse(0L))
+            .doOnNext(lag -> recordsLagByLane.get(lane.name()).set(lag))
+            .then();
+    }
+    
+    /**
+     * partition-aware 라우팅 모드 소비 시작
+     * 1. 그룹 Consumer: 클러스터 전체에서 한 번만 이벤트 로그 저장
+     * 2. 수동 할당 Consumer: 로컬 구독 타이머의 파티션만 읽어 WebSocket 브로드캐스트
+     */
+    private void startPartitionAwareConsuming() {
+        timerEventsDisposable = consumeInBatches(timerEventsReceiver, priorityLane, false);
+        userActionsDisposable = consumeInBatches(userActionsReceiver, normalLane, false);
+        
+        timerEventsBroadcastReceiver = KafkaReceiver.create(withRoutingReset(timerEventsBroadcastConsumerOptions));
+        userActionsBroadcastReceiver = KafkaReceiver.create(withRoutingReset(userActionsBroadcastConsumerOptions));
+        timerEventsBroadcastDisposable = startBroadcastConsuming(timerEventsBroadcastReceiver, "Timer Event");
+        userActionsBroadcastDisposable = startBroadcastConsuming(userActionsBroadcastReceiver, "User Action Event");
+        
+        // 로컬 구독 타이머 집합이 바뀌면 읽을 파티션 재계산
+        reconcileDisposable = Flux.interval(Duration.ofMillis(reconcileIntervalMs))
+            .concatMap(tick -> reconcilePartitions()
+                .doOnError(e -> log.warn("파티션 라우팅 재계산 실패: {}", e.getMessage()))
+                .onErrorComplete())
+            .subscribe();
+        
+        log.info("Kafka Consumer 시작 (partition-aware): serverId={}", serverId);
+    }
+    
+    /**
+     * 파티션 할당이 바뀌면 (파티션 추가 등으로 리밸런싱) 라우터 상태를 비우고 다음 주기에 다시 적용
+     * 회수된 파티션의 일시 정지 상태는 Consumer에서 사라지고, 새로 할당된 파티션은 아직 정지되지 않았기 때문
+     */
+    private ReceiverOptions<String, TimerEvent> withRoutingReset(ReceiverOptions<String, TimerEvent> options) {
+        return options
+            .addRevokeListener(partitions -> {
+                partitions.forEach(partition -> pausedByRouter.remove(partition.topicPartition()));
+                appliedRegistryVersion = -1;
             })
-            .flatMap(record -> processEvent(record.value())
-                .doOnSuccess(v -> record.receiverOffset().acknowledge())
-                .doOnError(e -> log.error("Timer Event 처리 실패: {}", e.getMessage(), e))
-                .onErrorComplete()) // 오류 발생 시에도 계속 진행
-            .doOnError(error -> log.error("Timer Event Consumer 오류", error))
-            .onErrorContinue((error, obj) -> log.error("Timer Event Consumer 복구 시도: {}", obj, error))
+            .addAssignListener(partitions -> appliedRegistryVersion = -1);
+    }
+    
+    /**
+     * 타이머별 순서를 보장하는 병렬 마이크로 배치 소비
+     * timerId 해시로 레코드를 고정 개수의 레일에 분배하고, 레일 안에서는 concatMap으로 순서대로 처리
+     * (같은 타이머의 USER_JOINED/USER_LEFT, TARGET_TIME_CHANGED가 역순으로 처리되지 않음)
+     *
+     * 레일 간 확인 순서가 뒤섞이므로 오프셋은 maxDeferredCommits로 연속 구간만 커밋됨
+     *
+     * @param receiver Kafka 수신기
+     * @param lane 소비 레인
+     * @param broadcast 관련 이벤트 WebSocket 브로드캐스트 여부 (false면 이벤트 로그 저장만 수행)
+     */
+    private Disposable consumeInBatches(KafkaReceiver<String, TimerEvent> receiver, Lane lane, boolean broadcast) {
+        String label = lane.label();
+        return receiver.receive()
+            .doOnNext(record -> log.debug("{} 수신: key={}, type={}, timerId={}", 
+                label, record.key(), record.value().getEventType(), record.value().getTimerId()))
+            .groupBy(record -> railOf(record.value().getTimerId(), lane.parallelism()))
+            .flatMap(rail -> rail
+                .publishOn(lane.scheduler())
+                // concatMap이 앞 배치를 처리하는 동안 요청이 없어도 오버플로 오류 없이 다음 배치를 모아 둠
+                .bufferTimeout(batchMaxSize, Duration.ofMillis(lane.batchWindowMs()), true)
+                .doOnNext(records -> recordEventLag(records, lane))
+                .concatMap(records -> processBatch(records, broadcast)
+                    .onErrorResume(e -> {
+                        // 확인하지 않으면 재시작 후 다시 읽히도록 오프셋을 남겨 두고, 저장될 때까지 레일을 멈춰 재시도
+                        // (브로드캐스트는 이미 끝났으므로 로그 저장만 반복)
+                        log.error("{} 배치 로그 저장 실패 - 저장될 때까지 재시도: rail={}, size={}, error={}", 
+                            label, rail.key(), records.size(), e.getMessage(), e);
+                        return saveEventLogs(records, broadcast)
+                            .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofMillis(100))
+                                .maxBackoff(Duration.ofMillis(logRetryMaxBackoffMs))
+                                .doBeforeRetry(signal -> log.warn("{} 배치 로그 저장 재시도: rail={}, attempt={}, error={}",
+                                    label, rail.key(), signal.totalRetries() + 1, signal.failure().getMessage())));
+                    })), lane.parallelism())
+            .onErrorContinue((error, obj) -> log.error("{} Consumer 복구 시도: {}", label, obj, error))
             .subscribe();
+    }
+    
+    /**
+     * 타이머가 처리되는 레일 번호
+     * @param timerId 타이머 ID
+     * @param parallelism 레인의 레일 수
+     * @return 레일 번호
+     */
+    private int railOf(String timerId, int parallelism) {
+        return Math.floorMod(Objects.hashCode(timerId), parallelism);
+    }
+    
+    /**
+     * 배치 처리 시작 시점의 이벤트 지연 기록
+     */
+    private void recordEventLag(List<ReceiverRecord<String, TimerEvent>> records, Lane lane) {
+        Instant now = Instant.now();
+        for (ReceiverRecord<String, TimerEvent> record : records) {
+            Instant eventTime = record.value().getTimestamp();
+            if (eventTime != null) {
+                lane.eventLag().record(Duration.between(eventTime, now).abs());
+            }
+        }
+    }
+    
+    /**
+     * 한 배치의 레코드 처리
+     * 1. 관련 이벤트는 즉시 WebSocket 브로드캐스트 (로그 저장을 기다리지 않음)
+     * 2. 이벤트 로그를 한 번의 unordered insertMany로 저장
+     * 3. 저장이 끝난 뒤 배치 전체 오프셋 확인
+     *
+     * @param records 배치 레코드 목록
+     * @param broadcast 브로드캐스트 여부
+     * @return 처리 결과
+     */
+    Mono<Void> processBatch(List<ReceiverRecord<String, TimerEvent>> records, boolean broadcast) {
+        // group 모드에서는 이 노드가 소비한 파티션의 변경 이벤트로 캐시 무효화 (관련성과 무관, REST로만 조회된 타이머도 캐시될 수 있음)
+        if (!cacheInvalidationConsumerEnabled && !isPartitionAware()) {
+            records.forEach(record -> invalidateCachedTimer(record.value()));
+        }
+        
+        List<TimerEvent> events = records.stream()
+            .map(ReceiverRecord::value)
+            .filter(event -> !broadcast || isRelevant(event))
+            .toList();
+        
+        if (broadcast) {
+            events.forEach(this::broadcastToWebSocket);
+        }
+        
+        return insertEventLogs(records, events)
+            .retryWhen(Retry.backoff(2, Duration.ofMillis(100)));
+    }
+    
+    /**
+     * 배치 이벤트 로그만 다시 저장 (브로드캐스트 없이)
+     * 저장에 성공해야 오프셋을 확인함
+     */
+    Mono<Void> saveEventLogs(List<ReceiverRecord<String, TimerEvent>> records, boolean broadcast) {
+        List<TimerEvent> events = records.stream()
+            .map(ReceiverRecord::value)
+            .filter(event -> !broadcast || isRelevant(event))
+            .toList();
+        return insertEventLogs(records, events);
+    }
+    
+    private Mono<Void> insertEventLogs(List<ReceiverRecord<String, TimerEvent>> records, List<TimerEvent> events) {
+        List<TimerEventLog> eventLogs = events.stream()
+            .map(this::toEventLog)
+            .toList();
         
-        // User Actions 토픽 구독
-        userActionsDisposable = KafkaReceiver.create(userActionsConsumerOptions)
-            .receive()
+        return eventLogRepository.insertAllUnordered(eventLogs)
+            .doOnSuccess(inserted -> {
+                records.forEach(record -> record.receiverOffset().acknowledge());
+                log.debug("이벤트 배치 처리 완료: records={}, logged={}", records.size(), inserted);
+            })
+            .then();
+    }
+    
+    /**
+     * 수동 할당 Consumer로 브로드캐스트 전용 소비
+     * 실시간 전달 전용이므로 오프셋은 커밋하지 않음
+     */
+    private Disposable startBroadcastConsuming(KafkaReceiver<String, TimerEvent> receiver, String label) {
+        return receiver.receive()
             .doOnNext(record -> {
-                log.debug("User Action Event 수신: key={}, type={}, timerId={}", 
-                    record.key(), record.value().getEventType(), record.value().getTimerId());
+                if (!cacheInvalidationConsumerEnabled) {
+                    invalidateCachedTimer(record.value());
+                }
             })
-            .flatMap(record -> processEvent(record.value())
-                .doOnSuccess(v -> record.receiverOffset().acknowledge())
-                .doOnError(e -> log.error("User Action Event 처리 실패: {}", e.getMessage(), e))
-                .onErrorComplete()) // 오류 발생 시에도 계속 진행
-            .doOnError(error -> log.error("User Action Event Consumer 오류", error))
-            .onErrorContinue((error, obj) -> log.error("User Action Event Consumer 복구 시도: {}", obj, error))
+            .filter(record -> localSubscriptionRegistry.hasLocalSubscribers(record.value().getTimerId()))
+            .doOnNext(record -> broadcastToWebSocket(record.value()))
+            .onErrorContinue((error, obj) -> log.error("{} 브로드캐스트 Consumer 복구 시도: {}", label, obj, error))
             .subscribe();
+    }
+    
+    /**
+     * 로컬 Timer 캐시 무효화 전용 소비
+     * 구독 여부와 무관하게 모든 타이머 변경 이벤트를 받아야 하므로 파티션을 일시 정지하지 않음
+     * (구독자 없이 REST로만 조회된 타이머도 캐시될 수 있음)
+     */
+    Disposable startCacheInvalidationConsuming(KafkaReceiver<String, TimerEvent> receiver) {
+        return receiver.receive()
+            .doOnNext(record -> invalidateCachedTimer(record.value()))
+            .onErrorContinue((error, obj) -> log.error("캐시 무효화 Consumer 복구 시도: {}", obj, error))
+            .subscribe();
+    }
+    
+    /**
+     * 로컬 구독 타이머가 속한 파티션만 읽도록 pause/resume 적용
+     * 새로 재개되는 파티션은 직전 적용 시각부터 읽어, 구독 후 재계산 전까지 기록된 이벤트도 전달
+     */
+    Mono<Void> reconcilePartitions() {
+        long observedAt = System.currentTimeMillis();
+        long registryVersion = localSubscriptionRegistry.getVersion();
+        if (registryVersion == appliedRegistryVersion) {
+            return Mono.empty();
+        }
+        
+        Set<String> subscribedTimerIds = Set.copyOf(localSubscriptionRegistry.getSubscribedTimerIds());
+        // 프로듀서 노드 간 시계 차이만큼 여유를 두고 재개 위치 계산
+        long resumeFromMs = appliedRegistryAt - resumeLookbackMs;
         
-        log.info("Kafka Consumer 시작: serverId={}", serverId);
+        return Mono.zip(
+                timerEventsBroadcastReceiver.doOnConsumer(consumer -> applyPartitionRouting(consumer, subscribedTimerIds, resumeFromMs)),
+                userActionsBroadcastReceiver.doOnConsumer(consumer -> applyPartitionRouting(consumer, subscribedTimerIds, resumeFromMs))
+            )
+            .doOnNext(applied -> {
+                // 아직 파티션 할당 전이면 다음 주기에 다시 적용
+                if (applied.getT1() && applied.getT2()) {
+                    appliedRegistryVersion = registryVersion;
+                    appliedRegistryAt = observedAt;
+                    log.debug("파티션 라우팅 적용: version={}, timers={}", registryVersion, subscribedTimerIds.size());
+                }
+            })
+            .then();
+    }
+    
+    /**
+     * Consumer 스레드에서 실행되는 pause/resume 적용
+     * 파티션 번호는 브로커 메타데이터의 실제 파티션 수로 계산 (timer.kafka.partitions 설정과 달라도 프로듀서와 일치)
+     *
+     * @return 파티션이 할당되어 적용되었는지 여부
+     */
+    Boolean applyPartitionRouting(Consumer<String, TimerEvent> consumer, Set<String> subscribedTimerIds, long resumeFromMs) {
+        Set<TopicPartition> assignment = consumer.assignment();
+        if (assignment.isEmpty()) {
+            return Boolean.FALSE;
+        }
+        String topic = assignment.iterator().next().topic();
+        int partitionCount = consumer.partitionsFor(topic).size();
+        Set<Integer> neededPartitions = subscribedTimerIds.stream()
+            .map(timerId -> TimerPartitioner.partitionFor(timerId, partitionCount))
+            .collect(Collectors.toSet());
+        
+        Set<TopicPartition> toPause = new HashSet<>();
+        Set<TopicPartition> toResume = new HashSet<>();
+        for (TopicPartition partition : assignment) {
+            boolean needed = neededPartitions.contains(partition.partition());
+            boolean paused = pausedByRouter.contains(partition);
+            if (!needed && !paused) {
+                toPause.add(partition);
+            } else if (needed && paused) {
+                toResume.add(partition);
+            }
+        }
+        
+        if (!toPause.isEmpty()) {
+            consumer.pause(toPause);
+            pausedByRouter.addAll(toPause);
+        }
+        if (!toResume.isEmpty()) {
+            seekToResumePosition(consumer, toResume, resumeFromMs);
+            consumer.resume(toResume);
+            pausedByRouter.removeAll(toResume);
+        }
+        return Boolean.TRUE;
+    }
+    
+    /**
+     * 재개할 파티션을 resumeFromMs 이후 첫 레코드로 이동
+     * 일시 정지 이전에 이미 읽은 위치보다 뒤로는 가지 않고, 해당 시각 이후 레코드가 없으면 최신 위치로 이동
+     */
+    private void seekToResumePosition(Consumer<String, TimerEvent> consumer, Set<TopicPartition> toResume, long resumeFromMs) {
+        Map<TopicPartition, Long> timestamps = toResume.stream()
+            .collect(Collectors.toMap(partition -> partition, partition -> resumeFromMs));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(timestamps);
+        
+        List<TopicPartition> withoutNewRecords = new ArrayList<>();
+        for (TopicPartition partition : toResume) {
+            OffsetAndTimestamp offset = offsets.get(partition);
+            if (offset == null) {
+                withoutNewRecords.add(partition);
+            } else {
+                consumer.seek(partition, Math.max(offset.offset(), consumer.position(partition)));
+            }
+        }
+        if (!withoutNewRecords.isEmpty()) {
+            consumer.seekToEnd(withoutNewRecords);
+        }
+    }
+    
+    private boolean isPartitionAware() {
+        return ROUTING_MODE_PARTITION_AWARE.equals(routingMode) && !isRelayMode();
+    }
+    
+    private boolean isRelayMode() {
+        return WebSocketConfig.BROKER_MODE_RELAY.equals(brokerMode);
     }
     
     /**
@@ -89,58 +520,60 @@ public class KafkaEventConsumer {
             userActionsDisposable.dispose();
             log.info("User Actions Consumer 종료됨");
         }
+        if (reconcileDisposable != null && !reconcileDisposable.isDisposed()) {
+            reconcileDisposable.dispose();
+        }
+        if (lagSampleDisposable != null && !lagSampleDisposable.isDisposed()) {
+            lagSampleDisposable.dispose();
+        }
+        if (cacheInvalidationDisposable != null && !cacheInvalidationDisposable.isDisposed()) {
+            cacheInvalidationDisposable.dispose();
+            log.info("캐시 무효화 Consumer 종료됨");
+        }
+        if (timerEventsBroadcastDisposable != null && !timerEventsBroadcastDisposable.isDisposed()) {
+            timerEventsBroadcastDisposable.dispose();
+            log.info("Timer Events 브로드캐스트 Consumer 종료됨");
+        }
+        if (userActionsBroadcastDisposable != null && !userActionsBroadcastDisposable.isDisposed()) {
+            userActionsBroadcastDisposable.dispose();
+            log.info("User Actions 브로드캐스트 Consumer 종료됨");
+        }
+        if (priorityLane != null) {
+            priorityLane.scheduler().dispose();
+        }
+        if (normalLane != null) {
+            normalLane.scheduler().dispose();
+        }
     }
     
     /**
-     * 이벤트 처리
-     * @param event 처리할 이벤트
-     * @return 처리 결과
+     * 이 노드가 처리(로그 저장 + 브로드캐스트)해야 하는 이벤트인지 확인
+     * @param event 이벤트
+     * @return 처리 여부
      */
-    private Mono<Void> processEvent(TimerEvent event) {
+    private boolean isRelevant(TimerEvent event) {
         // 특정 이벤트는 항상 처리 (필터링 제외)
         if (shouldAlwaysProcess(event)) {
-            log.info("중요 이벤트 처리 시작: {} - {}", event.getEventType(), event.getTimerId());
-            return Mono.when(
-                // 1. 이벤트 로그 저장
-                saveEventLog(event),
-                // 2. WebSocket으로 브로드캐스트
-                broadcastToWebSocket(event)
-            );
-        }
-        
-        return connectionManager.isServerRelevantForTimer(event.getTimerId(), serverId)
-            .flatMap(isRelevant -> {
-                if (!isRelevant) {
-                    // 현재 서버와 관련없는 이벤트는 무시
-                    log.debug("서버와 관련없는 이벤트 무시: {} - {}", 
-                        event.getEventType(), event.getTimerId());
-                    return Mono.empty();
-                }
-                
-                log.info("이벤트 처리 시작: {} - {}", event.getEventType(), event.getTimerId());
-                
-                return Mono.when(
-                    // 1. 이벤트 로그 저장
-                    saveEventLog(event),
-                    // 2. WebSocket으로 브로드캐스트
-                    broadcastToWebSocket(event)
-                );
-            })
-            .doOnSuccess(result -> 
-                log.debug("이벤트 처리 완료: {} - {}", event.getEventType(), event.getTimerId())
-            )
-            .doOnError(error -> 
-                log.error("이벤트 처리 실패: {} - {}", event.getEventType(), event.getTimerId(), error)
-            );
+            log.info("중요 이벤트 처리: {} - {}", event.getEventType(), event.getTimerId());
+            return true;
+        }
+        
+        // 이 노드에 해당 타이머 구독자가 없으면 무시 (메모리 조회, Redis 왕복 없음)
+        if (!localSubscriptionRegistry.hasLocalSubscribers(event.getTimerId())) {
+            log.debug("서버와 관련없는 이벤트 무시: {} - {}", 
+                event.getEventType(), event.getTimerId());
+            return false;
+        }
+        return true;
     }
     
     /**
-     * 이벤트 로그 저장
+     * 이벤트 로그 문서 생성
      * @param event 저장할 이벤트
-     * @return 저장 결과
+     * @return 이벤트 로그
      */
-    private Mono<Void> saveEventLog(TimerEvent event) {
-        TimerEventLog eventLog = TimerEventLog.builder()
+    private TimerEventLog toEventLog(TimerEvent event) {
+        return TimerEventLog.builder()
             .timerId(event.getTimerId())
             .eventType(event.getEventType())
             .timestamp(event.getTimestamp())
@@ -148,34 +581,39 @@ public class KafkaEventConsumer {
             .eventData(null) // 이벤트 데이터는 별도 처리
             .createdAt(Instant.now())
             .build();
-        
-        return eventLogRepository.save(eventLog)
-            .doOnSuccess(saved -> 
-                log.debug("이벤트 로그 저장 완료: {}", saved.getId())
-            )
-            .then();
     }
     
     /**
      * WebSocket으로 이벤트 브로드캐스트
+     * 브로드캐스트 실패가 배치의 다른 이벤트 처리나 로그 저장을 막지 않도록 예외를 기록만 함
      * @param event 브로드캐스트할 이벤트
-     * @return 브로드캐스트 결과
      */
-    private Mono<Void> broadcastToWebSocket(TimerEvent event) {
-        return Mono.fromRunnable(() -> {
+    private void broadcastToWebSocket(TimerEvent event) {
+        try {
             // 모든 이벤트는 타이머 토픽으로 브로드캐스트
             // 프론트엔드에서 필터링하여 적절한 사용자에게만 표시
-            String destination = "/topic/timer/" + event.getTimerId();
-            messagingTemplate.convertAndSend(destination, event);
+            timerBroadcaster.broadcastEvent(event);
             
             if (event instanceof SharedTimerAccessedEvent) {
                 SharedTimerAccessedEvent accessEvent = (SharedTimerAccessedEvent) event;
                 log.info("🔔 공유 타이머 접속 이벤트 브로드캐스트: ownerId={}, accessedUserId={}", 
                         accessEvent.getOwnerId(), accessEvent.getAccessedUserId());
             } else {
-                log.debug("WebSocket 브로드캐스트 완료: {} -> {}", event.getEventType(), destination);
+                log.debug("WebSocket 브로드캐스트 완료: {} -> /topic/timer/{}", event.getEventType(), event.getTimerId());
             }
-        });
+        } catch (Exception e) {
+            log.error("WebSocket 브로드캐스트 실패: {} - {}", event.getEventType(), event.getTimerId(), e);
+        }
+    }
+    
+    /**
+     * 타이머 문서를 바꾸는 이벤트면 노드 로컬 Timer 캐시에서 제거
+     * @param event 이벤트
+     */
+    private void invalidateCachedTimer(TimerEvent event) {
+        if ("TARGET_TIME_CHANGED".equals(event.getEventType()) || "TIMER_COMPLETED".equals(event.getEventType())) {
+            timerCache.invalidate(event.getTimerId());
+        }
     }
     
     /**
@@ -1,16 +1,25 @@
 package com.kb.timer.service;
 
+import com.kb.timer.config.WebSocketConfig;
 import com.kb.timer.model.event.TimerEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderRecord;
+
+import java.util.List;
 
 /**
  * Kafka 이벤트 발행 서비스
  * 타이머 관련 이벤트를 Kafka 토픽으로 발행
+ *
+ * 릴레이 브로커 모드에서는 발행에 성공한 이벤트를 이 노드가 외부 STOMP 브로커로 직접 전송
+ * (외부 브로커가 모든 노드의 구독자에게 팬아웃하므로 Consumer는 이벤트 로그 저장만 담당)
  */
 @Slf4j
 @Service
@@ -18,6 +27,10 @@ import reactor.core.publisher.Mono;
 public class KafkaEventPublisher {
     
     private final ReactiveKafkaProducerTemplate<String, TimerEvent> kafkaProducerTemplate;
+    private final TimerBroadcaster timerBroadcaster;
+    
+    @Value("${timer.websocket.broker.mode:simple}")
+    private String brokerMode;
     
     @Value("${timer.kafka.topics.timer-events}")
     private String timerEventsTopic;
@@ -35,18 +48,68 @@ public class KafkaEventPublisher {
         
         return kafkaProducerTemplate
             .send(timerEventsTopic, event.getTimerId(), event)
-            .doOnSuccess(result -> 
-                log.info("타이머 이벤트 발행 성공: {} - {} (파티션: {}, 오프셋: {})", 
+            .doOnSuccess(result -> {
+                log.debug("타이머 이벤트 발행 성공: {} - {} (파티션: {}, 오프셋: {})", 
                     event.getEventType(), event.getTimerId(),
                     result.recordMetadata().partition(), 
-                    result.recordMetadata().offset())
-            )
+                    result.recordMetadata().offset());
+                relayToBroker(event);
+            })
             .doOnError(error -> 
                 log.error("타이머 이벤트 발행 실패: {} - {}", event.getEventType(), event.getTimerId(), error)
             )
             .then();
     }
     
+    /**
+     * 여러 타이머 이벤트를 하나의 프로듀서 배치로 발행
+     * 개별 send 대신 단일 send 스트림으로 전달하여 레코드들이 같은 배치에 묶이도록 함
+     * @param events 발행할 이벤트 목록
+     * @return 발행 결과
+     */
+    public Mono<Void> publishTimerEvents(List<? extends TimerEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        log.debug("타이머 이벤트 일괄 발행: {}건", events.size());
+        
+        return send(Flux.fromIterable(events).map(event -> toSenderRecord(timerEventsTopic, event)));
+    }
+    
+    /**
+     * 이벤트 스트림을 하나의 send 스트림으로 발행
+     * 이벤트마다 Mono를 만들지 않고 KafkaSender로 파이프라이닝하여 대량 발행 경로에서 사용
+     * 토픽은 이벤트 우선순위에 따라 publishEvent와 같은 규칙으로 선택
+     * @param events 발행할 이벤트 스트림
+     * @return 발행 결과
+     */
+    public Mono<Void> publishEvents(Flux<? extends TimerEvent> events) {
+        return send(events.map(event -> toSenderRecord(topicOf(event), event)));
+    }
+    
+    private SenderRecord<String, TimerEvent, TimerEvent> toSenderRecord(String topic, TimerEvent event) {
+        return SenderRecord.create(
+            new ProducerRecord<String, TimerEvent>(topic, event.getTimerId(), event),
+            event);
+    }
+    
+    private Mono<Void> send(Flux<SenderRecord<String, TimerEvent, TimerEvent>> records) {
+        return kafkaProducerTemplate
+            .send(records)
+            .doOnNext(result -> {
+                TimerEvent event = result.correlationMetadata();
+                if (result.exception() != null) {
+                    log.error("이벤트 발행 실패: {}", event != null ? event.getTimerId() : null, result.exception());
+                } else if (event != null) {
+                    relayToBroker(event);
+                }
+            })
+            .count()
+            .doOnSuccess(count -> log.debug("이벤트 일괄 발행 완료: {}건", count))
+            .doOnError(error -> log.error("이벤트 일괄 발행 실패", error))
+            .then();
+    }
+    
     /**
      * 사용자 액션 이벤트 발행
      * @param event 발행할 이벤트
@@ -57,12 +120,13 @@ public class KafkaEventPublisher {
         
         return kafkaProducerTemplate
             .send(userActionsTopic, event.getTimerId(), event)
-            .doOnSuccess(result -> 
-                log.info("사용자 액션 이벤트 발행 성공: {} - {} (파티션: {}, 오프셋: {})", 
+            .doOnSuccess(result -> {
+                log.debug("사용자 액션 이벤트 발행 성공: {} - {} (파티션: {}, 오프셋: {})", 
                     event.getEventType(), event.getTimerId(),
                     result.recordMetadata().partition(), 
-                    result.recordMetadata().offset())
-            )
+                    result.recordMetadata().offset());
+                relayToBroker(event);
+            })
             .doOnError(error -> 
                 log.error("사용자 액션 이벤트 발행 실패: {} - {}", event.getEventType(), event.getTimerId(), error)
             )
@@ -75,22 +139,36 @@ public class KafkaEventPublisher {
      * @return 발행 결과
      */
     public Mono<Void> publishEvent(TimerEvent event) {
-        // 사용자 액션 관련 이벤트는 별도 토픽으로 발행
-        if (isUserActionEvent(event.getEventType())) {
-            return publishUserActionEvent(event);
-        } else {
+        // 우선순위 레인별 토픽으로 발행 (CRITICAL/IMPORTANT → timer-events, NORMAL → user-actions)
+        if (event.getPriority().isPriorityLane()) {
             return publishTimerEvent(event);
+        } else {
+            return publishUserActionEvent(event);
+        }
+    }
+    
+    /**
+     * 릴레이 브로커 모드면 발행된 이벤트를 외부 브로커로 전송
+     * 브로드캐스트 실패가 발행 결과를 바꾸지 않도록 예외는 기록만 함
+     * @param event 발행된 이벤트
+     */
+    private void relayToBroker(TimerEvent event) {
+        if (!WebSocketConfig.BROKER_MODE_RELAY.equals(brokerMode)) {
+            return;
+        }
+        try {
+            timerBroadcaster.broadcastEvent(event);
+        } catch (Exception e) {
+            log.error("릴레이 브로커 전송 실패: {} - {}", event.getEventType(), event.getTimerId(), e);
         }
     }
     
     /**
-     * 사용자 액션 이벤트인지 확인
-     * @param eventType 이벤트 타입
-     * @return 사용자 액션 이벤트 여부
+     * 이벤트 우선순위에 따른 발행 토픽
+     * @param event 이벤트
+     * @return 토픽 이름
      */
-    private boolean isUserActionEvent(String eventType) {
-        return eventType.equals("USER_JOINED") || 
-               eventType.equals("USER_LEFT") ||
-               eventType.equals("TIMESTAMP_SAVED");
+    private String topicOf(TimerEvent event) {
+        return event.getPriority().isPriorityLane() ? timerEventsTopic : userActionsTopic;
     }
 }
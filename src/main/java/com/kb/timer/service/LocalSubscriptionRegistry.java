@@ -0,0 +1,123 @@
+package com.kb.timer.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 타이머 구독 인덱스
+ * 이 노드에 WebSocket으로 연결되어 타이머 토픽을 구독 중인 세션 수를 메모리에서 관리
+ *
+ * Kafka Consumer의 관련성 판단을 Redis SINTER 왕복 없이 메모리 조회로 처리하기 위해 사용
+ * WebSocketEventHandler의 구독/연결 해제 처리에서 유지됨
+ */
+@Slf4j
+@Component
+public class LocalSubscriptionRegistry {
+
+    // 세션 ID -> 실제 타이머 ID
+    private final ConcurrentMap<String, String> sessionTimers = new ConcurrentHashMap<>();
+
+    // 타이머 ID -> 로컬 구독 세션 수
+    private final ConcurrentMap<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+
+    // 구독 타이머 집합이 바뀔 때마다 증가 (파티션 재계산 필요 여부 판단용)
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 세션 구독 등록 (같은 세션이 다른 타이머를 구독 중이었으면 교체)
+     *
+     * @param sessionId 세션 ID
+     * @param timerId 실제 타이머 ID
+     */
+    public void register(String sessionId, String timerId) {
+        String previous = sessionTimers.put(sessionId, timerId);
+        if (timerId.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            decrement(previous);
+        }
+        if (subscriberCounts.merge(timerId, 1, Integer::sum) == 1) {
+            version.incrementAndGet();
+        }
+        log.debug("로컬 구독 등록: sessionId={}, timerId={}, localSubscribers={}",
+                sessionId, timerId, subscriberCounts.get(timerId));
+    }
+
+    /**
+     * 세션 구독 해제
+     *
+     * @param sessionId 세션 ID
+     * @return 구독 중이던 타이머 ID (없으면 null)
+     */
+    public String unregister(String sessionId) {
+        String timerId = sessionTimers.remove(sessionId);
+        if (timerId != null) {
+            decrement(timerId);
+            log.debug("로컬 구독 해제: sessionId={}, timerId={}", sessionId, timerId);
+        }
+        return timerId;
+    }
+
+    /**
+     * 이 노드에 타이머 구독자가 있는지 확인
+     *
+     * @param timerId 타이머 ID
+     * @return 로컬 구독자 존재 여부
+     */
+    public boolean hasLocalSubscribers(String timerId) {
+        return subscriberCounts.containsKey(timerId);
+    }
+
+    /**
+     * 타이머의 로컬 구독 세션 수
+     *
+     * @param timerId 타이머 ID
+     * @return 로컬 구독 세션 수
+     */
+    public int getLocalSubscriberCount(String timerId) {
+        return subscriberCounts.getOrDefault(timerId, 0);
+    }
+
+    /**
+     * 로컬 구독자가 있는 타이머 ID 목록
+     *
+     * @return 타이머 ID 집합 (읽기 전용 뷰)
+     */
+    public Set<String> getSubscribedTimerIds() {
+        return Collections.unmodifiableSet(subscriberCounts.keySet());
+    }
+
+    /**
+     * 로컬 구독 세션 수
+     *
+     * @return 이 노드에서 타이머를 구독 중인 세션 수
+     */
+    public int getLocalSessionCount() {
+        return sessionTimers.size();
+    }
+
+    /**
+     * 구독 타이머 집합 버전
+     * 타이머가 새로 구독되거나 마지막 구독자가 빠질 때만 변경됨
+     *
+     * @return 현재 버전
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    private void decrement(String timerId) {
+        // 0이 되면 키를 제거하여 hasLocalSubscribers가 containsKey 한 번으로 끝나도록 유지
+        Integer remaining = subscriberCounts.computeIfPresent(timerId, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            version.incrementAndGet();
+        }
+    }
+}
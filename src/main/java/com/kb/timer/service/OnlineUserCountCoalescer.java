@@ -0,0 +1,267 @@
+package com.kb.timer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 온라인 사용자 수 브로드캐스트 병합기
+ * 입장/퇴장마다 SCARD + 브로드캐스트하던 것을 타이머별 윈도우 단위로 병합
+ * 입장 시에는 연결 기록 스크립트가 돌려준 온라인 사용자 수를 기준값으로 사용하고,
+ * 그 수를 관측한 뒤에 기록된 로컬 delta는 버리지 않고 다음 플러시에 반영
+ *
+ * 동작 방식:
+ * 1. 입장/퇴장 시 노드 로컬 delta만 누적하고, 윈도우(window-ms)당 한 번만 플러시 예약
+ * 2. 플러시 시 마지막으로 알려진 수 + 로컬 delta로 계산하여 최신 값 하나만 브로드캐스트
+ * 3. 다른 노드의 변화를 반영하기 위해 resync-interval-ms 마다 한 번만 Redis SCARD로 재동기화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OnlineUserCountCoalescer {
+
+    private final RedisConnectionManager connectionManager;
+    private final TimerBroadcaster timerBroadcaster;
+
+    @Value("${timer.websocket.online-count.window-ms:250}")
+    private long windowMs;
+
+    @Value("${timer.websocket.online-count.resync-interval-ms:5000}")
+    private long resyncIntervalMs;
+
+    // 타이머 ID -> 병합 윈도우 상태
+    private final ConcurrentMap<String, CountWindow> windows = new ConcurrentHashMap<>();
+
+    // 로컬 delta 기록 순서 (기준값을 관측한 시점 이후의 delta만 구분하기 위한 단조 증가 시퀀스)
+    private final AtomicLong deltaSequence = new AtomicLong();
+
+    /**
+     * 타이머별 병합 윈도우 상태
+     */
+    private static class CountWindow {
+        long lastKnownCount = -1; // -1: 아직 Redis에서 조회한 적 없음
+        long baseMark; // lastKnownCount를 관측한 시점의 delta 시퀀스
+        final Deque<long[]> pendingDeltas = new ArrayDeque<>(); // {시퀀스, delta} - 아직 기준값에 반영되지 않은 변경
+        long lastResyncAtMs;
+        boolean flushScheduled;
+        boolean evicted;
+
+        long localDelta() {
+            long sum = 0;
+            for (long[] pending : pendingDeltas) {
+                sum += pending[1];
+            }
+            return sum;
+        }
+
+        /**
+         * 관측 시점(mark)의 온라인 사용자 수를 새 기준값으로 적용
+         * mark 이전 delta는 기준값에 이미 포함되어 있으므로 버리고, 이후 delta는 유지
+         *
+         * @return 적용 여부 (이미 더 최근 기준값이 있으면 false)
+         */
+        boolean applyBase(long count, long mark) {
+            if (lastKnownCount >= 0 && mark < baseMark) {
+                return false;
+            }
+            lastKnownCount = count;
+            baseMark = mark;
+            pendingDeltas.removeIf(pending -> pending[0] <= mark);
+            return true;
+        }
+    }
+
+    /**
+     * 현재 delta 시퀀스
+     * 온라인 사용자 수를 Redis에서 관측하기 직전에 읽어 onUserJoined(timerId, onlineCount, observedAt)로 전달
+     *
+     * @return 관측 시점 표시
+     */
+    public long observationMark() {
+        return deltaSequence.get();
+    }
+
+    /**
+     * 사용자 입장 반영
+     *
+     * @param timerId 타이머 ID
+     */
+    public void onUserJoined(String timerId) {
+        recordDelta(timerId, 1);
+    }
+
+    /**
+     * 사용자 입장 반영 (관측 시점을 따로 알 수 없는 경우 지금을 관측 시점으로 사용)
+     *
+     * @param timerId 타이머 ID
+     * @param onlineCount 입장 반영 후 온라인 사용자 수
+     */
+    public void onUserJoined(String timerId, long onlineCount) {
+        onUserJoined(timerId, onlineCount, observationMark());
+    }
+
+    /**
+     * 사용자 입장 반영 (연결 기록 시점의 온라인 사용자 수를 이미 알고 있는 경우)
+     * 연결 기록 스크립트가 돌려준 수를 기준값으로 삼아 플러시 시 별도 SCARD 없이 브로드캐스트
+     * 관측 이후에 기록된 퇴장/입장 delta는 유지하여 다음 플러시에 반영
+     *
+     * @param timerId 타이머 ID
+     * @param onlineCount 입장 반영 후 온라인 사용자 수
+     * @param observedAt 연결 기록 직전에 읽은 observationMark()
+     */
+    public void onUserJoined(String timerId, long onlineCount, long observedAt) {
+        boolean applied = updateWindow(timerId, window -> {
+            boolean base = window.applyBase(onlineCount, observedAt);
+            if (base) {
+                window.lastResyncAtMs = Instant.now().toEpochMilli();
+            }
+            return base;
+        });
+        // 더 최근 기준값이 이미 있으면 이번 입장만 delta로 반영
+        recordDelta(timerId, applied ? 0 : 1);
+    }
+
+    /**
+     * 사용자 퇴장 반영
+     *
+     * @param timerId 타이머 ID
+     */
+    public void onUserLeft(String timerId) {
+        recordDelta(timerId, -1);
+    }
+
+    private void recordDelta(String timerId, int delta) {
+        boolean scheduleFlush = updateWindow(timerId, window -> {
+            if (delta != 0) {
+                window.pendingDeltas.addLast(new long[]{deltaSequence.incrementAndGet(), delta});
+            }
+            boolean schedule = !window.flushScheduled;
+            window.flushScheduled = true;
+            return schedule;
+        });
+
+        if (scheduleFlush) {
+            Mono.delay(Duration.ofMillis(windowMs))
+                    .then(flush(timerId))
+                    .doOnError(error -> log.error("❌ 온라인 사용자 수 브로드캐스트 실패: timerId={}, error={}",
+                            timerId, error.getMessage(), error))
+                    .onErrorResume(error -> Mono.empty())
+                    .subscribe();
+        }
+    }
+
+    /**
+     * 윈도우 상태를 잠근 채로 갱신
+     * 잡아둔 윈도우가 그 사이 evictIfIdle로 제거되었으면 다시 등록하고,
+     * 이미 다른 윈도우가 등록되었으면 그 윈도우로 재시도
+     */
+    private boolean updateWindow(String timerId, Predicate<CountWindow> update) {
+        CountWindow window = windows.computeIfAbsent(timerId, id -> new CountWindow());
+        while (true) {
+            synchronized (window) {
+                if (!window.evicted) {
+                    return update.test(window);
+                }
+                CountWindow current = windows.putIfAbsent(timerId, window);
+                if (current == null) {
+                    // 제거된 윈도우의 기준값(0명)을 그대로 재사용
+                    window.evicted = false;
+                    return update.test(window);
+                }
+                window = current;
+            }
+        }
+    }
+
+    /**
+     * 윈도우 플러시: 최신 온라인 사용자 수를 한 번만 브로드캐스트
+     *
+     * @param timerId 타이머 ID
+     * @return 처리 결과
+     */
+    Mono<Void> flush(String timerId) {
+        return Mono.defer(() -> {
+            CountWindow window = windows.get(timerId);
+            if (window == null) {
+                return Mono.empty();
+            }
+
+            long nowMs = Instant.now().toEpochMilli();
+            long count;
+            long resyncMark;
+            synchronized (window) {
+                window.flushScheduled = false;
+                boolean needsResync = window.lastKnownCount < 0
+                        || nowMs - window.lastResyncAtMs >= resyncIntervalMs;
+                if (needsResync) {
+                    count = -1;
+                    // SCARD 직전 시퀀스 - 이후 기록된 delta는 SCARD 결과에 없을 수 있으므로 유지
+                    resyncMark = observationMark();
+                } else {
+                    count = Math.max(0, window.lastKnownCount + window.localDelta());
+                    window.lastKnownCount = count;
+                    if (!window.pendingDeltas.isEmpty()) {
+                        window.baseMark = window.pendingDeltas.peekLast()[0];
+                    }
+                    window.pendingDeltas.clear();
+                    resyncMark = -1;
+                }
+            }
+
+            Mono<Long> countMono = count >= 0
+                    ? Mono.just(count)
+                    : connectionManager.getOnlineUserCount(timerId)
+                            .defaultIfEmpty(0L)
+                            .doOnNext(redisCount -> {
+                                synchronized (window) {
+                                    if (window.applyBase(redisCount, resyncMark)) {
+                                        window.lastResyncAtMs = nowMs;
+                                    }
+                                }
+                            });
+
+            return countMono
+                    .doOnNext(onlineCount -> {
+                        broadcast(timerId, onlineCount);
+                        evictIfIdle(timerId, window);
+                    })
+                    .then();
+        });
+    }
+
+    private void broadcast(String timerId, long onlineCount) {
+        Map<String, Object> updateMessage = Map.of(
+                "eventType", "ONLINE_USER_COUNT_UPDATED",
+                "timerId", timerId,
+                "onlineUserCount", (int) onlineCount,
+                "timestamp", Instant.now().toString()
+        );
+        timerBroadcaster.broadcast(timerId, updateMessage);
+        log.debug("온라인 사용자 수 브로드캐스트: timerId={}, count={}", timerId, onlineCount);
+    }
+
+    /**
+     * 접속자가 없는 타이머의 윈도우 상태 정리
+     */
+    private void evictIfIdle(String timerId, CountWindow window) {
+        synchronized (window) {
+            if (window.lastKnownCount == 0 && window.pendingDeltas.isEmpty() && !window.flushScheduled
+                    && windows.remove(timerId, window)) {
+                // 이미 이 윈도우를 잡은 recordDelta가 다시 등록할 수 있도록 표시
+                window.evicted = true;
+            }
+        }
+    }
+}
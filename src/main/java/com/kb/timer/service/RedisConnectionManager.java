@@ -3,14 +3,22 @@ package com.kb.timer.service;
 import com.kb.timer.model.dto.SessionInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,11 +39,74 @@ public class RedisConnectionManager {
     private static final Duration TIMER_USERS_TTL = Duration.ofMinutes(30); // 타이머 사용자 목록: 30분
     private static final Duration SERVER_USERS_TTL = Duration.ofMinutes(45); // 서버 사용자 목록: 45분
     
+    /**
+     * 서버 멤버십 인덱스 값 구분자
+     * server:{serverId}:memberships 해시는 sessionId -> "{timerId}|{userId}" 형태로 저장
+     * (타이머 ID는 UUID 또는 공유 토큰이므로 구분자를 포함하지 않음)
+     */
+    public static final char MEMBERSHIP_SEPARATOR = '|';
+    
+    /**
+     * 클러스터 전체 활성 타이머 인덱스 (온라인 사용자가 있는 타이머)
+     * member = timerId, score = timer:{timerId}:online_users 만료 예정 시각(epoch 밀리초)
+     * 연결/TTL 갱신 시 점수를 갱신하고 마지막 사용자가 나가면 제거하며,
+     * TTL로 사라진 타이머는 점수가 현재 시각보다 작으므로 집계에서 제외됨
+     */
+    public static final String ACTIVE_TIMERS_KEY = "timers:active";
+    
+    // 한 번의 스크립트 호출로 TTL을 갱신할 최대 세션 수 (Redis 블로킹 시간 제한)
+    @Value("${timer.redis.presence-refresh-batch-size:500}")
+    private int presenceRefreshBatchSize;
+    
+    /**
+     * 연결 기록 스크립트
+     * 기존 세션 인덱스 정리와 5개 키 갱신을 한 번의 왕복으로 원자적으로 처리하고 갱신된 온라인 사용자 수 반환
+     * KEYS[1] = user:{userId}:sessions, KEYS[2] = timer:{timerId}:online_users,
+     * KEYS[3] = user:{userId}:connected_server_id, KEYS[4] = server:{serverId}:users, KEYS[5] = session:{sessionId},
+     * KEYS[6] = server:{serverId}:memberships, KEYS[7] = timers:active
+     * ARGV[1] = userId, ARGV[2] = serverId, ARGV[3] = sessionId, ARGV[4] = 세션 JSON,
+     * ARGV[5..8] = 타이머 사용자 / 사용자-서버 / 서버 사용자 / 세션 TTL(초), ARGV[9] = 멤버십 값,
+     * ARGV[10] = timerId, ARGV[11] = 현재 시각(epoch 밀리초)
+     */
+    private static final RedisScript<Long> RECORD_CONNECTION_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            redis.call('SET', KEYS[3], ARGV[2], 'EX', ARGV[6])
+            redis.call('SADD', KEYS[4], ARGV[1])
+            redis.call('EXPIRE', KEYS[4], ARGV[7])
+            redis.call('SET', KEYS[5], ARGV[4], 'EX', ARGV[8])
+            redis.call('SADD', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[8])
+            redis.call('HSET', KEYS[6], ARGV[3], ARGV[9])
+            redis.call('EXPIRE', KEYS[6], ARGV[7])
+            redis.call('ZREMRANGEBYSCORE', KEYS[7], '-inf', ARGV[11])
+            redis.call('ZADD', KEYS[7], tonumber(ARGV[11]) + tonumber(ARGV[5]) * 1000, ARGV[10])
+            return redis.call('SCARD', KEYS[2])
+            """, Long.class);
+    
+    /**
+     * 온라인 사용자 제거 스크립트
+     * 마지막 사용자가 나가면 같은 원자적 실행 안에서 활성 타이머 인덱스에서도 제거
+     * (동시에 들어온 사용자의 ZADD를 지우지 않도록 SREM과 ZREM 사이에 다른 명령이 끼지 않아야 함)
+     * KEYS[1] = timer:{timerId}:online_users, KEYS[2] = timers:active
+     * ARGV[1] = userId, ARGV[2] = timerId
+     */
+    private static final RedisScript<Long> REMOVE_ONLINE_USER_SCRIPT = RedisScript.of("""
+            local removed = redis.call('SREM', KEYS[1], ARGV[1])
+            if redis.call('SCARD', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[2])
+            end
+            return removed
+            """, Long.class);
+    
     /**
      * 사용자 연결 상태 기록
      * WebSocket 연결 시 호출
+     * 
+     * @return 연결 기록 후 타이머의 온라인 사용자 수
      */
-    public Mono<Void> recordUserConnection(String timerId, String userId, String serverId, String sessionId) {
+    public Mono<Long> recordUserConnection(String timerId, String userId, String serverId, String sessionId) {
         SessionInfo sessionInfo = SessionInfo.builder()
             .sessionId(sessionId)
             .timerId(timerId)
@@ -45,48 +116,34 @@ public class RedisConnectionManager {
             .lastHeartbeat(Instant.now())
             .build();
         
-        // 기존 세션 정리 (사용자별 세션 인덱스만 정리)
-        return cleanupUserSessionIndex(userId)
-                .then(Mono.when(
-                    // 1. 타이머별 온라인 사용자 목록에 추가 + TTL 설정
-                    stringRedisTemplate.opsForSet().add("timer:" + timerId + ":online_users", userId)
-                        .doOnNext(added -> {
-                            log.info("Redis SET 추가: timer:{}:online_users, userId={}, added={}", timerId, userId, added);
-                            if (added == 0) {
-                                log.warn("사용자가 이미 존재함: userId={}, timerId={}", userId, timerId);
-                            }
-                        })
-                        .then(stringRedisTemplate.expire("timer:" + timerId + ":online_users", TIMER_USERS_TTL))
-                        .doOnNext(success -> log.debug("타이머 사용자 목록 TTL 설정: timer:{}:online_users, ttl={}분", 
-                            timerId, TIMER_USERS_TTL.toMinutes())),
-                    
-                    // 2. 사용자별 연결 서버 정보 저장 + TTL 설정
-                    stringRedisTemplate.opsForValue().set("user:" + userId + ":connected_server_id", serverId, USER_SERVER_TTL)
-                        .doOnNext(result -> log.info("Redis VALUE 저장: user:{}:connected_server_id = {} (TTL: {}분)", 
-                            userId, serverId, USER_SERVER_TTL.toMinutes())),
-                    
-                    // 3. 서버별 연결된 사용자 목록에 추가 + TTL 설정
-                    stringRedisTemplate.opsForSet().add("server:" + serverId + ":users", userId)
-                        .doOnNext(added -> log.info("Redis SET 추가: server:{}:users, userId={}, added={}", serverId, userId, added))
-                        .then(stringRedisTemplate.expire("server:" + serverId + ":users", SERVER_USERS_TTL))
-                        .doOnNext(success -> log.debug("서버 사용자 목록 TTL 설정: server:{}:users, ttl={}분", 
-                            serverId, SERVER_USERS_TTL.toMinutes())),
-                    
-                    // 4. 세션 정보 저장 + TTL 설정
-                    redisTemplate.opsForValue().set("session:" + sessionId, sessionInfo, SESSION_TTL)
-                        .doOnNext(result -> log.info("Redis SESSION 저장: session:{} = {} (TTL: {}시간)", 
-                            sessionId, sessionInfo, SESSION_TTL.toHours())),
-                    
-                    // 5. 사용자별 세션 인덱스에 세션 ID 추가 + TTL 설정
-                    stringRedisTemplate.opsForSet().add("user:" + userId + ":sessions", sessionId)
-                        .doOnNext(added -> log.info("Redis SET 추가: user:{}:sessions, sessionId={}, added={}", userId, sessionId, added))
-                        .then(stringRedisTemplate.expire("user:" + userId + ":sessions", SESSION_TTL))
-                        .doOnNext(success -> log.debug("사용자 세션 인덱스 TTL 설정: user:{}:sessions, ttl={}시간", 
-                            userId, SESSION_TTL.toHours()))
-                ))
-                .doOnSuccess(ignored -> 
-                    log.info("User connection recorded: timerId={}, userId={}, serverId={}, sessionId={}", 
-                        timerId, userId, serverId, sessionId)
+        // 세션 정보는 redisTemplate과 같은 직렬화 방식으로 저장해야 getSessionInfo에서 읽을 수 있음
+        String sessionJson = StandardCharsets.UTF_8.decode(
+            redisTemplate.getSerializationContext().getValueSerializationPair().write(sessionInfo)).toString();
+        
+        List<String> keys = List.of(
+            "user:" + userId + ":sessions",
+            "timer:" + timerId + ":online_users",
+            "user:" + userId + ":connected_server_id",
+            "server:" + serverId + ":users",
+            "session:" + sessionId,
+            serverMembershipsKey(serverId),
+            ACTIVE_TIMERS_KEY);
+        List<String> args = List.of(
+            userId, serverId, sessionId, sessionJson,
+            String.valueOf(TIMER_USERS_TTL.toSeconds()),
+            String.valueOf(USER_SERVER_TTL.toSeconds()),
+            String.valueOf(SERVER_USERS_TTL.toSeconds()),
+            String.valueOf(SESSION_TTL.toSeconds()),
+            timerId + MEMBERSHIP_SEPARATOR + userId,
+            timerId,
+            String.valueOf(Instant.now().toEpochMilli()));
+        
+        return stringRedisTemplate.execute(RECORD_CONNECTION_SCRIPT, keys, args)
+                .next()
+                .defaultIfEmpty(0L)
+                .doOnNext(onlineCount -> 
+                    log.info("User connection recorded: timerId={}, userId={}, serverId={}, sessionId={}, onlineCount={}", 
+                        timerId, userId, serverId, sessionId, onlineCount)
                 )
                 .doOnError(e -> 
                     log.error("User connection record failed: timerId={}, userId={}, error={}", 
@@ -95,31 +152,21 @@ public class RedisConnectionManager {
     }
     
     /**
-     * 사용자별 세션 인덱스만 정리 (단순화)
-     * 세션 자체는 TTL에 의존하여 자동 정리
+     * 서버 멤버십 인덱스 키
+     * 서버 종료 시 KEYS 스캔 없이 이 서버에 연결된 세션의 소속 타이머/사용자를 역조회하는 용도
      */
-    private Mono<Void> cleanupUserSessionIndex(String userId) {
-        log.info("사용자 세션 인덱스 정리: userId={}", userId);
-        
-        return stringRedisTemplate.delete("user:" + userId + ":sessions")
-                .doOnNext(deleted -> log.info("사용자 세션 인덱스 삭제: userId={}, deleted={}", userId, deleted))
-                .then();
+    public static String serverMembershipsKey(String serverId) {
+        return "server:" + serverId + ":memberships";
     }
     
     /**
-     * 특정 타이머에 현재 서버가 관련되어 있는지 확인
-     * Kafka Consumer에서 필터링용으로 사용하는 핵심 메서드
+     * 클러스터 전체 활성 타이머 수 (온라인 사용자가 있는 타이머)
+     * TTL로 만료된 타이머는 점수 범위로 제외하므로 키를 나열하지 않고 ZCOUNT 한 번으로 계산
      */
-    public Mono<Boolean> isServerRelevantForTimer(String timerId, String serverId) {
-        return stringRedisTemplate.opsForSet()
-            .intersect("timer:" + timerId + ":online_users", "server:" + serverId + ":users")
-            .hasElements()
-            .doOnNext(isRelevant -> {
-                if (log.isTraceEnabled()) {
-                    log.trace("Server relevance check: timerId={}, serverId={}, relevant={}", 
-                        timerId, serverId, isRelevant);
-                }
-            });
+    public Mono<Long> getActiveTimerCount() {
+        return stringRedisTemplate.opsForZSet()
+            .count(ACTIVE_TIMERS_KEY, Range.closed((double) Instant.now().toEpochMilli(), Double.MAX_VALUE))
+            .defaultIfEmpty(0L);
     }
     
     /**
@@ -141,6 +188,37 @@ public class RedisConnectionManager {
             .doOnError(e -> log.error("온라인 사용자 수 조회 실패: timerId={}, error={}", timerId, e.getMessage()));
     }
     
+    /**
+     * 여러 타이머의 온라인 사용자 수를 한 번에 조회
+     * SCARD 명령들을 하나의 커넥션에서 파이프라인으로 전송
+     *
+     * @param timerIds 타이머 ID 목록
+     * @return 타이머 ID별 온라인 사용자 수
+     */
+    public Mono<Map<String, Long>> getOnlineUserCounts(List<String> timerIds) {
+        if (timerIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        
+        Flux<ReactiveRedisConnection.KeyCommand> commands = Flux.fromIterable(timerIds)
+            .map(timerId -> new ReactiveRedisConnection.KeyCommand(
+                ByteBuffer.wrap(("timer:" + timerId + ":online_users").getBytes(StandardCharsets.UTF_8))));
+        
+        return stringRedisTemplate.execute(connection -> connection.setCommands().sCard(commands))
+            .map(response -> response.getOutput() != null ? response.getOutput() : 0L)
+            .collectList()
+            .map(counts -> {
+                // 응답은 요청 순서대로 반환됨
+                Map<String, Long> result = new HashMap<>();
+                for (int i = 0; i < timerIds.size() && i < counts.size(); i++) {
+                    result.put(timerIds.get(i), counts.get(i));
+                }
+                return result;
+            })
+            .doOnNext(result -> log.debug("온라인 사용자 수 일괄 조회: timers={}", result.size()))
+            .doOnError(e -> log.error("온라인 사용자 수 일괄 조회 실패: timers={}, error={}", timerIds.size(), e.getMessage()));
+    }
+    
     /**
      * 세션 정보 조회
      */
@@ -152,13 +230,18 @@ public class RedisConnectionManager {
     /**
      * 세션 ID로 직접 세션 삭제
      * WebSocket 연결 해제 시 사용 (cost가 낮아서 유지)
+     * 세션이 연결되어 있던 서버의 멤버십 인덱스에서도 함께 제거
      */
-    public Mono<Void> removeSessionById(String sessionId) {
-        log.info("세션 ID로 세션 삭제: sessionId={}", sessionId);
+    public Mono<Void> removeSessionById(String sessionId, String serverId) {
+        log.info("세션 ID로 세션 삭제: sessionId={}, serverId={}", sessionId, serverId);
         
-        return redisTemplate.delete("session:" + sessionId)
-                .doOnNext(deleted -> log.info("세션 삭제 완료: sessionId={}, deleted={}", sessionId, deleted))
-                .then();
+        return Mono.when(
+            redisTemplate.delete("session:" + sessionId)
+                .doOnNext(deleted -> log.info("세션 삭제 완료: sessionId={}, deleted={}", sessionId, deleted)),
+            stringRedisTemplate.opsForHash().remove(serverMembershipsKey(serverId), sessionId)
+                .doOnNext(removed -> log.debug("서버 멤버십 제거: server:{}:memberships, sessionId={}, removed={}", 
+                    serverId, sessionId, removed))
+        );
     }
     
 
@@ -170,8 +253,10 @@ public class RedisConnectionManager {
         log.info("사용자 연결 강제 해제: timerId={}, userId={}", timerId, userId);
         
         return Mono.when(
-            // 1. 타이머별 온라인 사용자에서 제거
-            stringRedisTemplate.opsForSet().remove("timer:" + timerId + ":online_users", userId)
+            // 1. 타이머별 온라인 사용자에서 제거 (마지막 사용자면 활성 타이머 인덱스에서도 제거)
+            stringRedisTemplate.execute(REMOVE_ONLINE_USER_SCRIPT,
+                    List.of("timer:" + timerId + ":online_users", ACTIVE_TIMERS_KEY), List.of(userId, timerId))
+                .next()
                 .doOnNext(removed -> log.info("Redis SET에서 제거: timer:{}:online_users, userId={}, removed={}", 
                         timerId, userId, removed)),
             
@@ -234,6 +319,79 @@ public class RedisConnectionManager {
         .doOnError(error -> log.warn("사용자 TTL 갱신 실패: userId={}, error={}", userId, error.getMessage()));
     }
     
+    /**
+     * 로컬 세션 TTL 일괄 갱신 스크립트
+     * KEYS[1] = server:{serverId}:users, KEYS[2] = server:{serverId}:memberships, KEYS[3] = timers:active,
+     * 이후 세션마다 4개 키 (timer:{timerId}:online_users, user:{userId}:connected_server_id, user:{userId}:sessions, session:{sessionId})
+     * ARGV[1..4] = 타이머 사용자 / 사용자-서버 / 세션 / 서버 사용자 TTL(초), ARGV[5] = 현재 시각(epoch 밀리초),
+     * 이후 세션마다 timerId
+     * 세션 키가 아직 존재하는 세션 수 반환
+     */
+    private static final RedisScript<Long> REFRESH_PRESENCE_SCRIPT = RedisScript.of("""
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            local activeUntil = tonumber(ARGV[5]) + tonumber(ARGV[1]) * 1000
+            local alive = 0
+            local session = 0
+            for i = 4, #KEYS, 4 do
+                session = session + 1
+                -- 온라인 사용자 목록이 남아 있는 타이머만 활성 인덱스 점수 연장
+                if redis.call('EXPIRE', KEYS[i], ARGV[1]) == 1 then
+                    redis.call('ZADD', KEYS[3], activeUntil, ARGV[5 + session])
+                end
+                redis.call('EXPIRE', KEYS[i + 1], ARGV[2])
+                redis.call('EXPIRE', KEYS[i + 2], ARGV[3])
+                alive = alive + redis.call('EXPIRE', KEYS[i + 3], ARGV[3])
+            end
+            return alive
+            """, Long.class);
+    
+    /**
+     * 이 서버에 연결된 모든 세션의 TTL 일괄 갱신
+     * 세션마다 EXPIRE 5회를 보내는 대신 presence-refresh-batch-size 단위 스크립트 호출로 처리하여
+     * 갱신 비용이 세션 수 × 하트비트 빈도가 아닌 노드 수에 비례하도록 함
+     * 
+     * @param serverId 서버 ID
+     * @param sessions 로컬 세션 목록 (sessionId, timerId, userId)
+     * @return 세션 키가 아직 존재하는 세션 수
+     */
+    public Mono<Long> refreshLocalSessionTTLs(String serverId, List<SessionInfo> sessions) {
+        if (sessions.isEmpty()) {
+            return Mono.just(0L);
+        }
+        
+        List<String> ttlArgs = List.of(
+            String.valueOf(TIMER_USERS_TTL.toSeconds()),
+            String.valueOf(USER_SERVER_TTL.toSeconds()),
+            String.valueOf(SESSION_TTL.toSeconds()),
+            String.valueOf(SERVER_USERS_TTL.toSeconds()));
+        
+        return Flux.fromIterable(sessions)
+            .buffer(presenceRefreshBatchSize)
+            .concatMap(batch -> {
+                List<String> keys = new ArrayList<>(3 + batch.size() * 4);
+                List<String> args = new ArrayList<>(5 + batch.size());
+                keys.add("server:" + serverId + ":users");
+                keys.add(serverMembershipsKey(serverId));
+                keys.add(ACTIVE_TIMERS_KEY);
+                args.addAll(ttlArgs);
+                args.add(String.valueOf(Instant.now().toEpochMilli()));
+                for (SessionInfo session : batch) {
+                    args.add(session.getTimerId());
+                    keys.add("timer:" + session.getTimerId() + ":online_users");
+                    keys.add("user:" + session.getUserId() + ":connected_server_id");
+                    keys.add("user:" + session.getUserId() + ":sessions");
+                    keys.add("session:" + session.getSessionId());
+                }
+                return stringRedisTemplate.execute(REFRESH_PRESENCE_SCRIPT, keys, args).next();
+            })
+            .reduce(0L, Long::sum)
+            .doOnNext(alive -> log.debug("로컬 세션 TTL 일괄 갱신: serverId={}, sessions={}, alive={}", 
+                serverId, sessions.size(), alive))
+            .doOnError(error -> log.warn("로컬 세션 TTL 일괄 갱신 실패: serverId={}, sessions={}, error={}", 
+                serverId, sessions.size(), error.getMessage()));
+    }
+    
     /**
      * TTL 상태 조회 (디버깅용)
      */
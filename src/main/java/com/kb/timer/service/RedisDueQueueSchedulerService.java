@@ -0,0 +1,338 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
+import com.kb.timer.repository.TimerRepository;
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Sorted Set(ZSET) 기반 due-queue 타이머 스케줄러
+ *
+ * 동작 방식:
+ * 1. 스케줄 등록 시 ZADD timer:due:{shard} {목표시각 epoch 밀리초} {timerId}
+ * 2. 각 노드의 폴러는 리스를 보유한 샤드만 Lua 스크립트(ZRANGEBYSCORE + ZREM)로 배치 선점
+ * 3. 선점된 타이머는 해당 노드만 처리하므로 타이머별 처리 락(setIfAbsent)이 필요 없음
+ *
+ * 샤드 소유권은 ScheduleShardManager가 관리하며, 노드 수에 비례해 완료 처리량이 확장됨
+ *
+ * Keyspace Notifications를 사용하지 않으므로 pub/sub 연결 끊김으로 인한 만료 이벤트 유실이 없음
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "timer.scheduler.engine", havingValue = "redis-zset")
+public class RedisDueQueueSchedulerService implements TimerScheduler {
+
+    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final ServerInstanceIdGenerator serverInstanceIdGenerator;
+    private final TimerRepository timerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler timerTaskScheduler;
+    private final ScheduleShardManager shardManager;
+
+    /**
+     * 만료된 타이머 배치 선점 스크립트
+     * KEYS[1] = due-queue 키, ARGV[1] = 현재 시각(epoch 밀리초), ARGV[2] = 최대 배치 크기
+     */
+    private static final RedisScript<List> CLAIM_DUE_TIMERS_SCRIPT = RedisScript.of("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #due > 0 then
+                redis.call('ZREM', KEYS[1], unpack(due))
+            end
+            return due
+            """, List.class);
+
+    /**
+     * 처리하지 못한 선점 타이머 반환 스크립트
+     * 그 사이 다시 스케줄된 경우 새 목표 시각을 덮어쓰지 않도록 없을 때만 추가 (ZADD NX)
+     * KEYS[1] = due-queue 키, ARGV[1] = score(epoch 밀리초), ARGV[2] = timerId
+     */
+    private static final RedisScript<Long> RESTORE_CLAIMED_TIMER_SCRIPT = RedisScript.of("""
+            return redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+            """, Long.class);
+
+    @Value("${timer.scheduler.redis-zset.poll-interval-ms:50}")
+    private long pollIntervalMs;
+
+    @Value("${timer.scheduler.redis-zset.batch-size:100}")
+    private int batchSize;
+
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+    private ScheduledFuture<?> pollerFuture;
+
+    public RedisDueQueueSchedulerService(ReactiveRedisTemplate<String, String> stringRedisTemplate,
+                                         ServerInstanceIdGenerator serverInstanceIdGenerator,
+                                         TimerRepository timerRepository,
+                                         ApplicationEventPublisher eventPublisher,
+                                         TaskScheduler timerTaskScheduler,
+                                         ScheduleShardManager shardManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.serverInstanceIdGenerator = serverInstanceIdGenerator;
+        this.timerRepository = timerRepository;
+        this.eventPublisher = eventPublisher;
+        this.timerTaskScheduler = timerTaskScheduler;
+        this.shardManager = shardManager;
+    }
+
+    @PostConstruct
+    public void init() {
+        pollerFuture = timerTaskScheduler.scheduleWithFixedDelay(this::pollDueTimers, Duration.ofMillis(pollIntervalMs));
+        log.info("Redis ZSET due-queue 스케줄러 서비스 시작: pollIntervalMs={}, batchSize={}", pollIntervalMs, batchSize);
+    }
+
+    /**
+     * 타이머 스케줄을 due-queue에 등록
+     * 같은 timerId가 있으면 score(목표 시각)만 갱신됨
+     *
+     * @param timer 타이머 정보
+     */
+    @Override
+    public void scheduleTimer(Timer timer) {
+        String timerId = timer.getId();
+        Instant targetTime = timer.getTargetTime();
+
+        // 이미 지난 시간이거나 완료된 타이머는 스케줄링하지 않음
+        if (targetTime.isBefore(Instant.now()) || timer.isCompleted()) {
+            log.debug("타이머 스케줄링 스킵: timerId={}, targetTime={}, completed={}",
+                    timerId, targetTime, timer.isCompleted());
+            return;
+        }
+
+        stringRedisTemplate.opsForZSet()
+                .add(shardManager.dueKeyOf(timerId), timerId, targetTime.toEpochMilli())
+                .doOnNext(added -> log.info("타이머 due-queue 스케줄 등록: timerId={}, targetTime={}, new={}",
+                        timerId, targetTime, added))
+                .doOnError(error -> log.error("타이머 due-queue 스케줄 등록 오류: timerId={}, error={}",
+                        timerId, error.getMessage(), error))
+                .subscribe();
+    }
+
+    /**
+     * 여러 타이머 스케줄을 due-queue에 일괄 등록
+     * 샤드별로 묶어 샤드당 ZADD 한 번으로 등록
+     *
+     * @param timers 타이머 목록
+     */
+    @Override
+    public void scheduleTimers(List<Timer> timers) {
+        Instant now = Instant.now();
+        Map<String, List<ZSetOperations.TypedTuple<String>>> byDueKey = timers.stream()
+                .filter(timer -> timer.getTargetTime().isAfter(now) && !timer.isCompleted())
+                .collect(Collectors.groupingBy(timer -> shardManager.dueKeyOf(timer.getId()),
+                        Collectors.mapping(timer -> ZSetOperations.TypedTuple.of(
+                                timer.getId(), (double) timer.getTargetTime().toEpochMilli()), Collectors.toList())));
+        if (byDueKey.isEmpty()) {
+            return;
+        }
+
+        Flux.fromIterable(byDueKey.entrySet())
+                .flatMap(entry -> stringRedisTemplate.opsForZSet().addAll(entry.getKey(), entry.getValue()))
+                .reduce(0L, Long::sum)
+                .doOnNext(added -> log.info("타이머 due-queue 스케줄 일괄 등록: shards={}, new={}",
+                        byDueKey.size(), added))
+                .doOnError(error -> log.error("타이머 due-queue 스케줄 일괄 등록 오류: shards={}, error={}",
+                        byDueKey.size(), error.getMessage(), error))
+                .subscribe();
+    }
+
+    /**
+     * 타이머 스케줄 업데이트
+     * ZADD가 기존 멤버의 score를 덮어쓰므로 재등록만으로 충분
+     *
+     * @param timer 업데이트된 타이머 정보
+     */
+    @Override
+    public void updateTimerSchedule(Timer timer) {
+        log.info("타이머 due-queue 스케줄 업데이트: timerId={}, newTargetTime={}",
+                timer.getId(), timer.getTargetTime());
+
+        if (timer.getTargetTime().isBefore(Instant.now()) || timer.isCompleted()) {
+            cancelTimerSchedule(timer.getId());
+            return;
+        }
+        scheduleTimer(timer);
+    }
+
+    /**
+     * 타이머 스케줄 취소
+     *
+     * @param timerId 타이머 ID
+     */
+    @Override
+    public void cancelTimerSchedule(String timerId) {
+        log.info("타이머 due-queue 스케줄 취소: timerId={}", timerId);
+
+        stringRedisTemplate.opsForZSet()
+                .remove(shardManager.dueKeyOf(timerId), timerId)
+                .doOnNext(removed -> log.debug("due-queue 스케줄 삭제: timerId={}, removed={}", timerId, removed))
+                .doOnError(error -> log.error("due-queue 스케줄 삭제 오류: timerId={}, error={}",
+                        timerId, error.getMessage(), error))
+                .subscribe();
+    }
+
+    /**
+     * 소유 샤드의 만료된 타이머 폴링
+     * 이전 폴링이 끝나지 않았으면 건너뛰고, 배치가 가득 찼으면 즉시 다음 배치를 선점
+     */
+    private void pollDueTimers() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+
+        Flux.fromIterable(shardManager.getOwnedShards())
+                .flatMap(this::drainShard)
+                .doOnError(error -> log.error("due-queue 폴링 오류: error={}", error.getMessage(), error))
+                .doFinally(signalType -> polling.set(false))
+                .subscribe();
+    }
+
+    /**
+     * 샤드의 만료된 타이머를 배치가 가득 차지 않을 때까지 반복 선점
+     *
+     * @param shard 샤드 번호
+     * @return 선점 배치별 타이머 수
+     */
+    Flux<Integer> drainShard(int shard) {
+        String dueKey = shardManager.dueKey(shard);
+        return Mono.defer(() -> claimDueTimers(dueKey))
+                .flatMap(claimed -> Flux.fromIterable(claimed)
+                        .flatMap(timerId -> processClaimedTimer(dueKey, timerId))
+                        .then(Mono.just(claimed.size())))
+                .repeat(() -> true)
+                .takeUntil(claimedCount -> claimedCount < batchSize);
+    }
+
+    /**
+     * Lua 스크립트로 만료된 타이머를 한 번의 왕복으로 선점
+     *
+     * @param dueKey 샤드 due-queue 키
+     * @return 선점된 타이머 ID 목록
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<List<String>> claimDueTimers(String dueKey) {
+        String now = String.valueOf(Instant.now().toEpochMilli());
+        Flux<Object> result = (Flux<Object>) (Flux<?>) stringRedisTemplate.execute(
+                CLAIM_DUE_TIMERS_SCRIPT, List.of(dueKey), List.of(now, String.valueOf(batchSize)));
+
+        // 드라이버에 따라 리스트 하나 또는 개별 요소로 방출되므로 평탄화
+        return result
+                .flatMapIterable(item -> item instanceof List ? (List<Object>) item : List.of(item))
+                .map(String::valueOf)
+                .collectList();
+    }
+
+    /**
+     * 선점된 타이머 완료 처리
+     * 선점 자체가 배타적이므로 별도의 분산 락 없이 완료 이벤트 발행
+     * 완료 로그는 저장하지 않고 이벤트에 실어 보내, 조건부 업데이트로 실제 완료한 뒤 TimerCompletionBatchProcessor가 저장
+     * 타이머 조회가 실패하면 선점 시 이미 ZREM 되었으므로 due-queue에 되돌려 다음 폴링에서 다시 처리
+     *
+     * @param dueKey 샤드 due-queue 키
+     * @param timerId 타이머 ID
+     * @return 처리 결과
+     */
+    Mono<Void> processClaimedTimer(String dueKey, String timerId) {
+        Instant claimedAt = Instant.now();
+
+        return timerRepository.findById(timerId)
+                .flatMap(timer -> {
+                    if (timer.isCompleted()) {
+                        log.debug("이미 완료된 타이머 스킵: timerId={}", timerId);
+                        return Mono.<Void>empty();
+                    }
+
+                    log.info("⏰ due-queue 타이머 선점: timerId={}, serverId={}",
+                            timerId, serverInstanceIdGenerator.getServerInstanceId());
+
+                    TimerCompletionLog completionLog = TimerCompletionLog.builder()
+                            .timerId(timerId)
+                            .serverId(serverInstanceIdGenerator.getServerInstanceId())
+                            .notificationReceivedAt(claimedAt)
+                            .processingStartedAt(claimedAt)
+                            .originalTargetTime(timer.getTargetTime())
+                            .processingDelayMs(Duration.between(timer.getTargetTime(), claimedAt).toMillis())
+                            .build();
+
+                    eventPublisher.publishEvent(new TimerCompletionEvent(this, timerId, completionLog));
+                    return Mono.<Void>empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> log.debug("선점된 타이머 처리 완료 또는 대상 없음: timerId={}", timerId)))
+                .onErrorResume(error -> {
+                    log.error("❌ due-queue 타이머 처리 실패 - due-queue로 반환: timerId={}, error={}",
+                            timerId, error.getMessage(), error);
+                    return stringRedisTemplate.execute(RESTORE_CLAIMED_TIMER_SCRIPT, List.of(dueKey),
+                                    List.of(String.valueOf(claimedAt.toEpochMilli()), timerId))
+                            .then()
+                            .onErrorResume(restoreError -> {
+                                log.error("❌ due-queue 타이머 반환 실패 (스위퍼가 재처리): timerId={}, error={}",
+                                        timerId, restoreError.getMessage());
+                                return Mono.empty();
+                            });
+                });
+    }
+
+    /**
+     * 타이머 스케줄 이벤트 리스너
+     * TimerService에서 발행하는 스케줄 관련 이벤트를 처리
+     */
+    @Override
+    @EventListener
+    public void handleTimerScheduleEvent(TimerScheduleEvent event) {
+        switch (event.getType()) {
+            case SCHEDULE:
+                if (event.getTimer() != null) {
+                    scheduleTimer(event.getTimer());
+                }
+                break;
+            case UPDATE:
+                if (event.getTimer() != null) {
+                    updateTimerSchedule(event.getTimer());
+                }
+                break;
+            case CANCEL:
+                cancelTimerSchedule(event.getTimerId());
+                break;
+            case SCHEDULE_BATCH:
+                if (event.getTimers() != null) {
+                    scheduleTimers(event.getTimers());
+                }
+                break;
+        }
+    }
+
+    /**
+     * 서비스 종료 시 폴러 정리
+     * 선점되지 않은 스케줄은 due-queue에 남아 샤드를 이어받은 노드가 처리함
+     */
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        if (pollerFuture != null && !pollerFuture.isCancelled()) {
+            pollerFuture.cancel(false);
+            log.info("Redis ZSET due-queue 스케줄러 서비스 종료");
+        }
+    }
+}
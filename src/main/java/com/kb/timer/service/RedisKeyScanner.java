@@ -0,0 +1,91 @@
+package com.kb.timer.service;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.RedisKeyAsyncCommands;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 커서 기반 Redis 키 스캐너
+ * KEYS 대신 SCAN을 한 번씩 호출하여 페이지 단위로 키를 조회하고, 다음 커서를 호출자에게 돌려줌
+ * 호출자는 마지막 nextCursor로 다음 요청을 이어서 할 수 있음
+ *
+ * Spring Data Redis의 scan(ScanOptions)은 커서를 숨기고 끝까지 순회하므로,
+ * 커넥션의 Lettuce 키 명령(비동기)으로 SCAN을 직접 호출하여 다음 커서를 얻음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisKeyScanner {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    /**
+     * SCAN 한 페이지 결과
+     *
+     * @param cursor 이 페이지를 조회한 커서
+     * @param nextCursor 다음 페이지 커서 ("0"이면 순회 완료)
+     * @param keys 이 페이지에서 찾은 키 목록 (COUNT 힌트와 MATCH에 따라 비어 있을 수 있음)
+     */
+    public record ScanPage(String cursor, String nextCursor, List<String> keys) {
+
+        public boolean isLast() {
+            return "0".equals(nextCursor);
+        }
+    }
+
+    /**
+     * 커서에서 시작하여 최대 maxPages번 SCAN을 이어서 실행
+     * 페이지는 구독자 요청에 따라 하나씩 조회되므로 느린 클라이언트가 Redis 호출을 앞질러 쌓지 않음
+     *
+     * @param cursor 시작 커서 ("0"이면 처음부터)
+     * @param pattern MATCH 패턴
+     * @param count COUNT 힌트
+     * @param maxPages 최대 SCAN 호출 수
+     * @return 페이지 스트림
+     */
+    public Flux<ScanPage> scanPages(String cursor, String pattern, long count, int maxPages) {
+        return scanPage(cursor, pattern, count)
+                .expand(page -> page.isLast() ? Mono.empty() : scanPage(page.nextCursor(), pattern, count))
+                .take(maxPages);
+    }
+
+    /**
+     * SCAN 한 번 실행
+     *
+     * @param cursor 커서
+     * @param pattern MATCH 패턴
+     * @param count COUNT 힌트
+     * @return 페이지 결과
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<ScanPage> scanPage(String cursor, String pattern, long count) {
+        ScanArgs scanArgs = ScanArgs.Builder.matches(pattern).limit(count);
+        // 공유 네이티브 커넥션을 사용하므로 커넥션 획득/반납은 블로킹 없이 끝남
+        return Mono.using(redisConnectionFactory::getConnection,
+                        connection -> Mono.fromCompletionStage(
+                                ((RedisKeyAsyncCommands<byte[], byte[]>) connection.getNativeConnection())
+                                        .scan(ScanCursor.of(cursor), scanArgs)),
+                        RedisConnection::close)
+                .map(page -> toScanPage(cursor, page))
+                .doOnNext(page -> log.debug("SCAN 페이지 조회: pattern={}, cursor={}, nextCursor={}, keys={}",
+                        pattern, cursor, page.nextCursor(), page.keys().size()));
+    }
+
+    private static ScanPage toScanPage(String cursor, KeyScanCursor<byte[]> page) {
+        List<String> keys = page.getKeys().stream()
+                .map(key -> new String(key, StandardCharsets.UTF_8))
+                .toList();
+        return new ScanPage(cursor, page.isFinished() ? "0" : page.getCursor(), keys);
+    }
+}
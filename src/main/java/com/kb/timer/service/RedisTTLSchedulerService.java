@@ -10,17 +10,24 @@ import com.kb.timer.util.ServerInstanceIdGenerator;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Redis TTL + Keyspace Notifications 기반 타이머 스케줄러
@@ -28,7 +35,8 @@ import java.time.Instant;
  */
 @Service
 @Slf4j
-public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener {
+@ConditionalOnProperty(name = "timer.scheduler.engine", havingValue = "redis-ttl", matchIfMissing = true)
+public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener implements TimerScheduler {
 
     private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
     private final ServerInstanceIdGenerator serverInstanceIdGenerator;
@@ -38,7 +46,6 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
     
     // Redis 키 상수
     private static final String TIMER_SCHEDULE_PREFIX = "timer:schedule:";
-    private static final String PROCESSING_LOCK_PREFIX = "timer:processing:";
     
     public RedisTTLSchedulerService(RedisMessageListenerContainer listenerContainer,
                                    ReactiveRedisTemplate<String, String> stringRedisTemplate,
@@ -65,6 +72,7 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
      * 
      * @param timer 타이머 정보
      */
+    @Override
     public void scheduleTimer(Timer timer) {
         String timerId = timer.getId();
         Instant targetTime = timer.getTargetTime();
@@ -96,12 +104,45 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
                 .subscribe();
     }
 
+    /**
+     * 여러 타이머 스케줄을 Redis TTL로 일괄 등록
+     * SET EX 명령들을 하나의 커넥션에서 파이프라인으로 전송
+     *
+     * @param timers 타이머 목록
+     */
+    @Override
+    public void scheduleTimers(List<Timer> timers) {
+        Instant now = Instant.now();
+        List<Timer> schedulable = timers.stream()
+                .filter(timer -> timer.getTargetTime().isAfter(now) && !timer.isCompleted())
+                .toList();
+        if (schedulable.isEmpty()) {
+            return;
+        }
+
+        Flux<ReactiveStringCommands.SetCommand> commands = Flux.fromIterable(schedulable)
+                .map(timer -> ReactiveStringCommands.SetCommand
+                        .set(toByteBuffer(TIMER_SCHEDULE_PREFIX + timer.getId()))
+                        .value(toByteBuffer(timer.getId()))
+                        .expiring(Expiration.from(Duration.between(now, timer.getTargetTime()))));
+
+        stringRedisTemplate.execute(connection -> connection.stringCommands().set(commands))
+                .filter(response -> !Boolean.TRUE.equals(response.getOutput()))
+                .count()
+                .doOnNext(failed -> log.info("타이머 TTL 스케줄 일괄 등록: requested={}, failed={}",
+                        schedulable.size(), failed))
+                .doOnError(error -> log.error("타이머 TTL 스케줄 일괄 등록 오류: count={}, error={}",
+                        schedulable.size(), error.getMessage(), error))
+                .subscribe();
+    }
+
     /**
      * 타이머 스케줄 업데이트
      * 기존 TTL 키를 삭제하고 새로운 TTL로 재등록
      * 
      * @param timer 업데이트된 타이머 정보
      */
+    @Override
     public void updateTimerSchedule(Timer timer) {
         String timerId = timer.getId();
         String scheduleKey = TIMER_SCHEDULE_PREFIX + timerId;
@@ -127,6 +168,7 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
      * 
      * @param timerId 타이머 ID
      */
+    @Override
     public void cancelTimerSchedule(String timerId) {
         String scheduleKey = TIMER_SCHEDULE_PREFIX + timerId;
         
@@ -175,16 +217,15 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
                     return Mono.empty();
                 }))
                 .flatMap(timer -> {
-                    // 완료 로그 초기 생성
-                    TimerCompletionLog initialLog = TimerCompletionLog.builder()
+                    // 완료 로그는 저장하지 않고 완료 이벤트에 실어 보냄
+                    TimerCompletionLog completionLog = TimerCompletionLog.builder()
                             .timerId(timerId)
                             .serverId(serverInstanceIdGenerator.getServerInstanceId())
                             .notificationReceivedAt(notificationReceivedAt)
                             .originalTargetTime(timer.getTargetTime())
                             .build();
                     
-                    return completionLogRepository.save(initialLog)
-                            .flatMap(savedLog -> processTimerCompletionWithLogging(timerId, timer, savedLog));
+                    return processTimerCompletionWithLogging(timerId, timer, completionLog);
                 })
                 .doOnError(error -> log.error("❌ TTL 만료 타이머 처리 실패: timerId={}, error={}", 
                         timerId, error.getMessage(), error))
@@ -193,6 +234,9 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
 
     /**
      * 로깅과 함께 타이머 완료 처리
+     * 모든 노드가 같은 만료 이벤트를 받지만 중복 완료는 MongoDB 조건부 업데이트
+     * (TimerRepository.completeTimers)에서 차단되므로 별도 분산 락을 잡지 않음
+     * 성공 로그는 조건부 업데이트로 실제 완료한 노드에서만 TimerCompletionBatchProcessor가 저장
      * 
      * @param timerId 타이머 ID
      * @param timer 타이머 정보
@@ -200,62 +244,32 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
      * @return 처리 결과
      */
     private Mono<Void> processTimerCompletionWithLogging(String timerId, Timer timer, TimerCompletionLog completionLog) {
-        String lockKey = PROCESSING_LOCK_PREFIX + timerId;
-        String serverId = serverInstanceIdGenerator.getServerInstanceId();
         Instant processingStartedAt = Instant.now();
+        completionLog.setProcessingStartedAt(processingStartedAt);
         
-        // 분산 락 획득 시도 (5분 TTL)
-        return stringRedisTemplate.opsForValue()
-                .setIfAbsent(lockKey, serverId, Duration.ofMinutes(5))
-                .flatMap(lockAcquired -> {
-                    // 로그 업데이트: 처리 시작 및 락 획득 상태
-                    completionLog.setProcessingStartedAt(processingStartedAt);
-                    completionLog.setLockAcquired(lockAcquired);
-                    
-                    if (timer.getTargetTime() != null) {
-                        long delayMs = Duration.between(timer.getTargetTime(), processingStartedAt).toMillis();
-                        completionLog.setProcessingDelayMs(delayMs);
-                    }
-                    
-                    if (lockAcquired) {
-                        log.info("✅ TTL 만료 타이머 처리 시작 (락 획득): timerId={}, serverId={}", timerId, serverId);
-                        
-                        // 타이머 완료 이벤트 발행 (동일 서버 내 TimerService에서 처리)
-                        eventPublisher.publishEvent(new TimerCompletionEvent(this, timerId));
-                        log.info("✅ TTL 만료 타이머 완료 이벤트 발행: timerId={}", timerId);
-                        return Mono.<Void>empty()
-                                .doOnSuccess(v -> {
-                                    // 성공 로그 업데이트
-                                    completionLog.setProcessingCompletedAt(Instant.now());
-                                    completionLog.setSuccess(true);
-                                    completionLogRepository.save(completionLog).subscribe();
-                                    log.info("✅ TTL 만료 타이머 완료 처리 성공: timerId={}", timerId);
-                                })
-                                .doOnError(error -> {
-                                    // 실패 로그 업데이트
-                                    completionLog.setProcessingCompletedAt(Instant.now());
-                                    completionLog.setSuccess(false);
-                                    completionLog.setErrorMessage(error.getMessage());
-                                    completionLogRepository.save(completionLog).subscribe();
-                                    log.error("❌ TTL 만료 타이머 완료 처리 실패: timerId={}, error={}", timerId, error.getMessage());
-                                })
-                                .doFinally(signalType -> {
-                                    // 처리 완료 후 락 해제
-                                    stringRedisTemplate.delete(lockKey)
-                                            .doOnNext(deleted -> log.debug("처리 락 해제: timerId={}, deleted={}", timerId, deleted))
-                                            .subscribe();
-                                });
-                    } else {
-                        log.debug("TTL 만료 타이머 처리 스킵 (다른 서버에서 처리 중): timerId={}", timerId);
-                        
-                        // 락 획득 실패 로그 업데이트
-                        completionLog.setProcessingCompletedAt(Instant.now());
-                        completionLog.setSuccess(false);
-                        completionLog.setErrorMessage("분산 락 획득 실패 - 다른 서버에서 처리 중");
-                        
-                        return completionLogRepository.save(completionLog).then();
-                    }
-                });
+        if (timer.getTargetTime() != null) {
+            long delayMs = Duration.between(timer.getTargetTime(), processingStartedAt).toMillis();
+            completionLog.setProcessingDelayMs(delayMs);
+        }
+        
+        if (timer.isCompleted()) {
+            // 다른 노드가 이미 완료 처리함 - 중복 성공 로그를 남기지 않음
+            log.debug("TTL 만료 타이머 처리 스킵 (이미 완료됨): timerId={}", timerId);
+            return Mono.empty();
+        }
+        
+        try {
+            // 타이머 완료 이벤트 발행 (동일 서버 내 TimerCompletionBatchProcessor에서 처리)
+            eventPublisher.publishEvent(new TimerCompletionEvent(this, timerId, completionLog));
+            log.info("✅ TTL 만료 타이머 완료 이벤트 발행: timerId={}", timerId);
+            return Mono.empty();
+        } catch (Exception e) {
+            completionLog.setSuccess(false);
+            completionLog.setErrorMessage(e.getMessage());
+            completionLog.setProcessingCompletedAt(Instant.now());
+            log.error("❌ TTL 만료 타이머 완료 처리 실패: timerId={}, error={}", timerId, e.getMessage());
+            return completionLogRepository.save(completionLog).then();
+        }
     }
 
     /**
@@ -288,6 +302,7 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
      * 타이머 스케줄 이벤트 리스너
      * TimerService에서 발행하는 스케줄 관련 이벤트를 처리
      */
+    @Override
     @EventListener
     public void handleTimerScheduleEvent(TimerScheduleEvent event) {
         switch (event.getType()) {
@@ -304,13 +319,23 @@ public class RedisTTLSchedulerService extends KeyExpirationEventMessageListener
             case CANCEL:
                 cancelTimerSchedule(event.getTimerId());
                 break;
+            case SCHEDULE_BATCH:
+                if (event.getTimers() != null) {
+                    scheduleTimers(event.getTimers());
+                }
+                break;
         }
     }
 
+    private static ByteBuffer toByteBuffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * 서비스 종료 시 정리
      */
     @PreDestroy
+    @Override
     public void shutdown() {
         log.info("Redis TTL 스케줄러 서비스 종료");
         // TTL 기반이므로 특별한 정리 작업 불필요
@@ -0,0 +1,96 @@
+package com.kb.timer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 병합기 (single-flight)
+ * 같은 작업/키로 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과 Mono를 함께 구독
+ *
+ * 공유 링크가 동시에 대량으로 열릴 때 findByShareToken / SCARD가 요청 수만큼 실행되는 것을 막기 위해 사용
+ * 진행 중인 조회만 공유하고 완료되면 즉시 제거하므로 이전 결과를 재사용하지 않음
+ * timer.collapse.operations에 포함된 작업만 병합하고 나머지는 그대로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestCollapser {
+
+    public static final String OPERATION_TIMER_BY_ID = "timer-by-id";
+    public static final String OPERATION_TIMER_BY_SHARE_TOKEN = "timer-by-share-token";
+    public static final String OPERATION_ONLINE_USER_COUNT = "online-user-count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${timer.collapse.operations:timer-by-id,timer-by-share-token,online-user-count}")
+    private Set<String> enabledOperations;
+
+    // "작업:키" -> 진행 중인 조회
+    private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    // "작업:결과" -> 카운터
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 작업/키의 진행 중인 조회가 있으면 그 결과를 공유하고, 없으면 새로 조회
+     *
+     * @param operation 작업 이름 (병합 설정 및 메트릭 태그)
+     * @param key 조회 키
+     * @param loader 실제 조회
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Mono<V> execute(String operation, String key, Supplier<Mono<V>> loader) {
+        if (!enabledOperations.contains(operation)) {
+            return Mono.defer(loader);
+        }
+
+        return Mono.defer(() -> {
+            String flightKey = operation + ":" + key;
+            boolean[] leader = {false};
+            Mono<?> flight = inFlight.computeIfAbsent(flightKey, k -> {
+                leader[0] = true;
+                return newFlight(k, loader);
+            });
+            counter(operation, leader[0] ? "executed" : "collapsed").increment();
+            return (Mono<V>) flight;
+        });
+    }
+
+    /**
+     * 진행 중인 조회 수 (디버깅용)
+     *
+     * @return 진행 중인 조회 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private <V> Mono<V> newFlight(String flightKey, Supplier<Mono<V>> loader) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        // 구독자가 모두 취소해도 조회는 끝까지 진행되고, 종료 시 자신인 경우에만 제거
+        Mono<V> flight = Mono.defer(loader)
+                .doFinally(signal -> inFlight.remove(flightKey, self.get()))
+                .cache();
+        self.set(flight);
+        return flight;
+    }
+
+    private Counter counter(String operation, String result) {
+        return counters.computeIfAbsent(operation + ":" + result, k -> Counter.builder("timer.collapse.requests")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,312 @@
+package com.kb.timer.service;
+
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 스케줄 샤드 소유권 관리자
+ *
+ * 동작 방식:
+ * 1. timerId 해시로 고정 개수의 샤드(timer:due:{shard})에 타이머를 분산
+ * 2. 각 서버 인스턴스는 scheduler:instances ZSET에 하트비트를 기록하여 생존 여부를 알림
+ * 3. 생존 인스턴스 목록에 대해 Rendezvous(HRW) 해싱으로 샤드별 담당 인스턴스를 결정
+ * 4. 담당 샤드는 timer:shard:{n}:owner 리스(serverId 값, TTL)를 획득해야만 처리
+ *
+ * 인스턴스가 추가/제거되면 다음 하트비트에서 담당 샤드가 재계산되고,
+ * 담당이 아니게 된 샤드의 리스는 즉시 반납되어 새 담당자가 이어받음
+ * 인스턴스가 죽으면 리스 TTL 이후 생존 인스턴스가 해당 샤드를 이어받음
+ *
+ * redis-zset 엔진은 샤드별 due-queue 처리에, timing-wheel 엔진은 휠에 올릴 타이머의 소유 판단에 사용
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("'${timer.scheduler.engine:redis-ttl}' == 'redis-zset' or '${timer.scheduler.engine:redis-ttl}' == 'timing-wheel'")
+public class ScheduleShardManager {
+
+    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final ServerInstanceIdGenerator serverInstanceIdGenerator;
+    private final TaskScheduler timerTaskScheduler;
+
+    // Redis 키 상수
+    private static final String TIMER_DUE_PREFIX = "timer:due:";
+    private static final String SHARD_OWNER_KEY_FORMAT = "timer:shard:%d:owner";
+    private static final String INSTANCES_KEY = "scheduler:instances";
+
+    /**
+     * 샤드 리스 획득 또는 갱신
+     * KEYS[1] = 리스 키, ARGV[1] = serverId, ARGV[2] = 리스 TTL(밀리초)
+     */
+    private static final RedisScript<Long> ACQUIRE_LEASE_SCRIPT = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 샤드 리스 반납 (소유자인 경우에만 삭제)
+     * KEYS[1] = 리스 키, ARGV[1] = serverId
+     */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    @Value("${timer.scheduler.shard.count:16}")
+    private int shardCount;
+
+    @Value("${timer.scheduler.shard.lease-ttl-ms:15000}")
+    private long leaseTtlMs;
+
+    private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+    private final List<OwnershipListener> ownershipListeners = new CopyOnWriteArrayList<>();
+    private ScheduledFuture<?> heartbeatFuture;
+
+    public ScheduleShardManager(ReactiveRedisTemplate<String, String> stringRedisTemplate,
+                                ServerInstanceIdGenerator serverInstanceIdGenerator,
+                                TaskScheduler timerTaskScheduler) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.serverInstanceIdGenerator = serverInstanceIdGenerator;
+        this.timerTaskScheduler = timerTaskScheduler;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 리스 TTL 내에 최소 3번 갱신
+        heartbeatFuture = timerTaskScheduler.scheduleWithFixedDelay(
+                () -> rebalance().subscribe(), Duration.ofMillis(leaseTtlMs / 3));
+        log.info("스케줄 샤드 관리자 시작: serverId={}, shardCount={}, leaseTtlMs={}",
+                serverInstanceIdGenerator.getServerInstanceId(), shardCount, leaseTtlMs);
+    }
+
+    /**
+     * 타이머가 속한 샤드 번호
+     *
+     * @param timerId 타이머 ID
+     * @return 샤드 번호
+     */
+    public int shardOf(String timerId) {
+        return Math.floorMod(timerId.hashCode(), shardCount);
+    }
+
+    /**
+     * 타이머가 등록될 due-queue 키
+     *
+     * @param timerId 타이머 ID
+     * @return due-queue 키
+     */
+    public String dueKeyOf(String timerId) {
+        return dueKey(shardOf(timerId));
+    }
+
+    /**
+     * 샤드 번호에 해당하는 due-queue 키
+     *
+     * @param shard 샤드 번호
+     * @return due-queue 키
+     */
+    public String dueKey(int shard) {
+        return TIMER_DUE_PREFIX + shard;
+    }
+
+    /**
+     * 현재 이 인스턴스가 리스를 보유한 샤드 목록
+     *
+     * @return 소유 샤드 번호 목록
+     */
+    public List<Integer> getOwnedShards() {
+        return new ArrayList<>(ownedShards);
+    }
+
+    /**
+     * 타이머가 이 인스턴스가 리스를 보유한 샤드에 속하는지 확인
+     *
+     * @param timerId 타이머 ID
+     * @return 소유 여부
+     */
+    public boolean ownsTimer(String timerId) {
+        return ownedShards.contains(shardOf(timerId));
+    }
+
+    /**
+     * 샤드 소유권 변경 리스너 등록
+     * 재계산마다 새로 획득/상실한 샤드가 있으면 호출됨
+     *
+     * @param listener 소유권 변경 리스너
+     */
+    public void addOwnershipListener(OwnershipListener listener) {
+        ownershipListeners.add(listener);
+    }
+
+    /**
+     * 하트비트 기록 후 샤드 소유권 재계산
+     * 담당 샤드는 리스 획득/갱신, 담당이 아닌 샤드는 리스 반납
+     *
+     * @return 완료 신호
+     */
+    Mono<Void> rebalance() {
+        String serverId = serverInstanceIdGenerator.getServerInstanceId();
+        long now = Instant.now().toEpochMilli();
+        Set<Integer> before = Set.copyOf(ownedShards);
+
+        return stringRedisTemplate.opsForZSet().add(INSTANCES_KEY, serverId, now)
+                // 리스 TTL 동안 하트비트가 없는 인스턴스 제거
+                .then(stringRedisTemplate.opsForZSet()
+                        .removeRangeByScore(INSTANCES_KEY, Range.closed(0.0, (double) (now - leaseTtlMs))))
+                .thenMany(stringRedisTemplate.opsForZSet().range(INSTANCES_KEY, Range.closed(0L, -1L)))
+                .collectList()
+                .flatMapMany(liveInstances -> Flux.range(0, shardCount)
+                        .flatMap(shard -> isAssignedTo(shard, serverId, liveInstances)
+                                ? acquireLease(shard, serverId)
+                                : releaseLease(shard, serverId)))
+                .then()
+                .doOnError(error -> log.error("샤드 소유권 재계산 실패: serverId={}, error={}",
+                        serverId, error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> notifyOwnershipChanged(before));
+    }
+
+    /**
+     * 재계산 전후 소유 샤드를 비교하여 리스너에 변경분 전달
+     */
+    private void notifyOwnershipChanged(Set<Integer> before) {
+        Set<Integer> after = Set.copyOf(ownedShards);
+        Set<Integer> acquired = new HashSet<>(after);
+        acquired.removeAll(before);
+        Set<Integer> released = new HashSet<>(before);
+        released.removeAll(after);
+        if (acquired.isEmpty() && released.isEmpty()) {
+            return;
+        }
+        for (OwnershipListener listener : ownershipListeners) {
+            try {
+                listener.onOwnershipChanged(acquired, released);
+            } catch (Exception e) {
+                log.error("샤드 소유권 변경 리스너 오류: acquired={}, released={}, error={}",
+                        acquired, released, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Rendezvous 해싱으로 샤드 담당 인스턴스 여부 판단
+     * 가장 높은 가중치를 가진 인스턴스가 샤드를 담당
+     */
+    private boolean isAssignedTo(int shard, String serverId, List<String> liveInstances) {
+        String winner = serverId;
+        long bestWeight = weight(serverId, shard);
+        for (String instance : liveInstances) {
+            long candidate = weight(instance, shard);
+            if (candidate > bestWeight || (candidate == bestWeight && instance.compareTo(winner) < 0)) {
+                winner = instance;
+                bestWeight = candidate;
+            }
+        }
+        return winner.equals(serverId);
+    }
+
+    /**
+     * 인스턴스-샤드 쌍의 가중치 (SplitMix64 혼합으로 분포 균일화)
+     */
+    private static long weight(String instance, int shard) {
+        long z = ((long) instance.hashCode() << 32) ^ shard;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private Mono<Void> acquireLease(int shard, String serverId) {
+        return stringRedisTemplate.execute(ACQUIRE_LEASE_SCRIPT,
+                        List.of(String.format(SHARD_OWNER_KEY_FORMAT, shard)),
+                        List.of(serverId, String.valueOf(leaseTtlMs)))
+                .next()
+                .doOnNext(acquired -> {
+                    if (acquired == 1L) {
+                        if (ownedShards.add(shard)) {
+                            log.info("샤드 리스 획득: shard={}, serverId={}", shard, serverId);
+                        }
+                    } else if (ownedShards.remove(shard)) {
+                        log.warn("샤드 리스 상실 (다른 인스턴스 소유): shard={}, serverId={}", shard, serverId);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> releaseLease(int shard, String serverId) {
+        boolean wasOwned = ownedShards.remove(shard);
+        if (!wasOwned) {
+            return Mono.empty();
+        }
+        return stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT,
+                        List.of(String.format(SHARD_OWNER_KEY_FORMAT, shard)),
+                        List.of(serverId))
+                .next()
+                .doOnNext(released -> log.info("샤드 리스 반납 (재배치): shard={}, serverId={}", shard, serverId))
+                .then();
+    }
+
+    /**
+     * 종료 시 보유 리스를 모두 반납하고 인스턴스 목록에서 제거
+     * 다른 인스턴스가 리스 만료를 기다리지 않고 바로 샤드를 이어받을 수 있음
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatFuture != null) {
+            heartbeatFuture.cancel(false);
+        }
+        String serverId = serverInstanceIdGenerator.getServerInstanceId();
+        List<Integer> shards = getOwnedShards();
+
+        Flux.fromIterable(shards)
+                .flatMap(shard -> releaseLease(shard, serverId))
+                .then(stringRedisTemplate.opsForZSet().remove(INSTANCES_KEY, serverId))
+                .timeout(Duration.ofSeconds(3))
+                .doOnSuccess(unused -> log.info("샤드 리스 반납 완료: serverId={}, shards={}", serverId, shards))
+                .doOnError(error -> log.warn("샤드 리스 반납 실패 (리스 만료로 복구됨): serverId={}, error={}",
+                        serverId, error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .block();
+    }
+
+    /**
+     * 샤드 소유권 변경 리스너
+     */
+    @FunctionalInterface
+    public interface OwnershipListener {
+
+        /**
+         * @param acquired 새로 획득한 샤드 번호
+         * @param released 상실/반납한 샤드 번호
+         */
+        void onOwnershipChanged(Set<Integer> acquired, Set<Integer> released);
+    }
+}
@@ -3,11 +3,19 @@ package com.kb.timer.service;
 import com.kb.timer.util.ServerInstanceIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 서버 종료 시 Redis 정리 핸들러
@@ -19,9 +27,67 @@ import jakarta.annotation.PreDestroy;
 public class ServerShutdownHandler {
 
     private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
-    private final ReactiveRedisTemplate<String, Object> redisTemplate;
     private final ServerInstanceIdGenerator serverInstanceIdGenerator;
-    private final RedisTTLSchedulerService redisTTLSchedulerService;
+    private final TimerScheduler timerScheduler;
+
+    /**
+     * 멤버십 일괄 정리 스크립트
+     * KEYS[1] = server:{serverId}:memberships, KEYS[2] = timers:active, 이후 세션마다 5개 키
+     * (timer:{timerId}:online_users, user:{userId}:connected_server_id, user:{userId}:sessions, session:{sessionId},
+     *  server:{연결 서버 ID}:memberships - 미리 읽은 연결 서버가 없으면 KEYS[1])
+     * ARGV[1] = serverId, 이후 세션마다 sessionId, userId, 멤버십 값(timerId|userId), 미리 읽은 연결 서버 ID,
+     * 미리 읽은 현재 세션 ID, timerId
+     * 사용자가 이미 다른 서버로 재접속한 경우 사용자 단위 키는 건드리지 않고 세션 키만 삭제하며,
+     * 온라인 사용자 목록은 그 서버의 현재 세션이 같은 타이머에 참여 중일 때만 유지
+     * 미리 읽은 뒤 연결 서버가 바뀌었으면 새 연결이 같은 타이머일 수 있으므로 온라인 사용자 목록을 건드리지 않음 (TTL로 정리)
+     * 온라인 사용자 목록이 비면 활성 타이머 인덱스에서도 제거
+     * 정리한 세션 수 반환
+     */
+    private static final RedisScript<Long> REMOVE_MEMBERSHIPS_SCRIPT = RedisScript.of("""
+            local function leave(usersKey, userId, timerId)
+                redis.call('SREM', usersKey, userId)
+                if redis.call('SCARD', usersKey) == 0 then
+                    redis.call('ZREM', KEYS[2], timerId)
+                end
+            end
+            local removed = 0
+            local a = 1
+            for i = 3, #KEYS, 5 do
+                -- 세션마다 KEYS 5개, ARGV 6개 (ARGV[a + 1] ~ ARGV[a + 6])
+                local owner = redis.call('GET', KEYS[i + 1]) or ''
+                if owner == ARGV[1] then
+                    leave(KEYS[i], ARGV[a + 2], ARGV[a + 6])
+                    redis.call('DEL', KEYS[i + 1], KEYS[i + 2])
+                elseif owner == ARGV[a + 4] then
+                    local current = ARGV[a + 5]
+                    local joined = current ~= ''
+                        and redis.call('SISMEMBER', KEYS[i + 2], current) == 1
+                        and redis.call('HGET', KEYS[i + 4], current) == ARGV[a + 3]
+                    if not joined then
+                        leave(KEYS[i], ARGV[a + 2], ARGV[a + 6])
+                    end
+                end
+                redis.call('DEL', KEYS[i + 3])
+                redis.call('HDEL', KEYS[1], ARGV[a + 1])
+                removed = removed + 1
+                a = a + 6
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 정리할 세션 멤버십 (server:{serverId}:memberships 항목)
+     */
+    private record Membership(String sessionId, String timerId, String userId, String value) {
+    }
+
+    // 한 번의 스크립트 호출로 정리할 최대 세션 수 (Redis 블로킹 시간 제한)
+    @Value("${timer.redis.shutdown-cleanup.batch-size:500}")
+    private int cleanupBatchSize;
+
+    // 컨테이너가 강제 종료되기 전에 끝나도록 하는 정리 작업 시간 예산
+    @Value("${timer.redis.shutdown-cleanup.budget-ms:5000}")
+    private long cleanupBudgetMs;
 
     /**
      * 서버 종료 시 실행되는 정리 작업
@@ -32,18 +98,18 @@ public class ServerShutdownHandler {
         log.info("서버 종료 시작: serverId={}", serverId);
         
         try {
-            // 1. TTL 스케줄러 정리
-            redisTTLSchedulerService.shutdown();
+            // 1. 타이머 스케줄러 정리
+            timerScheduler.shutdown();
+            log.info("서버 종료 시 TTL 스케줄러 정리 완료: serverId={}", serverId);
             
-            // 2. Redis 정리 작업 수행 (비동기로 처리하여 블로킹 방지)
+            // 2. Redis 정리 작업 수행 (프로세스 종료 전에 끝나도록 시간 예산 내에서 대기)
             cleanupServerRelatedKeys(serverId)
+                .timeout(Duration.ofMillis(cleanupBudgetMs))
                 .doOnSuccess(unused -> log.info("서버 종료 시 Redis 정리 완료: serverId={}", serverId))
-                .doOnError(error -> log.warn("서버 종료 시 Redis 정리 실패 (무시됨): serverId={}, error={}", 
+                .doOnError(error -> log.warn("서버 종료 시 Redis 정리 실패 (무시됨, 남은 키는 TTL로 정리): serverId={}, error={}", 
                           serverId, error.getMessage()))
                 .onErrorComplete() // 에러 발생 시 무시하고 계속 진행
-                .subscribe(); // 비동기 실행
-                
-            log.info("서버 종료 시 TTL 스케줄러 정리 완료: serverId={}", serverId);
+                .block();
         } catch (Exception e) {
             log.warn("서버 종료 시 정리 작업 실패 (무시됨): serverId={}, error={}", serverId, e.getMessage());
         }
@@ -58,91 +124,110 @@ public class ServerShutdownHandler {
     public Mono<Void> cleanupServerRelatedKeys(String serverId) {
         log.info("서버 관련 Redis 키 정리 시작: serverId={}", serverId);
         
-        return Mono.when(
-            // 1. 서버별 사용자 목록에서 해당 서버의 사용자들 조회 후 정리
-            cleanupUsersFromServer(serverId),
-            
-            // 2. 서버별 사용자 목록 키 삭제
-            stringRedisTemplate.delete("server:" + serverId + ":users")
-                    .doOnNext(deleted -> log.info("서버 사용자 목록 키 삭제: server:{}:users, deleted={}", serverId, deleted))
-        )
-        .doOnSuccess(ignored -> log.info("서버 관련 Redis 키 정리 완료: serverId={}", serverId))
-        .doOnError(error -> log.error("서버 관련 Redis 키 정리 실패: serverId={}, error={}", 
-                serverId, error.getMessage(), error));
+        // 1. 멤버십 인덱스로 이 서버의 세션들을 모든 타이머에서 정리
+        return cleanupMemberships(serverId)
+            // 2. 서버별 사용자 목록 / 멤버십 인덱스 키 삭제
+            .then(stringRedisTemplate.delete("server:" + serverId + ":users", 
+                    RedisConnectionManager.serverMembershipsKey(serverId))
+                    .doOnNext(deleted -> log.info("서버 인덱스 키 삭제: serverId={}, deleted={}", serverId, deleted)))
+            .then()
+            .doOnSuccess(ignored -> log.info("서버 관련 Redis 키 정리 완료: serverId={}", serverId))
+            .doOnError(error -> log.error("서버 관련 Redis 키 정리 실패: serverId={}, error={}", 
+                    serverId, error.getMessage(), error));
     }
 
     /**
-     * 특정 서버의 사용자들을 모든 타이머에서 제거
+     * 서버 멤버십 인덱스를 HSCAN으로 순회하며 batch-size 단위 스크립트로 정리
+     * 사용자마다 KEYS timer:*:online_users를 실행하던 방식 대신 정확히 필요한 멤버십만 제거
      * 
      * @param serverId 서버 ID
      * @return 정리 작업 Mono
      */
-    private Mono<Void> cleanupUsersFromServer(String serverId) {
-        String serverUsersKey = "server:" + serverId + ":users";
+    private Mono<Void> cleanupMemberships(String serverId) {
+        String membershipsKey = RedisConnectionManager.serverMembershipsKey(serverId);
         
-        return stringRedisTemplate.opsForSet().members(serverUsersKey)
-                .collectList()
-                .flatMap(userIds -> {
-                    if (userIds.isEmpty()) {
-                        log.info("서버에 연결된 사용자 없음: serverId={}", serverId);
-                        return Mono.empty();
-                    }
-                    
-                    log.info("서버 종료로 인한 사용자 정리: serverId={}, userCount={}, users={}", 
-                            serverId, userIds.size(), userIds);
-                    
-                    return Mono.when(
-                        userIds.stream()
-                                .map(this::cleanupUserFromAllTimers)
-                                .toArray(Mono[]::new)
-                    );
-                });
+        return stringRedisTemplate.<String, String>opsForHash()
+                .scan(membershipsKey, ScanOptions.scanOptions().count(cleanupBatchSize).build())
+                .buffer(cleanupBatchSize)
+                .map(this::parseMemberships)
+                .filter(memberships -> !memberships.isEmpty())
+                .concatMap(memberships -> removeMemberships(serverId, membershipsKey, memberships))
+                .reduce(0L, Long::sum)
+                .doOnNext(removed -> log.info("서버 종료로 인한 세션 정리: serverId={}, sessions={}", serverId, removed))
+                .then();
+    }
+
+    private List<Membership> parseMemberships(List<Map.Entry<String, String>> batch) {
+        List<Membership> memberships = new ArrayList<>(batch.size());
+        for (Map.Entry<String, String> membership : batch) {
+            int separator = membership.getValue().indexOf(RedisConnectionManager.MEMBERSHIP_SEPARATOR);
+            if (separator < 0) {
+                log.warn("잘못된 멤버십 값 무시: sessionId={}, value={}", membership.getKey(), membership.getValue());
+                continue;
+            }
+            memberships.add(new Membership(membership.getKey(),
+                    membership.getValue().substring(0, separator),
+                    membership.getValue().substring(separator + 1),
+                    membership.getValue()));
+        }
+        return memberships;
     }
 
     /**
-     * 특정 사용자를 모든 타이머에서 제거
-     * 
-     * @param userId 사용자 ID
-     * @return 정리 작업 Mono
+     * 한 배치 정리
+     * 연결 서버(MGET 한 번)와 사용자별 현재 세션(SMEMBERS, 같은 연결로 파이프라인)을 미리 읽어
+     * 스크립트가 선언된 키만 접근하고 세션마다 상수 개의 명령만 실행하도록 함
      */
-    private Mono<Void> cleanupUserFromAllTimers(String userId) {
-        return Mono.when(
-            // 1. 모든 타이머에서 해당 사용자 제거
-            stringRedisTemplate.keys("timer:*:online_users")
-                    .flatMap(timerKey -> 
-                        stringRedisTemplate.opsForSet().remove(timerKey, userId)
-                                .doOnNext(removed -> {
-                                    if (removed > 0) {
-                                        log.info("타이머에서 사용자 제거: key={}, userId={}, removed={}", 
-                                                timerKey, userId, removed);
-                                    }
-                                })
-                    )
-                    .then(),
-            
-            // 2. 사용자별 서버 정보 키 삭제
-            stringRedisTemplate.delete("user:" + userId + ":server")
-                    .doOnNext(deleted -> log.info("사용자 서버 정보 삭제: user:{}:server, deleted={}", userId, deleted)),
-            
-            // 3. 해당 사용자의 세션 정보들 삭제 (세션 ID를 정확히 알기 어려우므로 패턴 매칭)
-            cleanupUserSessions(userId)
-        )
-        .doOnSuccess(ignored -> log.debug("사용자 정리 완료: userId={}", userId))
-        .doOnError(error -> log.error("사용자 정리 실패: userId={}, error={}", userId, error.getMessage(), error));
+    private Mono<Long> removeMemberships(String serverId, String membershipsKey, List<Membership> memberships) {
+        List<String> ownerKeys = memberships.stream()
+                .map(membership -> "user:" + membership.userId() + ":connected_server_id")
+                .toList();
+        Mono<List<String>> owners = stringRedisTemplate.opsForValue().multiGet(ownerKeys);
+        // 연결 기록 시 사용자 세션 인덱스를 새 세션 하나로 교체하므로 사용자당 현재 세션은 하나
+        Mono<Map<String, String>> currentSessions = Flux.fromStream(memberships.stream().map(Membership::userId).distinct())
+                .flatMap(userId -> stringRedisTemplate.opsForSet().members("user:" + userId + ":sessions")
+                        .next()
+                        .map(sessionId -> Map.entry(userId, sessionId)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return Mono.zip(owners, currentSessions)
+                .flatMap(preRead -> {
+                    List<String> keys = new ArrayList<>(2 + memberships.size() * 5);
+                    List<String> args = new ArrayList<>(1 + memberships.size() * 6);
+                    keys.add(membershipsKey);
+                    keys.add(RedisConnectionManager.ACTIVE_TIMERS_KEY);
+                    args.add(serverId);
+                    for (int i = 0; i < memberships.size(); i++) {
+                        Membership membership = memberships.get(i);
+                        String owner = preRead.getT1().get(i);
+                        keys.add("timer:" + membership.timerId() + ":online_users");
+                        keys.add(ownerKeys.get(i));
+                        keys.add("user:" + membership.userId() + ":sessions");
+                        keys.add("session:" + membership.sessionId());
+                        keys.add(owner == null ? membershipsKey : RedisConnectionManager.serverMembershipsKey(owner));
+                        args.add(membership.sessionId());
+                        args.add(membership.userId());
+                        args.add(membership.value());
+                        args.add(owner == null ? "" : owner);
+                        args.add(preRead.getT2().getOrDefault(membership.userId(), ""));
+                        args.add(membership.timerId());
+                    }
+                    return stringRedisTemplate.execute(REMOVE_MEMBERSHIPS_SCRIPT, keys, args).next();
+                });
     }
 
     /**
-     * 특정 사용자의 세션 정보들 정리
+     * 패턴에 맞는 키를 KEYS 대신 SCAN으로 찾아 배치 단위로 삭제
      * 
-     * @param userId 사용자 ID
-     * @return 정리 작업 Mono
+     * @param pattern MATCH 패턴
+     * @return 삭제된 키 수
      */
-    private Mono<Void> cleanupUserSessions(String userId) {
-        // 세션 정보에서 해당 사용자 ID를 포함하는 세션들을 찾아 삭제
-        // 실제로는 세션 ID와 사용자 ID의 매핑을 정확히 추적하기 어려우므로
-        // 여기서는 로그만 남기고 추후 TTL로 자동 정리되도록 함
-        log.debug("사용자 세션 정리 (TTL로 자동 정리 예정): userId={}", userId);
-        return Mono.empty();
+    private Mono<Long> deleteByPattern(String pattern) {
+        return stringRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(cleanupBatchSize).build())
+                .buffer(cleanupBatchSize)
+                .concatMap(keys -> stringRedisTemplate.delete(keys.toArray(String[]::new)))
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> log.warn("패턴 키 삭제: pattern={}, deleted={}", pattern, deleted));
     }
 
     /**
@@ -153,24 +238,18 @@ public class ServerShutdownHandler {
         
         return Mono.when(
             // 1. 모든 타이머 사용자 키 삭제
-            stringRedisTemplate.keys("timer:*:online_users")
-                    .flatMap(key -> stringRedisTemplate.delete(key))
-                    .then(),
+            deleteByPattern("timer:*:online_users"),
+            stringRedisTemplate.delete(RedisConnectionManager.ACTIVE_TIMERS_KEY),
             
             // 2. 모든 사용자 서버 정보 키 삭제
-            stringRedisTemplate.keys("user:*:server")
-                    .flatMap(key -> stringRedisTemplate.delete(key))
-                    .then(),
+            deleteByPattern("user:*:connected_server_id"),
             
-            // 3. 모든 서버 사용자 목록 키 삭제
-            stringRedisTemplate.keys("server:*:users")
-                    .flatMap(key -> stringRedisTemplate.delete(key))
-                    .then(),
+            // 3. 모든 서버 사용자 목록 / 멤버십 인덱스 키 삭제
+            deleteByPattern("server:*:users"),
+            deleteByPattern("server:*:memberships"),
             
             // 4. 모든 세션 키 삭제
-            redisTemplate.keys("session:*")
-                    .flatMap(key -> redisTemplate.delete(key))
-                    .then()
+            deleteByPattern("session:*")
         )
         .doOnSuccess(ignored -> log.warn("모든 좀비 키 강제 정리 완료"))
         .doOnError(error -> log.error("좀비 키 강제 정리 실패: error={}", error.getMessage(), error));
@@ -0,0 +1,104 @@
+package com.kb.timer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb.timer.model.dto.TimerTick;
+import com.kb.timer.model.event.TargetTimeChangedEvent;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 타이머 토픽 브로드캐스터
+ * 페이로드를 한 번만 JSON byte[]로 직렬화하여 /topic/timer/{timerId} (상태 틱은 /topic/timer/{timerId}/tick)로 전송
+ *
+ * convertAndSend는 호출마다 메시지 컨버터를 거치지만, 미리 직렬화한 byte[] 메시지를 send하면
+ * 컨버터를 건너뛰고 브로커가 모든 구독 세션에 같은 byte[]를 그대로 공유함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimerBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 타이머 토픽으로 브로드캐스트
+     *
+     * @param timerId 타이머 ID
+     * @param payload 전송할 페이로드 (TimerEvent, Map 등)
+     */
+    public void broadcast(String timerId, Object payload) {
+        send("/topic/timer/" + timerId, payload);
+    }
+
+    /**
+     * 타이머 이벤트 브로드캐스트
+     * 타이머 상태가 바뀌는 이벤트(목표 시간 변경, 완료)는 틱 스트림으로도 전송 (클라이언트 로컬 카운트다운 기준값)
+     *
+     * @param event 타이머 이벤트
+     */
+    public void broadcastEvent(TimerEvent event) {
+        broadcast(event.getTimerId(), event);
+        TimerTick tick = toTick(event);
+        if (tick != null) {
+            broadcastTick(event.getTimerId(), tick);
+        }
+    }
+
+    /**
+     * 타이머 틱 토픽으로 상태 틱 전송 (/topic/timer/{timerId}/tick)
+     *
+     * @param timerId 타이머 ID
+     * @param tick 상태 틱
+     */
+    public void broadcastTick(String timerId, TimerTick tick) {
+        send("/topic/timer/" + timerId + "/tick", tick);
+    }
+
+    /**
+     * 상태 변경 이벤트를 틱으로 변환
+     * @param event 이벤트
+     * @return 틱 (상태 변경 이벤트가 아니면 null)
+     */
+    private TimerTick toTick(TimerEvent event) {
+        long version = event.getTimestamp() != null ? event.getTimestamp().toEpochMilli() : System.currentTimeMillis();
+        if (event instanceof TargetTimeChangedEvent changed && changed.getNewTargetTime() != null) {
+            return new TimerTick(changed.getNewTargetTime().toEpochMilli(), version, false);
+        }
+        if (event instanceof TimerCompletedEvent completed && completed.getCompletedTargetTime() != null) {
+            return new TimerTick(completed.getCompletedTargetTime().toEpochMilli(), version, true);
+        }
+        return null;
+    }
+
+    private void send(String destination, Object payload) {
+        byte[] frameBody;
+        try {
+            frameBody = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            log.error("❌ 브로드캐스트 페이로드 직렬화 실패: destination={}, error={}", destination, e.getMessage(), e);
+            return;
+        }
+        messagingTemplate.send(destination, createJsonMessage(frameBody));
+    }
+
+    /**
+     * 직렬화된 JSON 본문으로 STOMP MESSAGE 생성
+     */
+    private Message<byte[]> createJsonMessage(byte[] frameBody) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true); // 템플릿이 destination 헤더를 설정할 수 있도록 유지
+        return MessageBuilder.createMessage(frameBody, accessor.getMessageHeaders());
+    }
+}
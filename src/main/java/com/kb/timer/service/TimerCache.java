@@ -0,0 +1,194 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.repository.TimerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 노드 로컬 Timer 문서 캐시
+ * 인기 공유 타이머 조회가 매번 MongoDB findById / findByShareToken을 타지 않도록 ID와 공유 토큰 양쪽으로 조회
+ *
+ * 동작 방식:
+ * 1. 최대 max-size 개까지 LRU로 유지하고, ttl-ms가 지난 항목은 조회 시 만료 처리
+ * 2. 이 노드가 소비한 TARGET_TIME_CHANGED / TIMER_COMPLETED 이벤트로 해당 타이머를 무효화
+ *    (받지 못한 파티션의 변경은 ttl-ms로 만료, timer.cache.invalidation-consumer.enabled면 전체 파티션을 읽어 무효화)
+ * 3. 이 노드에서 저장하거나 완료 처리한 타이머는 결과로 바로 갱신
+ * 4. 무효화와 동시에 진행 중이던 조회 결과는 캐시에 넣지 않아 이전 값이 되살아나지 않음
+ *
+ * 캐시된 Timer는 여러 요청이 공유하므로 호출자는 수정하지 않아야 함 (수정이 필요하면 저장소에서 직접 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimerCache {
+
+    private final TimerRepository timerRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${timer.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${timer.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    // 타이머 ID -> 캐시 항목 (접근 순서 LRU)
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 공유 토큰 -> 타이머 ID
+    private final Map<String, String> shareTokenIndex = new HashMap<>();
+
+    // 무효화될 때마다 증가 (진행 중이던 조회 결과 폐기 판단용)
+    private long invalidationEpoch;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter sizeEvictionCounter;
+    private Counter expiredEvictionCounter;
+    private Counter invalidationCounter;
+
+    private record CacheEntry(Timer timer, long expiresAtMs) {
+    }
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("timer.cache.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("timer.cache.requests").tag("result", "miss").register(meterRegistry);
+        sizeEvictionCounter = Counter.builder("timer.cache.evictions").tag("cause", "size").register(meterRegistry);
+        expiredEvictionCounter = Counter.builder("timer.cache.evictions").tag("cause", "expired").register(meterRegistry);
+        invalidationCounter = Counter.builder("timer.cache.evictions").tag("cause", "invalidated").register(meterRegistry);
+        Gauge.builder("timer.cache.size", this, TimerCache::size).register(meterRegistry);
+        log.info("Timer 캐시 초기화: maxSize={}, ttlMs={}", maxSize, ttlMs);
+    }
+
+    /**
+     * 타이머 ID로 조회 (캐시에 없으면 MongoDB 조회 후 캐시)
+     *
+     * @param timerId 타이머 ID
+     * @return 타이머 (없으면 empty)
+     */
+    public Mono<Timer> findById(String timerId) {
+        return Mono.defer(() -> {
+            long epoch;
+            synchronized (this) {
+                Timer cached = getFresh(timerId);
+                if (cached != null) {
+                    hitCounter.increment();
+                    return Mono.just(cached);
+                }
+                epoch = invalidationEpoch;
+            }
+            missCounter.increment();
+            return timerRepository.findById(timerId)
+                    .doOnNext(timer -> putIfNotInvalidated(timer, epoch));
+        });
+    }
+
+    /**
+     * 공유 토큰으로 조회 (캐시에 없으면 MongoDB 조회 후 캐시)
+     *
+     * @param shareToken 공유 토큰
+     * @return 타이머 (없으면 empty)
+     */
+    public Mono<Timer> findByShareToken(String shareToken) {
+        return Mono.defer(() -> {
+            long epoch;
+            synchronized (this) {
+                String timerId = shareTokenIndex.get(shareToken);
+                Timer cached = timerId != null ? getFresh(timerId) : null;
+                if (cached != null) {
+                    hitCounter.increment();
+                    return Mono.just(cached);
+                }
+                epoch = invalidationEpoch;
+            }
+            missCounter.increment();
+            return timerRepository.findByShareToken(shareToken)
+                    .doOnNext(timer -> putIfNotInvalidated(timer, epoch));
+        });
+    }
+
+    /**
+     * 이 노드에서 저장한 최신 타이머로 갱신
+     *
+     * @param timer 저장된 타이머
+     */
+    public synchronized void put(Timer timer) {
+        putEntry(timer);
+    }
+
+    /**
+     * 타이머 무효화 (목표 시간 변경, 완료 이벤트 수신 시)
+     *
+     * @param timerId 타이머 ID
+     */
+    public synchronized void invalidate(String timerId) {
+        invalidationEpoch++;
+        if (removeEntry(timerId) != null) {
+            invalidationCounter.increment();
+            log.debug("Timer 캐시 무효화: timerId={}", timerId);
+        }
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     *
+     * @return 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void putIfNotInvalidated(Timer timer, long epoch) {
+        // 조회하는 동안 무효화가 있었으면 이전 값일 수 있으므로 캐시하지 않음
+        if (epoch == invalidationEpoch) {
+            putEntry(timer);
+        }
+    }
+
+    private Timer getFresh(String timerId) {
+        CacheEntry entry = entries.get(timerId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMs() <= System.currentTimeMillis()) {
+            removeEntry(timerId);
+            expiredEvictionCounter.increment();
+            return null;
+        }
+        return entry.timer();
+    }
+
+    private void putEntry(Timer timer) {
+        removeEntry(timer.getId());
+        entries.put(timer.getId(), new CacheEntry(timer, System.currentTimeMillis() + ttlMs));
+        if (timer.getShareToken() != null) {
+            shareTokenIndex.put(timer.getShareToken(), timer.getId());
+        }
+        // 접근 순서상 가장 오래 사용되지 않은 항목부터 제거
+        while (entries.size() > maxSize) {
+            String eldestId = entries.keySet().iterator().next();
+            removeEntry(eldestId);
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    private CacheEntry removeEntry(String timerId) {
+        CacheEntry removed = entries.remove(timerId);
+        if (removed != null && removed.timer().getShareToken() != null) {
+            shareTokenIndex.remove(removed.timer().getShareToken(), timerId);
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,243 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
+import com.kb.timer.repository.TimerCompletionLogRepository;
+import com.kb.timer.repository.TimerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 타이머 완료 배치 처리기
+ * 스케줄러가 발행한 TimerCompletionEvent를 짧은 틱 윈도우 단위로 모아서 처리
+ *
+ * 배치당 처리:
+ * 1. MongoDB updateMulti 한 번으로 미완료 타이머들을 완료 상태로 변경
+ * 2. Redis SCARD 파이프라인 한 번으로 온라인 사용자 수 조회
+ * 3. TimerCompletedEvent들을 하나의 Kafka 프로듀서 배치로 발행
+ * 4. 이벤트에 완료 로그가 실려 있으면 이 노드가 실제 완료한 타이머의 로그만 저장
+ *
+ * 실패 처리:
+ * - 완료 업데이트 자체가 실패하면 배치의 완료 로그를 실패로 저장 (미완료로 남은 타이머는 스위퍼가 재처리)
+ * - 완료 이후 단계가 실패해도 이미 저장된 완료/로그는 되돌리지 않고, TIMER_COMPLETED 발행만 제한 횟수 재시도
+ *   (completed=true가 된 타이머는 스위퍼 대상이 아니므로 발행을 포기하면 클라이언트가 완료를 받지 못함)
+ *
+ * 정각에 수천 개의 타이머가 동시에 완료될 때 타이머별 왕복을 배치당 왕복으로 줄임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimerCompletionBatchProcessor {
+
+    private final TimerRepository timerRepository;
+    private final RedisConnectionManager connectionManager;
+    private final KafkaEventPublisher kafkaEventPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimerCompletionLogRepository completionLogRepository;
+    private final TimerCache timerCache;
+
+    @Value("${server.instance.id}")
+    private String serverId;
+
+    @Value("${timer.completion.batch-window-ms:10}")
+    private long batchWindowMs;
+
+    @Value("${timer.completion.batch-max-size:500}")
+    private int batchMaxSize;
+
+    @Value("${timer.completion.publish-max-retries:5}")
+    private int publishMaxRetries;
+
+    // 여러 스케줄러 스레드에서 동시에 emit 하므로 실패 시 잠시 재시도
+    private static final Sinks.EmitFailureHandler EMIT_RETRY = Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Sinks.Many<TimerCompletionEvent> completionSink = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable subscription;
+
+    @PostConstruct
+    public void init() {
+        subscription = completionSink.asFlux()
+                // 앞 배치를 완료 처리하는 동안 만료가 몰려도 오버플로 오류 없이 다음 배치를 모아 둠
+                .bufferTimeout(batchMaxSize, Duration.ofMillis(batchWindowMs), true)
+                .concatMap(events -> {
+                    // 같은 타이머의 만료가 여러 번 들어오면 처음 감지한 로그를 사용
+                    Map<String, TimerCompletionLog> completionLogs = new LinkedHashMap<>();
+                    events.stream()
+                            .filter(event -> event.getCompletionLog() != null)
+                            .forEach(event -> completionLogs.putIfAbsent(event.getTimerId(), event.getCompletionLog()));
+                    List<String> timerIds = events.stream().map(TimerCompletionEvent::getTimerId).toList();
+
+                    return completeBatch(timerIds, completionLogs)
+                            .onErrorResume(error -> {
+                                log.error("❌ 타이머 완료 배치 처리 실패: size={}, error={}",
+                                        timerIds.size(), error.getMessage(), error);
+                                return Mono.empty();
+                            });
+                })
+                .subscribe();
+        log.info("타이머 완료 배치 처리기 시작: batchWindowMs={}, batchMaxSize={}", batchWindowMs, batchMaxSize);
+    }
+
+    /**
+     * 스케줄러 만료 이벤트 리스너
+     * 즉시 처리하지 않고 배치 윈도우에 적재
+     */
+    @EventListener
+    public void handleTimerCompletionEvent(TimerCompletionEvent event) {
+        log.debug("🔔 타이머 완료 이벤트 수신 (배치 적재): timerId={}", event.getTimerId());
+        completionSink.emitNext(event, EMIT_RETRY);
+    }
+
+    /**
+     * 한 배치의 타이머 완료 처리
+     *
+     * @param timerIds 배치 윈도우 동안 수집된 타이머 ID 목록
+     * @return 처리 결과
+     */
+    Mono<Void> completeBatch(List<String> timerIds) {
+        return completeBatch(timerIds, Map.of());
+    }
+
+    /**
+     * 한 배치의 타이머 완료 처리 (완료 로그 포함)
+     * 여러 노드가 같은 만료를 처리해도 조건부 업데이트를 통과한 노드만 성공 로그를 남김
+     *
+     * @param timerIds 배치 윈도우 동안 수집된 타이머 ID 목록
+     * @param completionLogs 타이머 ID별 완료 로그 (로그를 남기지 않는 스케줄러는 비어 있음)
+     * @return 처리 결과
+     */
+    Mono<Void> completeBatch(List<String> timerIds, Map<String, TimerCompletionLog> completionLogs) {
+        List<String> distinctIds = List.copyOf(new LinkedHashSet<>(timerIds));
+        Instant completedAt = Instant.now();
+
+        return timerRepository.completeTimers(distinctIds, completedAt)
+                .collectList()
+                .onErrorResume(error -> {
+                    // 완료 업데이트가 실패한 경우에만 실패 로그 저장
+                    log.error("❌ 타이머 완료 업데이트 실패: size={}, error={}", distinctIds.size(), error.getMessage(), error);
+                    return saveCompletionLogs(completionLogs.values(), false, error.getMessage())
+                            .then(Mono.empty());
+                })
+                .filter(completedTimers -> !completedTimers.isEmpty())
+                .flatMap(completedTimers -> saveCompletionLogs(completedLogs(completedTimers, completionLogs), true, null)
+                        .then(afterCompletion(completedTimers))
+                        .doOnSuccess(v -> log.info("✅ 타이머 완료 배치 처리 성공: requested={}, completed={}",
+                                distinctIds.size(), completedTimers.size())));
+    }
+
+    /**
+     * 완료 이후 처리 (캐시 갱신, 스케줄 취소, TIMER_COMPLETED 발행)
+     * 이미 완료된 타이머이므로 실패해도 완료 로그를 실패로 바꾸지 않음
+     */
+    private Mono<Void> afterCompletion(List<Timer> completedTimers) {
+        // 로컬 캐시는 완료 결과로 바로 갱신 (다른 노드는 TIMER_COMPLETED 이벤트로 무효화)
+        completedTimers.forEach(timerCache::put);
+
+        // 완료된 타이머의 스케줄 취소
+        completedTimers.forEach(timer -> eventPublisher.publishEvent(
+                new TimerScheduleEvent(this, TimerScheduleEvent.Type.CANCEL, timer.getId())));
+
+        List<String> completedIds = completedTimers.stream().map(Timer::getId).toList();
+        return connectionManager.getOnlineUserCounts(completedIds)
+                // 온라인 사용자 수는 부가 정보이므로 조회 실패 시 0으로 발행
+                .onErrorResume(error -> {
+                    log.warn("완료 타이머 온라인 사용자 수 조회 실패: count={}, error={}", completedIds.size(), error.getMessage());
+                    return Mono.just(Map.<String, Long>of());
+                })
+                .flatMap(onlineCounts -> {
+                    List<TimerCompletedEvent> events = completedTimers.stream()
+                            .map(timer -> TimerCompletedEvent.builder()
+                                    .eventId(UUID.randomUUID().toString())
+                                    .timerId(timer.getId())
+                                    .originServerId(serverId)
+                                    .timestamp(Instant.now())
+                                    .completedTargetTime(timer.getTargetTime())
+                                    .ownerId(timer.getOwnerId())
+                                    .onlineUserCount(onlineCounts.getOrDefault(timer.getId(), 0L).intValue())
+                                    .build())
+                            .toList();
+                    // 같은 eventId로 재발행하므로 재시도 중 중복 전달은 eventId로 구분 가능
+                    return Mono.defer(() -> kafkaEventPublisher.publishTimerEvents(events))
+                            .retryWhen(Retry.backoff(publishMaxRetries, Duration.ofMillis(100))
+                                    .doBeforeRetry(signal -> log.warn("TIMER_COMPLETED 발행 재시도: count={}, attempt={}, error={}",
+                                            events.size(), signal.totalRetries() + 1, signal.failure().getMessage())));
+                })
+                .onErrorResume(error -> {
+                    log.error("❌ TIMER_COMPLETED 발행 최종 실패 (타이머는 완료됨): timerIds={}, error={}",
+                            completedIds, error.getMessage(), error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 이번 배치에서 실제로 완료된 타이머의 완료 로그만 선택
+     * 다른 노드가 먼저 완료한 타이머는 로그를 남기지 않음 (노드 수만큼 통계가 부풀려지는 것 방지)
+     */
+    private List<TimerCompletionLog> completedLogs(List<Timer> completedTimers,
+                                                   Map<String, TimerCompletionLog> completionLogs) {
+        if (completionLogs.isEmpty()) {
+            return List.of();
+        }
+        Set<String> completedIds = completedTimers.stream().map(Timer::getId).collect(Collectors.toSet());
+        return completionLogs.entrySet().stream()
+                .filter(entry -> completedIds.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * 완료 로그 일괄 저장
+     * 로그 저장 실패는 타이머 완료 처리에 영향을 주지 않음
+     */
+    private Mono<Void> saveCompletionLogs(Collection<TimerCompletionLog> completionLogs, boolean success, String errorMessage) {
+        if (completionLogs.isEmpty()) {
+            return Mono.empty();
+        }
+        Instant processingCompletedAt = Instant.now();
+        completionLogs.forEach(completionLog -> {
+            completionLog.setLockAcquired(success); // 조건부 업데이트 통과 여부
+            completionLog.setSuccess(success);
+            completionLog.setErrorMessage(errorMessage);
+            completionLog.setProcessingCompletedAt(processingCompletedAt);
+        });
+        return completionLogRepository.saveAll(completionLogs)
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("타이머 완료 로그 저장 실패: count={}, error={}", completionLogs.size(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionSink.tryEmitComplete();
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -1,23 +1,39 @@
 package com.kb.timer.service;
 
+import com.kb.timer.model.entity.SweeperCheckpoint;
 import com.kb.timer.model.entity.Timer;
-import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.repository.SweeperCheckpointRepository;
 import com.kb.timer.repository.TimerCompletionLogRepository;
 import com.kb.timer.repository.TimerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 타이머 완료 모니터링 서비스
- * 누락된 타이머 완료 처리를 감지하고 알림
+ * 누락된 타이머 완료 처리를 증분 스위프로 감지하고 완료 경로로 재처리
+ *
+ * 스위프 방식:
+ * 1. 저장된 high-water mark 이후 ~ (현재 - 유예시간) 구간만 {completed, targetTime} 인덱스로 조회
+ * 2. 한 번의 $in 집계로 완료 로그 상태 확인 (원인 분류용)
+ * 3. 누락 타이머는 TimerCompletionEvent로 재발행하여 정상 완료 경로로 처리
+ * 4. high-water mark는 compare-and-set으로 전진하여 노드 간 중복 스위프 방지
+ * 5. 재발행은 완료를 기다리지 않으므로 mark 뒤쪽 구간(rescan-window-ms)을 매번 다시 검사해
+ *    재처리가 실패한 타이머도 다음 스위프에서 다시 재발행
  */
 @Service
 @RequiredArgsConstructor
@@ -26,134 +42,147 @@ public class TimerCompletionMonitoringService {
 
     private final TimerRepository timerRepository;
     private final TimerCompletionLogRepository completionLogRepository;
+    private final SweeperCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String SWEEPER_ID = "missed-timer-completion";
+
+    @Value("${timer.sweeper.grace-ms:5000}")
+    private long graceMs;
+
+    @Value("${timer.sweeper.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${timer.sweeper.initial-lookback-minutes:5}")
+    private long initialLookbackMinutes;
+
+    @Value("${timer.sweeper.rescan-window-ms:60000}")
+    private long rescanWindowMs;
 
     /**
-     * 누락된 타이머 완료 처리 감지 (1분마다 실행)
-     * 
-     * 감지 로직:
-     * 1. 현재 시간 기준 과거 5분 이내에 완료되어야 했던 타이머들 조회
-     * 2. 해당 타이머들의 완료 로그 존재 여부 확인
-     * 3. 완료 로그가 없거나 실패한 타이머들을 누락으로 판단
+     * 누락된 타이머 완료 처리 감지 및 재처리 (timer.sweeper.interval-ms 주기)
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Scheduled(fixedDelayString = "${timer.sweeper.interval-ms:10000}")
     public void detectMissedTimerCompletions() {
-        Instant now = Instant.now();
-        Instant fiveMinutesAgo = now.minus(5, ChronoUnit.MINUTES);
-        
-        log.debug("누락된 타이머 완료 처리 감지 시작: 검사 범위={} ~ {}", fiveMinutesAgo, now);
-        
-        // 1. 과거 5분 이내에 완료되어야 했던 타이머들 조회
-        timerRepository.findByCompletedFalseAndTargetTimeBefore(now)
-                .filter(timer -> timer.getTargetTime().isAfter(fiveMinutesAgo)) // 5분 이내
-                .collectList()
-                .flatMap(expiredTimers -> {
-                    if (expiredTimers.isEmpty()) {
-                        log.debug("검사 대상 타이머 없음");
-                        return Mono.empty();
-                    }
-                    
-                    log.debug("검사 대상 타이머 {}개 발견", expiredTimers.size());
-                    
-                    // 2. 각 타이머의 완료 로그 확인
-                    return checkTimerCompletionLogs(expiredTimers);
-                })
+        sweepOnce()
                 .doOnError(error -> log.error("누락된 타이머 완료 처리 감지 실패: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
                 .subscribe();
     }
 
     /**
-     * 타이머들의 완료 로그 확인
+     * 한 구간 스위프
      * 
-     * @param expiredTimers 만료된 타이머 목록
-     * @return 처리 결과
+     * @return 재처리한 타이머 수
      */
-    private Mono<Void> checkTimerCompletionLogs(List<Timer> expiredTimers) {
-        return Flux.fromIterable(expiredTimers)
-                .flatMap(timer -> 
-                    completionLogRepository.existsByTimerIdAndSuccessTrue(timer.getId())
-                            .map(hasSuccessfulLog -> new TimerLogStatus(timer, hasSuccessfulLog))
-                )
-                .collectList()
-                .flatMap(this::reportMissedTimers);
+    Mono<Integer> sweepOnce() {
+        Instant until = Instant.now().minusMillis(graceMs);
+
+        return loadCheckpoint()
+                .filter(checkpoint -> checkpoint.getHighWaterMark().isBefore(until))
+                .flatMap(checkpoint -> {
+                    Instant from = checkpoint.getHighWaterMark();
+                    log.debug("누락된 타이머 완료 처리 감지 시작: 검사 범위=({} ~ {}]", from, until);
+
+                    return timerRepository.findIncompleteDueBetween(from, until,
+                                    PageRequest.of(0, batchSize, Sort.by("targetTime")))
+                            .collectList()
+                            .flatMap(dueTimers -> {
+                                Instant next = nextHighWaterMark(from, until, dueTimers);
+                                // 범위 선점에 실패하면 다른 노드가 이미 스위프한 것
+                                return checkpointRepository.advanceHighWaterMark(SWEEPER_ID, from, next)
+                                        .flatMap(claimed -> claimed
+                                                ? findUnconfirmedBehind(from)
+                                                        .flatMap(unconfirmed -> redriveMissedTimers(
+                                                                concat(unconfirmed, dueTimers)))
+                                                : Mono.just(0));
+                            });
+                })
+                .defaultIfEmpty(0);
     }
 
     /**
-     * 누락된 타이머들 보고
-     * 
-     * @param timerLogStatuses 타이머 로그 상태 목록
-     * @return 처리 결과
+     * 이미 지나간 mark 뒤쪽 구간에서 아직 미완료인 타이머 조회
+     * 이전 스위프의 재발행이 완료되지 못한 타이머를 다시 재발행하기 위함
      */
-    private Mono<Void> reportMissedTimers(List<TimerLogStatus> timerLogStatuses) {
-        List<Timer> missedTimers = timerLogStatuses.stream()
-                .filter(status -> !status.hasSuccessfulLog)
-                .map(status -> status.timer)
-                .toList();
-        
-        if (missedTimers.isEmpty()) {
-            log.debug("누락된 타이머 없음 - 모든 타이머가 정상 처리됨");
-            return Mono.empty();
+    private Mono<List<Timer>> findUnconfirmedBehind(Instant from) {
+        if (rescanWindowMs <= 0) {
+            return Mono.just(List.of());
         }
-        
-        // 누락된 타이머들 에러 로그 출력
-        log.error("누락된 타이머 완료 처리 감지! 총 {}개 타이머", missedTimers.size());
-        
-        for (Timer missedTimer : missedTimers) {
-            Instant targetTime = missedTimer.getTargetTime();
-            Instant now = Instant.now();
-            long delayMinutes = ChronoUnit.MINUTES.between(targetTime, now);
-            
-            log.error("❌ 누락된 타이머: timerId={}, targetTime={}, 지연시간={}분, ownerId={}", 
-                    missedTimer.getId(), 
-                    targetTime, 
-                    delayMinutes,
-                    missedTimer.getOwnerId());
+        return timerRepository.findIncompleteDueBetween(from.minusMillis(rescanWindowMs), from,
+                        PageRequest.of(0, batchSize, Sort.by("targetTime")))
+                .collectList();
+    }
+
+    private static List<Timer> concat(List<Timer> first, List<Timer> second) {
+        if (first.isEmpty()) {
+            return second;
         }
-        
-        // 상세 분석을 위한 추가 로그
-        return analyzeFailureReasons(missedTimers);
+        List<Timer> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        return merged;
     }
 
     /**
-     * 실패 원인 분석
+     * 다음 high-water mark 계산
+     * 배치가 가득 찬 경우 마지막 targetTime 직전까지만 전진 (같은 시각의 나머지 타이머를 다음 실행에서 검사)
+     */
+    private Instant nextHighWaterMark(Instant from, Instant until, List<Timer> dueTimers) {
+        if (dueTimers.size() < batchSize) {
+            return until;
+        }
+        Instant lastTargetTime = dueTimers.get(dueTimers.size() - 1).getTargetTime();
+        Instant next = lastTargetTime.minusMillis(1);
+        // 한 밀리초에 배치 크기 이상의 타이머가 몰린 경우 진행이 멈추지 않도록 보정
+        return next.isAfter(from) ? next : lastTargetTime;
+    }
+
+    /**
+     * 체크포인트 조회 (없으면 초기 lookback으로 생성)
+     */
+    private Mono<SweeperCheckpoint> loadCheckpoint() {
+        return checkpointRepository.findById(SWEEPER_ID)
+                .switchIfEmpty(Mono.defer(() -> checkpointRepository.insert(SweeperCheckpoint.builder()
+                                .id(SWEEPER_ID)
+                                .highWaterMark(Instant.now().minus(initialLookbackMinutes, ChronoUnit.MINUTES))
+                                .updatedAt(Instant.now())
+                                .build())
+                        .onErrorResume(DuplicateKeyException.class, e -> checkpointRepository.findById(SWEEPER_ID))));
+    }
+
+    /**
+     * 누락된 타이머 재처리
+     * 완료 로그를 한 번의 집계로 확인해 원인을 분류한 뒤 완료 이벤트 재발행
      * 
-     * @param missedTimers 누락된 타이머 목록
-     * @return 분석 결과
+     * @param missedTimers 목표 시각이 지났지만 미완료인 타이머 목록
+     * @return 재처리한 타이머 수
      */
-    private Mono<Void> analyzeFailureReasons(List<Timer> missedTimers) {
-        return Flux.fromIterable(missedTimers)
-                .flatMap(timer -> 
-                    completionLogRepository.findByTimerId(timer.getId())
-                            .collectList()
-                            .map(logs -> new TimerAnalysis(timer, logs))
-                )
-                .collectList()
-                .doOnNext(analyses -> {
-                    log.error("📊 누락 타이머 상세 분석:");
-                    
-                    for (TimerAnalysis analysis : analyses) {
-                        Timer timer = analysis.timer;
-                        List<TimerCompletionLog> logs = analysis.completionLogs;
-                        
-                        if (logs.isEmpty()) {
-                            log.error("  - timerId={}: Keyspace Notification 자체를 받지 못함 (Redis 연결 문제 가능성)", 
-                                    timer.getId());
-                        } else {
-                            TimerCompletionLog latestLog = logs.get(logs.size() - 1);
-                            
-                            if (!latestLog.isLockAcquired()) {
-                                log.error("  - timerId={}: 분산 락 획득 실패 (다른 서버에서 처리 중이었으나 실패)", 
-                                        timer.getId());
-                            } else if (!latestLog.isSuccess()) {
-                                log.error("  - timerId={}: 처리 시도했으나 실패 - {}", 
-                                        timer.getId(), latestLog.getErrorMessage());
-                            } else {
-                                log.error("  - timerId={}: 로그상 성공이지만 Timer 엔티티 미업데이트 (데이터 불일치)", 
-                                        timer.getId());
-                            }
-                        }
+    private Mono<Integer> redriveMissedTimers(List<Timer> missedTimers) {
+        if (missedTimers.isEmpty()) {
+            log.debug("누락된 타이머 없음 - 모든 타이머가 정상 처리됨");
+            return Mono.just(0);
+        }
+
+        List<String> timerIds = missedTimers.stream().map(Timer::getId).toList();
+
+        return completionLogRepository.findTimerIdsWithSuccessfulLog(timerIds)
+                .collect(Collectors.toSet())
+                .map(timerIdsWithSuccessLog -> {
+                    long inconsistent = timerIds.stream().filter(timerIdsWithSuccessLog::contains).count();
+                    log.error("누락된 타이머 완료 처리 감지! 총 {}개 타이머 재처리 (알림 미수신/실패 {}개, 로그상 성공이나 미완료 {}개)",
+                            missedTimers.size(), missedTimers.size() - inconsistent, inconsistent);
+
+                    for (Timer missedTimer : missedTimers) {
+                        log.warn("❌ 누락된 타이머 재처리: timerId={}, targetTime={}, 지연시간={}초, successLog={}",
+                                missedTimer.getId(),
+                                missedTimer.getTargetTime(),
+                                ChronoUnit.SECONDS.between(missedTimer.getTargetTime(), Instant.now()),
+                                timerIdsWithSuccessLog.contains(missedTimer.getId()));
+                        eventPublisher.publishEvent(new TimerCompletionEvent(this, missedTimer.getId()));
                     }
-                })
-                .then();
+                    return missedTimers.size();
+                });
     }
 
     /**
@@ -176,32 +205,6 @@ public class TimerCompletionMonitoringService {
                 .build());
     }
 
-    /**
-     * 타이머 로그 상태 내부 클래스
-     */
-    private static class TimerLogStatus {
-        final Timer timer;
-        final boolean hasSuccessfulLog;
-        
-        TimerLogStatus(Timer timer, boolean hasSuccessfulLog) {
-            this.timer = timer;
-            this.hasSuccessfulLog = hasSuccessfulLog;
-        }
-    }
-
-    /**
-     * 타이머 분석 내부 클래스
-     */
-    private static class TimerAnalysis {
-        final Timer timer;
-        final List<TimerCompletionLog> completionLogs;
-        
-        TimerAnalysis(Timer timer, List<TimerCompletionLog> completionLogs) {
-            this.timer = timer;
-            this.completionLogs = completionLogs;
-        }
-    }
-
     /**
      * 완료 통계 정보
      */
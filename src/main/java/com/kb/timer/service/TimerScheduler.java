@@ -0,0 +1,60 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.event.TimerScheduleEvent;
+
+import java.util.List;
+
+/**
+ * 타이머 스케줄러 엔진 공통 인터페이스
+ * timer.scheduler.engine 설정값에 따라 하나의 구현체만 빈으로 등록됨
+ * - redis-ttl: Redis TTL + Keyspace Notifications (RedisTTLSchedulerService)
+ * - timing-wheel: 인프로세스 계층형 타이밍 휠 (TimingWheelSchedulerService)
+ * - redis-zset: 샤드별 Redis Sorted Set due-queue + Lua 배치 선점 (RedisDueQueueSchedulerService)
+ */
+public interface TimerScheduler {
+
+    /**
+     * 타이머 스케줄 등록
+     *
+     * @param timer 타이머 정보
+     */
+    void scheduleTimer(Timer timer);
+
+    /**
+     * 여러 타이머 스케줄 일괄 등록 (대량 생성용)
+     * 기본 구현은 타이머마다 scheduleTimer를 호출하며, Redis 기반 구현체는 한 번의 왕복으로 등록하도록 재정의
+     *
+     * @param timers 타이머 목록
+     */
+    default void scheduleTimers(List<Timer> timers) {
+        timers.forEach(this::scheduleTimer);
+    }
+
+    /**
+     * 타이머 스케줄 업데이트 (기존 스케줄 제거 후 재등록)
+     *
+     * @param timer 업데이트된 타이머 정보
+     */
+    void updateTimerSchedule(Timer timer);
+
+    /**
+     * 타이머 스케줄 취소
+     *
+     * @param timerId 타이머 ID
+     */
+    void cancelTimerSchedule(String timerId);
+
+    /**
+     * TimerService에서 발행하는 스케줄 이벤트 처리
+     * 구현체에서 @EventListener로 등록해야 함
+     *
+     * @param event 스케줄 이벤트
+     */
+    void handleTimerScheduleEvent(TimerScheduleEvent event);
+
+    /**
+     * 스케줄러 종료 처리
+     */
+    void shutdown();
+}
@@ -1,24 +1,26 @@
 package com.kb.timer.service;
 
+import com.kb.timer.model.dto.CreateTimerRequest;
 import com.kb.timer.model.dto.TimerResponse;
+import com.kb.timer.model.dto.TimerTick;
+import com.kb.timer.model.dto.TimestampHistoryCursor;
+import com.kb.timer.model.dto.TimestampHistoryPage;
 import com.kb.timer.model.entity.Timer;
 import com.kb.timer.model.entity.TimestampEntry;
 import com.kb.timer.model.event.*;
-import com.kb.timer.model.event.TimerCompletionEvent;
 import com.kb.timer.repository.TimerRepository;
 import com.kb.timer.repository.TimestampEntryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -35,9 +37,23 @@ public class TimerService {
     private final TimestampEntryRepository timestampRepository;
     private final KafkaEventPublisher kafkaEventPublisher;
     private final RedisConnectionManager connectionManager;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OnlineUserCountCoalescer onlineUserCountCoalescer;
+    private final TimerCache timerCache;
+    private final RequestCollapser requestCollapser;
     private final ApplicationEventPublisher eventPublisher;
     
+    @Value("${timer.batch-create.chunk-size:500}")
+    private int batchCreateChunkSize;
+    
+    @Value("${timer.batch-create.chunk-window-ms:100}")
+    private long batchCreateChunkWindowMs;
+    
+    @Value("${timer.history.default-page-size:100}")
+    private int historyDefaultPageSize;
+    
+    @Value("${timer.history.max-page-size:1000}")
+    private int historyMaxPageSize;
+    
     @Value("${server.instance.id}")
     private String serverId;
 
@@ -48,49 +64,79 @@ public class TimerService {
      * @return 타이머 정보
      */
     public Mono<TimerResponse> createTimer(long targetTimeSeconds, String ownerId) {
-        String timerId = UUID.randomUUID().toString();
-        String shareToken = UUID.randomUUID().toString();
         Instant now = Instant.now();
-        Instant targetTime = now.plusSeconds(targetTimeSeconds);
+        Timer timer = newTimer(targetTimeSeconds, ownerId, now);
 
-        log.info("새 타이머 생성: {} (목표: {}초, 소유자: {})", timerId, targetTimeSeconds, ownerId);
-
-        Timer timer = Timer.builder()
-                .id(timerId)
-                .ownerId(ownerId)
-                .targetTime(targetTime)
-                .createdAt(now)
-                .updatedAt(now)
-                .completed(false)
-                .shareToken(shareToken)
-                .build();
+        log.info("새 타이머 생성: {} (목표: {}초, 소유자: {})", timer.getId(), targetTimeSeconds, ownerId);
 
         return timerRepository.save(timer)
                 .doOnNext(savedTimer -> {
+                    timerCache.put(savedTimer);
+                    
                     // 타이머 스케줄 등록 이벤트 발행
                     eventPublisher.publishEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.SCHEDULE, savedTimer));
                     log.info("타이머 생성 및 스케줄 등록 이벤트 발행 완료: timerId={}", savedTimer.getId());
                 })
-                .map(savedTimer -> {
-                    // 남은 시간 계산 (음수가 되지 않도록 처리)
-                    Duration remainingTime = Duration.between(now, savedTimer.getTargetTime());
-                    if (remainingTime.isNegative()) {
-                        remainingTime = Duration.ZERO;
-                    }
-                    
-                    return TimerResponse.builder()
-                            .timerId(savedTimer.getId())
-                            .targetTime(savedTimer.getTargetTime())
-                            .serverTime(now)
-                            .remainingTime(remainingTime)
-                            .completed(savedTimer.isCompleted() || remainingTime.isZero())
-                            .ownerId(savedTimer.getOwnerId())
-                            .onlineUserCount(0) // 새로 생성된 타이머는 아직 접속자 없음
-                            .shareToken(generateShareUrl(savedTimer.getShareToken()))
-                            .userRole("OWNER")
-                            .createdAt(savedTimer.getCreatedAt()) // 생성 시각 추가
-                            .build();
-                });
+                .map(savedTimer -> toCreatedResponse(savedTimer, now));
+    }
+
+    /**
+     * 여러 타이머 일괄 생성 (수업 단위 대량 생성용)
+     * 요청을 청크로 묶어 청크마다 insertMany 한 번, 스케줄 일괄 등록 이벤트 한 번으로 처리하고
+     * 저장된 청크부터 순서대로 응답을 내보냄
+     *
+     * @param requests 생성 요청 스트림 (JSON 배열 또는 NDJSON)
+     * @return 생성된 타이머 정보 스트림 (요청 순서 유지)
+     */
+    public Flux<TimerResponse> createTimers(Flux<CreateTimerRequest> requests) {
+        return requests
+                .map(request -> newTimer(request.getTargetTimeSeconds(), request.getOwnerId(), Instant.now()))
+                // 앞 청크를 저장하는 동안 요청 스트림이 계속 들어와도 오버플로 오류 없이 다음 청크를 모아 둠
+                .bufferTimeout(batchCreateChunkSize, Duration.ofMillis(batchCreateChunkWindowMs), true)
+                .concatMap(timers -> timerRepository.insert(timers)
+                        .collectList()
+                        .doOnNext(savedTimers -> {
+                            savedTimers.forEach(timerCache::put);
+
+                            // 청크 단위 스케줄 일괄 등록 이벤트 발행
+                            eventPublisher.publishEvent(new TimerScheduleEvent(this, savedTimers));
+                            log.info("타이머 일괄 생성 및 스케줄 등록 이벤트 발행 완료: count={}", savedTimers.size());
+                        })
+                        .flatMapIterable(savedTimers -> savedTimers))
+                .map(savedTimer -> toCreatedResponse(savedTimer, savedTimer.getCreatedAt()));
+    }
+
+    private Timer newTimer(long targetTimeSeconds, String ownerId, Instant now) {
+        return Timer.builder()
+                .id(UUID.randomUUID().toString())
+                .ownerId(ownerId)
+                .targetTime(now.plusSeconds(targetTimeSeconds))
+                .createdAt(now)
+                .updatedAt(now)
+                .completed(false)
+                .shareToken(UUID.randomUUID().toString())
+                .build();
+    }
+
+    private TimerResponse toCreatedResponse(Timer savedTimer, Instant now) {
+        // 남은 시간 계산 (음수가 되지 않도록 처리)
+        Duration remainingTime = Duration.between(now, savedTimer.getTargetTime());
+        if (remainingTime.isNegative()) {
+            remainingTime = Duration.ZERO;
+        }
+        
+        return TimerResponse.builder()
+                .timerId(savedTimer.getId())
+                .targetTime(savedTimer.getTargetTime())
+                .serverTime(now)
+                .remainingTime(remainingTime)
+                .completed(savedTimer.isCompleted() || remainingTime.isZero())
+                .ownerId(savedTimer.getOwnerId())
+                .onlineUserCount(0) // 새로 생성된 타이머는 아직 접속자 없음
+                .shareToken(generateShareUrl(savedTimer.getShareToken()))
+                .userRole("OWNER")
+                .createdAt(savedTimer.getCreatedAt()) // 생성 시각 추가
+                .build();
     }
 
     /**
@@ -103,11 +149,12 @@ public class TimerService {
         log.debug("타이머 정보 조회: {}", timerId);
         Instant now = Instant.now();
         
-        return timerRepository.findById(timerId)
+        return requestCollapser.execute(RequestCollapser.OPERATION_TIMER_BY_ID, timerId,
+                        () -> timerCache.findById(timerId))
                 .switchIfEmpty(Mono.error(new RuntimeException("타이머를 찾을 수 없습니다: " + timerId)))
                 .flatMap(timer -> {
-                    // 온라인 사용자 수 조회 (Redis)
-                    return connectionManager.getOnlineUserCount(timerId)
+                    // 온라인 사용자 수 조회 (Redis, 동시 요청은 한 번의 SCARD로 병합)
+                    return getOnlineUserCountCollapsed(timerId)
                             .defaultIfEmpty(0L)
                             .map(onlineCount -> {
                                 // 남은 시간 계산 (음수가 되지 않도록 처리)
@@ -133,6 +180,27 @@ public class TimerService {
                 });
     }
 
+    /**
+     * 타이머 상태 틱 조회 (틱 스트림 구독 시 초기값)
+     * @param timerId 타이머 ID
+     * @return 상태 틱
+     */
+    public Mono<TimerTick> getTimerTick(String timerId) {
+        return requestCollapser.execute(RequestCollapser.OPERATION_TIMER_BY_ID, timerId,
+                        () -> timerCache.findById(timerId))
+                .switchIfEmpty(Mono.error(new RuntimeException("타이머를 찾을 수 없습니다: " + timerId)))
+                .map(timer -> {
+                    Instant lastChangedAt = timer.isCompleted() && timer.getCompletedAt() != null
+                            ? timer.getCompletedAt()
+                            : (timer.getUpdatedAt() != null ? timer.getUpdatedAt() : timer.getCreatedAt());
+                    return TimerTick.builder()
+                            .targetTimeMs(timer.getTargetTime().toEpochMilli())
+                            .version(lastChangedAt != null ? lastChangedAt.toEpochMilli() : 0L)
+                            .completed(timer.isCompleted())
+                            .build();
+                });
+    }
+
     /**
      * 타이머의 목표 시간을 변경합니다.
      * @param timerId 타이머 ID
@@ -144,6 +212,7 @@ public class TimerService {
         log.info("타이머 목표 시간 변경: {} - 새로운 목표: {} (변경자: {})",
                 timerId, newTargetTime, changedBy);
 
+        // 권한 확인용 조회 (문서 변경은 아래 조건부 업데이트로만 수행)
         return timerRepository.findById(timerId)
                 .switchIfEmpty(Mono.error(new RuntimeException("타이머를 찾을 수 없습니다: " + timerId)))
                 .flatMap(timer -> {
@@ -152,20 +221,24 @@ public class TimerService {
                         return Mono.error(new RuntimeException("타이머 소유자만 목표 시간을 변경할 수 있습니다."));
                     }
 
-                    Instant oldTargetTime = timer.getTargetTime();
                     Instant now = Instant.now();
                     
-                    // 타이머 업데이트
-                    timer.setTargetTime(newTargetTime);
-                    timer.setUpdatedAt(now);
-                    
-                    return timerRepository.save(timer)
-                            .doOnNext(updatedTimer -> {
+                    // 미완료 타이머의 targetTime/updatedAt만 변경
+                    // (전체 문서 save는 그 사이 완료 처리된 completed=true를 false로 덮어쓸 수 있음)
+                    return timerRepository.changeTargetTimeIfPending(timerId, newTargetTime, now)
+                            .switchIfEmpty(Mono.error(new RuntimeException("이미 완료된 타이머는 목표 시간을 변경할 수 없습니다: " + timerId)))
+                            .flatMap(updatedTimer -> {
+                                // 변경 전 문서로 이전 목표 시간을 얻은 뒤 변경 내용 반영
+                                Instant oldTargetTime = updatedTimer.getTargetTime();
+                                updatedTimer.setTargetTime(newTargetTime);
+                                updatedTimer.setUpdatedAt(now);
+                                
+                                timerCache.put(updatedTimer);
+                                
                                 // 타이머 스케줄 업데이트 이벤트 발행
                                 eventPublisher.publishEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.UPDATE, updatedTimer));
                                 log.info("타이머 목표 시간 변경 및 스케줄 업데이트 이벤트 발행 완료: timerId={}", updatedTimer.getId());
-                            })
-                            .flatMap(updatedTimer -> {
+                                
                                 // 이벤트 발행
                                 TargetTimeChangedEvent event = TargetTimeChangedEvent.builder()
                                         .eventId(UUID.randomUUID().toString())
@@ -214,12 +287,13 @@ public class TimerService {
         log.debug("공유 토큰으로 타이머 정보 조회: shareToken={}, userId={}", shareToken, userId);
         Instant now = Instant.now();
         
-        return timerRepository.findByShareToken(shareToken)
+        return requestCollapser.execute(RequestCollapser.OPERATION_TIMER_BY_SHARE_TOKEN, shareToken,
+                        () -> timerCache.findByShareToken(shareToken))
                 .switchIfEmpty(Mono.error(new RuntimeException("유효하지 않은 공유 링크입니다: " + shareToken)))
                 .flatMap(timer -> {
                     log.debug("타이머 찾음: timerId={}, targetTime={}", timer.getId(), timer.getTargetTime());
-                    // 온라인 사용자 수 조회 (Redis)
-                    return connectionManager.getOnlineUserCount(timer.getId())
+                    // 온라인 사용자 수 조회 (Redis, 동시 요청은 한 번의 SCARD로 병합)
+                    return getOnlineUserCountCollapsed(timer.getId())
                             .defaultIfEmpty(0L)
                             .map(onlineCount -> {
                                 // 남은 시간 계산 (음수가 되지 않도록 처리)
@@ -246,34 +320,70 @@ public class TimerService {
     }
 
     /**
-     * 특정 타이머의 모든 타임스탬프 기록을 조회합니다. (현재 시각 기준 오름차순)
+     * 타임스탬프 히스토리를 (createdAt, id) 키셋 기준으로 한 페이지씩 조회합니다.
+     * 페이지 크기를 넘는 엔트리는 메모리에 올리지 않으며, 다음 페이지는 nextCursor로 이어서 조회
+     *
      * @param timerId 타이머 ID
-     * @return 타임스탬프 엔트리 목록
+     * @param userId 사용자 ID (null이면 타이머 전체)
+     * @param after 이전 페이지의 nextCursor (null이면 처음부터)
+     * @param limit 페이지 크기 (0 이하면 기본값, 최대값으로 제한)
+     * @param includeMetadata metadata 필드 포함 여부
+     * @return 히스토리 페이지
      */
-    public Flux<TimestampEntry> getTimerHistory(String timerId) {
-        log.debug("타임스탬프 목록 조회: {}", timerId);
-        return timestampRepository.findByTimerIdOrderByCreatedAtAsc(timerId)
-                .doOnNext(entry -> log.debug("타임스탬프 조회: {} - 사용자: {}, 시간: {}", 
-                        entry.getTimerId(), entry.getUserId(), entry.getTargetTime()))
-                .doOnError(e -> log.error("타임스탬프 목록 조회 실패: timerId={}. Error: {}", timerId, e.getMessage(), e));
+    public Mono<TimestampHistoryPage> getTimerHistoryPage(String timerId, String userId, String after,
+                                                          int limit, boolean includeMetadata) {
+        int pageSize = limit <= 0 ? historyDefaultPageSize : Math.min(limit, historyMaxPageSize);
+        TimestampHistoryCursor cursor = after != null ? TimestampHistoryCursor.decode(after) : null;
+        log.debug("타임스탬프 히스토리 페이지 조회: timerId={}, userId={}, after={}, pageSize={}",
+                timerId, userId, after, pageSize);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        return timestampRepository.findHistoryAfter(timerId, userId, cursor, pageSize + 1, includeMetadata)
+                .collectList()
+                .map(entries -> {
+                    if (entries.size() <= pageSize) {
+                        return TimestampHistoryPage.builder().entries(entries).build();
+                    }
+                    List<TimestampEntry> page = entries.subList(0, pageSize);
+                    TimestampEntry last = page.get(pageSize - 1);
+                    return TimestampHistoryPage.builder()
+                            .entries(page)
+                            .nextCursor(new TimestampHistoryCursor(last.getCreatedAt(), last.getId()).encode())
+                            .build();
+                })
+                .doOnError(e -> log.error("타임스탬프 히스토리 페이지 조회 실패: timerId={}, userId={}. Error: {}",
+                        timerId, userId, e.getMessage(), e));
     }
 
     /**
-     * 특정 사용자의 타임스탬프 히스토리를 조회합니다.
-     * 
+     * 타임스탬프 히스토리를 (createdAt, id) 오름차순으로 스트리밍합니다.
+     * MongoDB 커서를 구독자 요청량만큼만 읽으므로 히스토리 크기와 관계없이 메모리 사용량이 일정
+     *
      * @param timerId 타이머 ID
-     * @param userId 사용자 ID
-     * @return 사용자별 타임스탬프 엔트리 목록
+     * @param userId 사용자 ID (null이면 타이머 전체)
+     * @param after 이 커서 이후부터 스트리밍 (null이면 처음부터)
+     * @param includeMetadata metadata 필드 포함 여부
+     * @return 타임스탬프 엔트리 스트림
      */
-    public Flux<TimestampEntry> getUserTimerHistory(String timerId, String userId) {
-        log.debug("사용자별 타임스탬프 목록 조회: timerId={}, userId={}", timerId, userId);
-        return timestampRepository.findByTimerIdAndUserIdOrderByCreatedAtAsc(timerId, userId)
-                .doOnNext(entry -> log.debug("사용자 타임스탬프 조회: {} - 사용자: {}, 시간: {}", 
-                        entry.getTimerId(), entry.getUserId(), entry.getTargetTime()))
-                .doOnError(e -> log.error("사용자별 타임스탬프 목록 조회 실패: timerId={}, userId={}. Error: {}", 
+    public Flux<TimestampEntry> streamTimerHistory(String timerId, String userId, String after, boolean includeMetadata) {
+        TimestampHistoryCursor cursor = after != null ? TimestampHistoryCursor.decode(after) : null;
+        log.debug("타임스탬프 히스토리 스트리밍: timerId={}, userId={}, after={}", timerId, userId, after);
+
+        return timestampRepository.findHistoryAfter(timerId, userId, cursor, 0, includeMetadata)
+                .doOnError(e -> log.error("타임스탬프 히스토리 스트리밍 실패: timerId={}, userId={}. Error: {}",
                         timerId, userId, e.getMessage(), e));
     }
 
+    /**
+     * 같은 타이머에 대한 동시 온라인 사용자 수 조회를 하나로 병합
+     * @param timerId 타이머 ID
+     * @return 온라인 사용자 수
+     */
+    private Mono<Long> getOnlineUserCountCollapsed(String timerId) {
+        return requestCollapser.execute(RequestCollapser.OPERATION_ONLINE_USER_COUNT, timerId,
+                () -> connectionManager.getOnlineUserCount(timerId));
+    }
+
     /**
      * 공유 URL 생성
      * @param shareToken 공유 토큰
@@ -324,7 +434,7 @@ public class TimerService {
                             .originServerId(serverId)
                             .timestamp(now)
                             .build();
-                    return kafkaEventPublisher.publishTimerEvent(event)
+                    return kafkaEventPublisher.publishEvent(event)
                             .thenReturn(savedEntry);
                 })
                 .doOnSuccess(entry -> log.info("New timestamp saved for timerId: {}, userId: {}, entryId: {}, remainingTime: {}ms", 
@@ -337,9 +447,12 @@ public class TimerService {
      *
      * @param timerId 타이머 ID
      * @param userId  사용자 ID
+     * @param onlineCount 연결 기록 후 온라인 사용자 수 (RedisConnectionManager.recordUserConnection 결과)
      * @return 발행 결과
      */
-    public Mono<Void> publishUserJoinedEvent(String timerId, String userId) {
+    public Mono<Void> publishUserJoinedEvent(String timerId, String userId, long onlineCount) {
+        // Kafka 발행을 기다리는 동안 기록된 퇴장이 기준값에 덮이지 않도록 발행 전에 관측 시점 표시
+        long observedAt = onlineUserCountCoalescer.observationMark();
         UserJoinedEvent event = UserJoinedEvent.builder()
                 .eventId(UUID.randomUUID().toString())
                 .timerId(timerId)
@@ -351,38 +464,7 @@ public class TimerService {
         return kafkaEventPublisher.publishUserActionEvent(event)
                 .doOnSuccess(result -> log.info("UserJoinedEvent published for timerId: {}, userId: {}", timerId, userId))
                 .doOnError(e -> log.error("Failed to publish UserJoinedEvent for timerId: {}, userId: {}. Error: {}", timerId, userId, e.getMessage(), e))
-                .then(broadcastOnlineUserCountUpdate(timerId)); // 온라인 사용자 수 업데이트 브로드캐스트
-    }
-
-    /**
-     * 온라인 사용자 수 업데이트를 모든 클라이언트에게 브로드캐스트
-     * 
-     * @param timerId 타이머 ID
-     * @return 브로드캐스트 결과
-     */
-    private Mono<Void> broadcastOnlineUserCountUpdate(String timerId) {
-        return connectionManager.getOnlineUserCount(timerId)
-                .defaultIfEmpty(0L)
-                .flatMap(onlineCount -> {
-                    log.info("온라인 사용자 수 브로드캐스트: timerId={}, count={}", timerId, onlineCount);
-                    
-                    // WebSocket을 통해 모든 구독자에게 온라인 사용자 수 업데이트 전송
-                    Map<String, Object> updateMessage = Map.of(
-                        "eventType", "ONLINE_USER_COUNT_UPDATED",
-                        "timerId", timerId,
-                        "onlineUserCount", onlineCount.intValue(),
-                        "timestamp", Instant.now().toString()
-                    );
-                    
-                    try {
-                        messagingTemplate.convertAndSend("/topic/timer/" + timerId, updateMessage);
-                        log.info("✅ 온라인 사용자 수 브로드캐스트 전송 완료: /topic/timer/{}, message={}", timerId, updateMessage);
-                    } catch (Exception e) {
-                        log.error("❌ 온라인 사용자 수 브로드캐스트 전송 실패: timerId={}, error={}", timerId, e.getMessage(), e);
-                    }
-                    return Mono.empty();
-                })
-                .then();
+                .then(Mono.fromRunnable(() -> onlineUserCountCoalescer.onUserJoined(timerId, onlineCount, observedAt))); // 온라인 사용자 수 업데이트 (추가 SCARD 없이 윈도우 단위 병합)
     }
 
     /**
@@ -403,7 +485,7 @@ public class TimerService {
         return kafkaEventPublisher.publishUserActionEvent(event)
                 .doOnSuccess(result -> log.info("UserLeftEvent published for timerId: {}, userId: {}", timerId, userId))
                 .doOnError(e -> log.error("Failed to publish UserLeftEvent for timerId: {}, userId: {}. Error: {}", timerId, userId, e.getMessage(), e))
-                .then(broadcastOnlineUserCountUpdate(timerId)); // 온라인 사용자 수 업데이트 브로드캐스트
+                .then(Mono.fromRunnable(() -> onlineUserCountCoalescer.onUserLeft(timerId))); // 온라인 사용자 수 업데이트 (윈도우 단위 병합)
     }
 
     /**
@@ -420,75 +502,55 @@ public class TimerService {
     }
 
     /**
-     * 타이머 완료 이벤트를 발행합니다.
+     * 타이머 완료 이벤트를 발행합니다. (사용자의 수동 완료 요청)
+     * 목표 시각 전이어도 완료 처리하며, 스케줄러 경로의 만료 완료는 TimerCompletionBatchProcessor가 담당
      *
      * @param timerId 타이머 ID
      * @return 발행 결과
      */
     public Mono<Void> publishTimerCompletedEvent(String timerId) {
-        return timerRepository.findById(timerId)
-                .switchIfEmpty(Mono.error(new RuntimeException("타이머를 찾을 수 없습니다: " + timerId)))
-                .flatMap(timer -> {
-                    // 이미 완료된 타이머인 경우 중복 처리 방지
-                    if (timer.isCompleted()) {
-                        log.info("타이머가 이미 완료됨: timerId={}", timerId);
-                        return Mono.empty();
-                    }
+        // 조건부 원자적 업데이트로 완료 처리 (이미 완료됐으면 empty)
+        return timerRepository.completeIfPending(timerId, Instant.now())
+                .switchIfEmpty(Mono.defer(() -> timerRepository.existsById(timerId)
+                        .flatMap(exists -> {
+                            if (!exists) {
+                                return Mono.error(new RuntimeException("타이머를 찾을 수 없습니다: " + timerId));
+                            }
+                            // 중복 처리 방지
+                            log.info("타이머가 이미 완료됨: timerId={}", timerId);
+                            return Mono.empty();
+                        })))
+                .doOnNext(completedTimer -> {
+                    timerCache.put(completedTimer);
                     
-                    // 타이머를 완료 상태로 업데이트
-                    Instant now = Instant.now();
-                    timer.setCompleted(true);
-                    timer.setCompletedAt(now);
-                    timer.setUpdatedAt(now);
-                    
-                    return timerRepository.save(timer)
-                            .doOnNext(savedTimer -> {
-                                // 타이머 완료 시 스케줄 취소 이벤트 발행
-                                eventPublisher.publishEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.CANCEL, savedTimer.getId()));
-                                log.info("타이머 완료 및 스케줄 취소 이벤트 발행: timerId={}", savedTimer.getId());
-                            })
-                            .flatMap(savedTimer -> {
-                                // 온라인 사용자 수 조회
-                                return connectionManager.getOnlineUserCount(timerId)
-                                        .defaultIfEmpty(0L)
-                                        .flatMap(onlineCount -> {
-                                            // 완료 이벤트 생성 및 발행
-                                            TimerCompletedEvent event = TimerCompletedEvent.builder()
-                                                    .eventId(UUID.randomUUID().toString())
-                                                    .timerId(timerId)
-                                                    .originServerId(serverId)
-                                                    .timestamp(Instant.now())
-                                                    .completedTargetTime(savedTimer.getTargetTime())
-                                                    .ownerId(savedTimer.getOwnerId())
-                                                    .onlineUserCount(onlineCount.intValue())
-                                                    .build();
-                                            
-                                            return kafkaEventPublisher.publishTimerEvent(event)
-                                                    .doOnSuccess(result -> log.info("TimerCompletedEvent published for timerId: {}", timerId))
-                                                    .doOnError(e -> log.error("Failed to publish TimerCompletedEvent for timerId: {}. Error: {}", timerId, e.getMessage(), e));
-                                        });
+                    // 타이머 완료 시 스케줄 취소 이벤트 발행
+                    eventPublisher.publishEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.CANCEL, completedTimer.getId()));
+                    log.info("타이머 완료 및 스케줄 취소 이벤트 발행: timerId={}", completedTimer.getId());
+                })
+                .flatMap(completedTimer -> {
+                    // 온라인 사용자 수 조회
+                    return connectionManager.getOnlineUserCount(timerId)
+                            .defaultIfEmpty(0L)
+                            .flatMap(onlineCount -> {
+                                // 완료 이벤트 생성 및 발행
+                                TimerCompletedEvent event = TimerCompletedEvent.builder()
+                                        .eventId(UUID.randomUUID().toString())
+                                        .timerId(timerId)
+                                        .originServerId(serverId)
+                                        .timestamp(Instant.now())
+                                        .completedTargetTime(completedTimer.getTargetTime())
+                                        .ownerId(completedTimer.getOwnerId())
+                                        .onlineUserCount(onlineCount.intValue())
+                                        .build();
+                                
+                                return kafkaEventPublisher.publishTimerEvent(event)
+                                        .doOnSuccess(result -> log.info("TimerCompletedEvent published for timerId: {}", timerId))
+                                        .doOnError(e -> log.error("Failed to publish TimerCompletedEvent for timerId: {}. Error: {}", timerId, e.getMessage(), e));
                             });
                 })
                 .then();
     }
     
-    /**
-     * TTL 만료로 인한 타이머 완료 이벤트 리스너
-     * RedisTTLSchedulerService에서 발행하는 이벤트를 처리
-     */
-    @EventListener
-    public void handleTimerCompletionEvent(TimerCompletionEvent event) {
-        String timerId = event.getTimerId();
-        log.info("🔔 TTL 만료 타이머 완료 이벤트 수신: timerId={}", timerId);
-        
-        // 기존 publishTimerCompletedEvent 로직을 비동기로 실행
-        publishTimerCompletedEvent(timerId)
-                .doOnSuccess(v -> log.info("✅ TTL 만료 타이머 완료 처리 성공: timerId={}", timerId))
-                .doOnError(error -> log.error("❌ TTL 만료 타이머 완료 처리 실패: timerId={}, error={}", 
-                    timerId, error.getMessage(), error))
-                .subscribe(); // 비동기 실행
-    }
-
     /**
      * 공유 타이머 접속 이벤트 발행 (소유자에게만 알림)
      * @param timerId 타이머 ID
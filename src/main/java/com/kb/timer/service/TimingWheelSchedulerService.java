@@ -0,0 +1,373 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
+import com.kb.timer.repository.TimerRepository;
+import com.kb.timer.util.HierarchicalTimingWheel;
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인프로세스 계층형 타이밍 휠 기반 타이머 스케줄러
+ * Redis 키 만료 이벤트의 지연(lazy/active expire 주기)에 의존하지 않고
+ * 밀리초 단위 틱으로 타이머 완료 이벤트를 발행
+ *
+ * 파티션 소유:
+ * - ScheduleShardManager의 샤드 리스를 보유한 노드가 해당 샤드의 타이머를 소유
+ * - 샤드를 획득하면 그 샤드의 미완료 타이머(이미 목표 시간이 지난 타이머 포함)를 MongoDB에서 복구하고,
+ *   샤드를 상실하면 휠에서 제거하여 새 소유 노드가 이어받음 (노드 장애 시 리스 TTL 이후 재배치)
+ * - 런타임에도 소유한 타이머만 휠에 등록하고, 다른 노드 소유 타이머의 스케줄 변경은
+ *   Redis Pub/Sub 채널로 전달하여 소유 노드가 반영
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "timer.scheduler.engine", havingValue = "timing-wheel")
+public class TimingWheelSchedulerService implements TimerScheduler {
+
+    private final TimerRepository timerRepository;
+    private final ServerInstanceIdGenerator serverInstanceIdGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final ScheduleShardManager shardManager;
+
+    @Value("${timer.scheduler.timing-wheel.tick-ms:1}")
+    private long tickMs;
+
+    @Value("${timer.scheduler.timing-wheel.wheel-size:512}")
+    private int wheelSize;
+
+    // 만료 버킷이 없을 때 틱 스레드의 최대 대기 시간
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    // 소유 노드로 스케줄 변경을 전달하는 채널 (메시지: 타입|발행 서버|timerId|목표 시각 epoch 밀리초)
+    static final String SCHEDULE_CHANNEL = "timer:timing-wheel:schedule";
+    private static final String COMMAND_SCHEDULE = "SCHEDULE";
+    private static final String COMMAND_CANCEL = "CANCEL";
+
+    private HierarchicalTimingWheel timingWheel;
+    private Thread tickerThread;
+    private volatile boolean running;
+    private Disposable scheduleChannelSubscription;
+
+    public TimingWheelSchedulerService(TimerRepository timerRepository,
+                                       ServerInstanceIdGenerator serverInstanceIdGenerator,
+                                       ApplicationEventPublisher eventPublisher,
+                                       ReactiveRedisTemplate<String, String> stringRedisTemplate,
+                                       ScheduleShardManager shardManager) {
+        this.timerRepository = timerRepository;
+        this.serverInstanceIdGenerator = serverInstanceIdGenerator;
+        this.eventPublisher = eventPublisher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shardManager = shardManager;
+    }
+
+    @PostConstruct
+    public void init() {
+        timingWheel = new HierarchicalTimingWheel(tickMs, wheelSize);
+        running = true;
+
+        tickerThread = new Thread(this::runTicker, "timing-wheel-ticker");
+        tickerThread.setDaemon(true);
+        tickerThread.start();
+
+        log.info("타이밍 휠 스케줄러 서비스 시작: tickMs={}, wheelSize={}", tickMs, wheelSize);
+
+        subscribeScheduleChannel();
+        shardManager.addOwnershipListener(this::onShardOwnershipChanged);
+        // 리스너 등록 전에 이미 획득한 샤드 복구 (중복 복구는 같은 timerId 재등록으로 교체됨)
+        onShardOwnershipChanged(Set.copyOf(shardManager.getOwnedShards()), Set.of());
+    }
+
+    /**
+     * 다른 노드에서 발생한 스케줄 변경 구독
+     * 자기 자신이 보낸 메시지와 소유하지 않은 타이머의 메시지는 무시
+     */
+    private void subscribeScheduleChannel() {
+        scheduleChannelSubscription = stringRedisTemplate.listenToChannel(SCHEDULE_CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::applyScheduleCommand)
+                .doOnError(error -> log.error("타이밍 휠 스케줄 채널 구독 오류: error={}", error.getMessage(), error))
+                .retry()
+                .subscribe();
+    }
+
+    /**
+     * 샤드 소유권 변경 반영
+     * 상실한 샤드의 타이머는 휠에서 제거하고, 획득한 샤드의 타이머는 MongoDB에서 복구
+     *
+     * @param acquired 새로 획득한 샤드 번호
+     * @param released 상실/반납한 샤드 번호
+     */
+    void onShardOwnershipChanged(Set<Integer> acquired, Set<Integer> released) {
+        if (!released.isEmpty()) {
+            int removed = timingWheel.cancelIf(timerId -> released.contains(shardManager.shardOf(timerId)));
+            log.info("타이밍 휠 샤드 상실: shards={}, 제거된 타이머 {}개", released, removed);
+        }
+        if (!acquired.isEmpty()) {
+            recoverPendingTimers(acquired);
+        }
+    }
+
+    /**
+     * 획득한 샤드의 미완료 타이머 복구
+     * 재시작/재배치 시 메모리에 스케줄이 없으므로 MongoDB 기준으로 다시 등록
+     * 이미 목표 시간이 지난 타이머는 등록 즉시 만료 처리됨
+     *
+     * @param shards 복구할 샤드 번호
+     */
+    private void recoverPendingTimers(Set<Integer> shards) {
+        timerRepository.findByCompletedFalse()
+                .filter(timer -> shards.contains(shardManager.shardOf(timer.getId())) && ownsTimer(timer.getId()))
+                .doOnNext(this::scheduleTimer)
+                .count()
+                .doOnNext(count -> log.info("타이밍 휠 스케줄 복구 완료: shards={}, {}개 타이머", shards, count))
+                .doOnError(error -> log.error("타이밍 휠 스케줄 복구 실패: shards={}, error={}",
+                        shards, error.getMessage(), error))
+                .subscribe();
+    }
+
+    /**
+     * 틱 스레드 루프
+     * 만료된 버킷이 생길 때까지 대기 후 만료 타이머 처리
+     */
+    private void runTicker() {
+        while (running) {
+            try {
+                timingWheel.advanceClock(POLL_TIMEOUT_MS, this::onTimerExpired);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("타이밍 휠 틱 처리 오류: error={}", e.getMessage(), e);
+            }
+        }
+        log.info("타이밍 휠 틱 스레드 종료");
+    }
+
+    /**
+     * 타이머 스케줄을 타이밍 휠에 등록
+     *
+     * @param timer 타이머 정보
+     */
+    @Override
+    public void scheduleTimer(Timer timer) {
+        String timerId = timer.getId();
+        Instant targetTime = timer.getTargetTime();
+
+        // 완료된 타이머는 스케줄링하지 않음 (이미 지난 시간은 아래에서 즉시 만료 처리)
+        if (timer.isCompleted()) {
+            log.debug("타이머 스케줄링 스킵: timerId={}, targetTime={}, completed={}",
+                    timerId, targetTime, timer.isCompleted());
+            return;
+        }
+
+        long expirationMs = targetTime.toEpochMilli();
+        if (timingWheel.schedule(timerId, expirationMs)) {
+            log.info("타이머 타이밍 휠 스케줄 등록: timerId={}, targetTime={}, pending={}",
+                    timerId, targetTime, timingWheel.size());
+        } else {
+            // 등록 직전에 만료된 경우 즉시 완료 처리
+            onTimerExpired(timerId, expirationMs);
+        }
+    }
+
+    /**
+     * 타이머 스케줄 업데이트
+     * 같은 timerId로 재등록하면 기존 엔트리는 자동으로 교체됨
+     *
+     * @param timer 업데이트된 타이머 정보
+     */
+    @Override
+    public void updateTimerSchedule(Timer timer) {
+        log.info("타이머 타이밍 휠 스케줄 업데이트: timerId={}, newTargetTime={}",
+                timer.getId(), timer.getTargetTime());
+
+        timingWheel.cancel(timer.getId());
+        scheduleTimer(timer);
+    }
+
+    /**
+     * 타이머 스케줄 취소
+     *
+     * @param timerId 타이머 ID
+     */
+    @Override
+    public void cancelTimerSchedule(String timerId) {
+        if (timingWheel.cancel(timerId)) {
+            log.info("타이머 타이밍 휠 스케줄 취소: timerId={}", timerId);
+        } else {
+            log.debug("취소할 타이밍 휠 스케줄이 없음: timerId={}", timerId);
+        }
+    }
+
+    /**
+     * 타이밍 휠 만료 콜백
+     * 완료 로그는 저장하지 않고 이벤트에 실어 보내, 조건부 업데이트로 실제 완료한 뒤 TimerCompletionBatchProcessor가 저장
+     *
+     * @param timerId 타이머 ID
+     * @param expirationMs 만료 시각 (epoch 밀리초)
+     */
+    private void onTimerExpired(String timerId, long expirationMs) {
+        Instant firedAt = Instant.now();
+        Instant targetTime = Instant.ofEpochMilli(expirationMs);
+        long delayMs = firedAt.toEpochMilli() - expirationMs;
+
+        log.info("⏰ 타이밍 휠 만료: timerId={}, delayMs={}", timerId, delayMs);
+
+        TimerCompletionLog completionLog = TimerCompletionLog.builder()
+                .timerId(timerId)
+                .serverId(serverInstanceIdGenerator.getServerInstanceId())
+                .notificationReceivedAt(firedAt)
+                .processingStartedAt(firedAt)
+                .originalTargetTime(targetTime)
+                .processingDelayMs(delayMs)
+                .build();
+
+        try {
+            eventPublisher.publishEvent(new TimerCompletionEvent(this, timerId, completionLog));
+        } catch (Exception e) {
+            // 완료되지 않은 타이머는 TimerCompletionMonitoringService 스위프가 다시 처리
+            log.error("❌ 타이밍 휠 완료 이벤트 발행 실패: timerId={}, error={}", timerId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 노드 소유 타이머의 스케줄 변경을 채널로 전달
+     *
+     * @param command 명령 타입 (SCHEDULE / CANCEL)
+     * @param timerId 타이머 ID
+     * @param targetTime 목표 시간 (CANCEL은 null)
+     */
+    private void publishScheduleCommand(String command, String timerId, Instant targetTime) {
+        String message = String.join("|", command, serverInstanceIdGenerator.getServerInstanceId(), timerId,
+                targetTime != null ? String.valueOf(targetTime.toEpochMilli()) : "");
+        stringRedisTemplate.convertAndSend(SCHEDULE_CHANNEL, message)
+                .doOnNext(receivers -> log.debug("타이밍 휠 스케줄 변경 전달: command={}, timerId={}, receivers={}",
+                        command, timerId, receivers))
+                .doOnError(error -> log.error("타이밍 휠 스케줄 변경 전달 실패: command={}, timerId={}, error={}",
+                        command, timerId, error.getMessage()))
+                .subscribe();
+    }
+
+    /**
+     * 채널로 받은 스케줄 변경을 소유 노드의 휠에 반영
+     *
+     * @param message 스케줄 명령 메시지
+     */
+    void applyScheduleCommand(String message) {
+        String[] parts = message.split("\\|", -1);
+        if (parts.length != 4) {
+            log.warn("알 수 없는 타이밍 휠 스케줄 메시지: {}", message);
+            return;
+        }
+        String command = parts[0];
+        String originServerId = parts[1];
+        String timerId = parts[2];
+        if (originServerId.equals(serverInstanceIdGenerator.getServerInstanceId()) || !ownsTimer(timerId)) {
+            return;
+        }
+
+        if (COMMAND_SCHEDULE.equals(command)) {
+            Timer timer = Timer.builder()
+                    .id(timerId)
+                    .targetTime(Instant.ofEpochMilli(Long.parseLong(parts[3])))
+                    .build();
+            // 같은 timerId로 재등록하면 기존 엔트리는 자동으로 교체됨
+            scheduleTimer(timer);
+        } else if (COMMAND_CANCEL.equals(command)) {
+            cancelTimerSchedule(timerId);
+        }
+    }
+
+    /**
+     * 이 노드가 리스를 보유한 샤드의 타이머인지 확인
+     *
+     * @param timerId 타이머 ID
+     * @return 소유 여부
+     */
+    private boolean ownsTimer(String timerId) {
+        return shardManager.ownsTimer(timerId);
+    }
+
+    /**
+     * 타이머 스케줄 이벤트 리스너
+     * TimerService에서 발행하는 스케줄 관련 이벤트를 처리
+     * 소유한 타이머는 휠에 바로 반영하고, 다른 노드 소유 타이머는 채널로 전달
+     */
+    @Override
+    @EventListener
+    public void handleTimerScheduleEvent(TimerScheduleEvent event) {
+        switch (event.getType()) {
+            case SCHEDULE:
+            case UPDATE:
+                if (event.getTimer() != null) {
+                    Timer timer = event.getTimer();
+                    if (!ownsTimer(timer.getId())) {
+                        if (!timer.isCompleted()) {
+                            publishScheduleCommand(COMMAND_SCHEDULE, timer.getId(), timer.getTargetTime());
+                        }
+                    } else if (event.getType() == TimerScheduleEvent.Type.UPDATE) {
+                        updateTimerSchedule(timer);
+                    } else {
+                        scheduleTimer(timer);
+                    }
+                }
+                break;
+            case CANCEL:
+                if (ownsTimer(event.getTimerId())) {
+                    cancelTimerSchedule(event.getTimerId());
+                } else {
+                    publishScheduleCommand(COMMAND_CANCEL, event.getTimerId(), null);
+                }
+                break;
+            case SCHEDULE_BATCH:
+                if (event.getTimers() != null) {
+                    Map<Boolean, List<Timer>> byOwnership = event.getTimers().stream()
+                            .filter(timer -> !timer.isCompleted())
+                            .collect(Collectors.partitioningBy(timer -> ownsTimer(timer.getId())));
+                    scheduleTimers(byOwnership.get(true));
+                    byOwnership.get(false).forEach(timer ->
+                            publishScheduleCommand(COMMAND_SCHEDULE, timer.getId(), timer.getTargetTime()));
+                }
+                break;
+        }
+    }
+
+    /**
+     * 서비스 종료 시 틱 스레드 정리
+     * 대기 중인 스케줄은 재시작 시 MongoDB에서 복구됨
+     */
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (scheduleChannelSubscription != null) {
+            scheduleChannelSubscription.dispose();
+        }
+        if (tickerThread != null) {
+            tickerThread.interrupt();
+        }
+        log.info("타이밍 휠 스케줄러 서비스 종료: 대기 중 타이머 {}개", timingWheel != null ? timingWheel.size() : 0);
+    }
+}
@@ -0,0 +1,343 @@
+package com.kb.timer.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 해시 기반 계층형 타이밍 휠 (Hashed Hierarchical Timing Wheel)
+ *
+ * 동작 방식:
+ * 1. 각 레벨은 tickMs * wheelSize 범위를 담당하며, 범위를 넘는 타이머는 상위(overflow) 레벨로 위임
+ * 2. 비어있지 않은 버킷만 DelayQueue에 등록되어 빈 틱을 순회하지 않음
+ * 3. 상위 레벨 버킷이 만료되면 하위 레벨로 재배치되고, 최하위 레벨에서 만료 시 콜백 호출
+ * 4. 최하위 레벨 버킷은 틱 범위의 마지막 시각에 만료되므로 타이머가 만료 시각보다 일찍 발화하지 않음
+ *    (tickMs가 1보다 크면 최대 한 틱 늦게 발화)
+ *
+ * 등록/취소는 O(1), 만료 처리는 만료된 버킷 단위로 수행됨
+ */
+public class HierarchicalTimingWheel {
+
+    private final DelayQueue<Bucket> delayQueue = new DelayQueue<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongSupplier clock;
+    private final Level rootLevel;
+
+    /**
+     * @param tickMs 최하위 레벨 틱 크기 (밀리초)
+     * @param wheelSize 레벨당 버킷 수
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize) {
+        this(tickMs, wheelSize, System::currentTimeMillis);
+    }
+
+    /**
+     * @param tickMs 최하위 레벨 틱 크기 (밀리초)
+     * @param wheelSize 레벨당 버킷 수
+     * @param clock 현재 시각 공급자 (epoch 밀리초, 테스트용)
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, LongSupplier clock) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs와 wheelSize는 0보다 커야 합니다");
+        }
+        this.clock = clock;
+        this.rootLevel = new Level(tickMs, wheelSize, clock.getAsLong(), delayQueue, clock, true);
+    }
+
+    /**
+     * 타이머 등록 (같은 ID가 있으면 교체)
+     *
+     * @param timerId 타이머 ID
+     * @param expirationMs 만료 시각 (epoch 밀리초)
+     * @return 등록 여부 (이미 만료 시각이 지난 경우 false - 호출자가 즉시 처리해야 함)
+     */
+    public boolean schedule(String timerId, long expirationMs) {
+        Entry entry = new Entry(timerId, expirationMs);
+        Entry previous = entries.put(timerId, entry);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!rootLevel.add(entry)) {
+                entries.remove(timerId, entry);
+                return false;
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 타이머 취소
+     *
+     * @param timerId 타이머 ID
+     * @return 취소 여부 (등록되어 있지 않으면 false)
+     */
+    public boolean cancel(String timerId) {
+        Entry entry = entries.remove(timerId);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancel();
+        return true;
+    }
+
+    /**
+     * 조건에 맞는 타이머 일괄 취소
+     *
+     * @param filter 취소 대상 timerId 조건
+     * @return 취소된 타이머 수
+     */
+    public int cancelIf(Predicate<String> filter) {
+        int cancelled = 0;
+        for (String timerId : List.copyOf(entries.keySet())) {
+            if (filter.test(timerId) && cancel(timerId)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * 휠의 시계를 진행시키고 만료된 타이머에 대해 콜백 호출
+     * 만료된 버킷이 없으면 최대 timeoutMs 동안 대기
+     *
+     * @param timeoutMs 최대 대기 시간 (밀리초)
+     * @param onExpired 만료 콜백 (timerId, 만료 시각 epoch 밀리초)
+     * @return 만료 버킷 처리 여부
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    public boolean advanceClock(long timeoutMs, BiConsumer<String, Long> onExpired) throws InterruptedException {
+        Bucket bucket = delayQueue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return false;
+        }
+
+        List<Entry> expired = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            while (bucket != null) {
+                rootLevel.advanceClock(bucket.getExpiration());
+                for (Entry entry : bucket.flush()) {
+                    // 취소/교체된 엔트리는 버림
+                    if (entry.isCancelled() || entries.get(entry.timerId) != entry) {
+                        continue;
+                    }
+                    // 하위 레벨로 재배치, 재배치 불가 시 만료
+                    if (!rootLevel.add(entry)) {
+                        expired.add(entry);
+                    }
+                }
+                bucket = delayQueue.poll();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 콜백은 락 밖에서 호출 (콜백 내 schedule 호출 허용)
+        for (Entry entry : expired) {
+            if (entries.remove(entry.timerId, entry)) {
+                onExpired.accept(entry.timerId, entry.expirationMs);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 등록 여부 확인
+     */
+    public boolean contains(String timerId) {
+        return entries.containsKey(timerId);
+    }
+
+    /**
+     * 현재 시각 (epoch 밀리초)
+     */
+    public long currentTimeMillis() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * 타이밍 휠 한 레벨
+     */
+    private static class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private final DelayQueue<Bucket> delayQueue;
+        private final LongSupplier clock;
+        private final boolean lowest;
+        private volatile long currentTime;
+        private volatile Level overflowLevel;
+
+        Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket> delayQueue, LongSupplier clock, boolean lowest) {
+            this.tickMs = tickMs;
+            this.lowest = lowest;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.delayQueue = delayQueue;
+            this.clock = clock;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket(clock);
+            }
+        }
+
+        boolean add(Entry entry) {
+            long expiration = entry.expirationMs;
+            if (isExpired(expiration)) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                // 상위 레벨은 틱 시작 시각에 만료되어 하위 레벨로 재배치되고,
+                // 최하위 레벨은 틱 마지막 시각에 만료되어 만료 시각 전에 발화하지 않음
+                long bucketExpiration = lowest ? virtualId * tickMs + tickMs - 1 : virtualId * tickMs;
+                // 버킷 만료 시각이 바뀐 경우에만 DelayQueue에 재등록
+                if (bucket.setExpiration(bucketExpiration)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            return getOrCreateOverflowLevel().add(entry);
+        }
+
+        private boolean isExpired(long expiration) {
+            if (lowest) {
+                // 현재 틱 범위 안이라도 아직 만료 시각 전이면 현재 틱 버킷에 등록
+                return expiration <= clock.getAsLong() || expiration < currentTime;
+            }
+            return expiration < currentTime + tickMs;
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                Level overflow = overflowLevel;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Level getOrCreateOverflowLevel() {
+            Level overflow = overflowLevel;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = overflowLevel;
+                    if (overflow == null) {
+                        overflow = new Level(interval, wheelSize, currentTime, delayQueue, clock, false);
+                        overflowLevel = overflow;
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    /**
+     * 같은 틱 범위의 타이머 묶음
+     */
+    private static class Bucket implements Delayed {
+        private final AtomicLong expiration = new AtomicLong(-1L);
+        private final Set<Entry> bucketEntries = new HashSet<>();
+        private final LongSupplier clock;
+
+        Bucket(LongSupplier clock) {
+            this.clock = clock;
+        }
+
+        synchronized void add(Entry entry) {
+            entry.bucket = this;
+            bucketEntries.add(entry);
+        }
+
+        synchronized void remove(Entry entry) {
+            if (bucketEntries.remove(entry)) {
+                entry.bucket = null;
+            }
+        }
+
+        synchronized List<Entry> flush() {
+            List<Entry> flushed = new ArrayList<>(bucketEntries);
+            for (Entry entry : flushed) {
+                entry.bucket = null;
+            }
+            bucketEntries.clear();
+            expiration.set(-1L);
+            return flushed;
+        }
+
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long delayMs = Math.max(getExpiration() - clock.getAsLong(), 0);
+            return unit.convert(delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+
+    /**
+     * 휠에 등록된 개별 타이머
+     */
+    private static class Entry {
+        private final String timerId;
+        private final long expirationMs;
+        private volatile Bucket bucket;
+        private volatile boolean cancelled;
+
+        Entry(String timerId, long expirationMs) {
+            this.timerId = timerId;
+            this.expirationMs = expirationMs;
+        }
+
+        void cancel() {
+            cancelled = true;
+            Bucket current = bucket;
+            if (current != null) {
+                current.remove(this);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
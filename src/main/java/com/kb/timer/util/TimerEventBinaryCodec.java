@@ -0,0 +1,445 @@
+package com.kb.timer.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb.timer.model.event.SharedTimerAccessedEvent;
+import com.kb.timer.model.event.TargetTimeChangedEvent;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerEvent;
+import com.kb.timer.model.event.TimestampSavedEvent;
+import com.kb.timer.model.event.UserJoinedEvent;
+import com.kb.timer.model.event.UserLeftEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * TimerEvent 바이너리 코덱
+ * Kafka 메시지 크기와 역직렬화 비용을 줄이기 위한 스키마 고정형 varint 인코딩
+ *
+ * 메시지 구조: [MAGIC][VERSION][TYPE][공통 필드][타입별 필드]
+ * - 문자열: (UTF-8 길이 + 1) varint 후 바이트, 0은 null
+ * - ID(eventId, timerId): UUID 형식이면 16바이트, 아니면 문자열
+ * - Instant/Duration: (nanos + 1) varint 후 zigzag 초, 0은 null
+ * - 정수: zigzag varint
+ *
+ * 첫 바이트가 MAGIC이 아니면 JSON 메시지로 간주 (JSON은 항상 '{'로 시작)
+ */
+public final class TimerEventBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xE7;
+    public static final byte VERSION = 1;
+
+    // 이벤트 타입 태그 (한 번 배포된 값은 변경 금지)
+    private static final byte TYPE_TARGET_TIME_CHANGED = 1;
+    private static final byte TYPE_TIMESTAMP_SAVED = 2;
+    private static final byte TYPE_USER_JOINED = 3;
+    private static final byte TYPE_USER_LEFT = 4;
+    private static final byte TYPE_TIMER_COMPLETED = 5;
+    private static final byte TYPE_SHARED_TIMER_ACCESSED = 6;
+
+    // ID 인코딩 태그
+    private static final int ID_NULL = 0;
+    private static final int ID_UUID = 1;
+    private static final int ID_STRING = 2;
+
+    // 스키마가 없는 metadata 필드 전용 (자주 쓰이지 않으므로 JSON으로 포함)
+    private static final ObjectMapper METADATA_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+
+    private TimerEventBinaryCodec() {
+    }
+
+    /**
+     * 바이너리 메시지 여부 확인
+     *
+     * @param data 메시지 바이트
+     * @return 바이너리 코덱으로 인코딩된 메시지인지 여부
+     */
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    /**
+     * 이벤트 인코딩
+     *
+     * @param event 타이머 이벤트
+     * @return 인코딩된 바이트
+     */
+    public static byte[] encode(TimerEvent event) {
+        Writer out = new Writer();
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(typeOf(event));
+
+        out.writeId(event.getEventId());
+        out.writeId(event.getTimerId());
+        out.writeInstant(event.getTimestamp());
+        out.writeString(event.getOriginServerId());
+
+        if (event instanceof TargetTimeChangedEvent e) {
+            out.writeInstant(e.getOldTargetTime());
+            out.writeInstant(e.getNewTargetTime());
+            out.writeString(e.getChangedBy());
+            out.writeInstant(e.getServerTime());
+        } else if (event instanceof TimestampSavedEvent e) {
+            out.writeString(e.getUserId());
+            out.writeInstant(e.getSavedAt());
+            out.writeDuration(e.getRemainingTime());
+            out.writeInstant(e.getTargetTime());
+            out.writeBytes(encodeMetadata(e.getMetadata()));
+        } else if (event instanceof UserJoinedEvent e) {
+            out.writeString(e.getUserId());
+            out.writeString(e.getServerId());
+            out.writeSignedVarLong(e.getOnlineUserCount());
+        } else if (event instanceof UserLeftEvent e) {
+            out.writeString(e.getUserId());
+            out.writeString(e.getServerId());
+            out.writeSignedVarLong(e.getOnlineUserCount());
+        } else if (event instanceof TimerCompletedEvent e) {
+            out.writeInstant(e.getCompletedTargetTime());
+            out.writeInstant(e.getCompletedAt());
+            out.writeString(e.getOwnerId());
+            out.writeSignedVarLong(e.getOnlineUserCount());
+        } else if (event instanceof SharedTimerAccessedEvent e) {
+            out.writeString(e.getAccessedUserId());
+            out.writeString(e.getOwnerId());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 이벤트 디코딩
+     *
+     * @param data 인코딩된 바이트
+     * @return 타이머 이벤트
+     */
+    public static TimerEvent decode(byte[] data) {
+        Reader in = new Reader(data);
+        if (in.readByte() != MAGIC) {
+            throw new SerializationException("바이너리 TimerEvent 메시지가 아닙니다");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new SerializationException("지원하지 않는 TimerEvent 스키마 버전입니다: " + version);
+        }
+        byte type = in.readByte();
+
+        String eventId = in.readId();
+        String timerId = in.readId();
+        Instant timestamp = in.readInstant();
+        String originServerId = in.readString();
+
+        TimerEvent event = switch (type) {
+            case TYPE_TARGET_TIME_CHANGED -> {
+                TargetTimeChangedEvent e = new TargetTimeChangedEvent();
+                e.setOldTargetTime(in.readInstant());
+                e.setNewTargetTime(in.readInstant());
+                e.setChangedBy(in.readString());
+                e.setServerTime(in.readInstant());
+                yield e;
+            }
+            case TYPE_TIMESTAMP_SAVED -> {
+                TimestampSavedEvent e = new TimestampSavedEvent();
+                e.setUserId(in.readString());
+                e.setSavedAt(in.readInstant());
+                e.setRemainingTime(in.readDuration());
+                e.setTargetTime(in.readInstant());
+                e.setMetadata(decodeMetadata(in.readBytes()));
+                yield e;
+            }
+            case TYPE_USER_JOINED -> {
+                UserJoinedEvent e = new UserJoinedEvent();
+                e.setUserId(in.readString());
+                e.setServerId(in.readString());
+                e.setOnlineUserCount((int) in.readSignedVarLong());
+                yield e;
+            }
+            case TYPE_USER_LEFT -> {
+                UserLeftEvent e = new UserLeftEvent();
+                e.setUserId(in.readString());
+                e.setServerId(in.readString());
+                e.setOnlineUserCount((int) in.readSignedVarLong());
+                yield e;
+            }
+            case TYPE_TIMER_COMPLETED -> {
+                TimerCompletedEvent e = new TimerCompletedEvent();
+                e.setCompletedTargetTime(in.readInstant());
+                e.setCompletedAt(in.readInstant());
+                e.setOwnerId(in.readString());
+                e.setOnlineUserCount((int) in.readSignedVarLong());
+                yield e;
+            }
+            case TYPE_SHARED_TIMER_ACCESSED -> {
+                SharedTimerAccessedEvent e = new SharedTimerAccessedEvent();
+                e.setAccessedUserId(in.readString());
+                e.setOwnerId(in.readString());
+                yield e;
+            }
+            default -> throw new SerializationException("알 수 없는 TimerEvent 타입 태그입니다: " + type);
+        };
+
+        event.setEventId(eventId);
+        event.setTimerId(timerId);
+        event.setTimestamp(timestamp);
+        event.setOriginServerId(originServerId);
+        return event;
+    }
+
+    private static byte typeOf(TimerEvent event) {
+        if (event instanceof TargetTimeChangedEvent) {
+            return TYPE_TARGET_TIME_CHANGED;
+        } else if (event instanceof TimestampSavedEvent) {
+            return TYPE_TIMESTAMP_SAVED;
+        } else if (event instanceof UserJoinedEvent) {
+            return TYPE_USER_JOINED;
+        } else if (event instanceof UserLeftEvent) {
+            return TYPE_USER_LEFT;
+        } else if (event instanceof TimerCompletedEvent) {
+            return TYPE_TIMER_COMPLETED;
+        } else if (event instanceof SharedTimerAccessedEvent) {
+            return TYPE_SHARED_TIMER_ACCESSED;
+        }
+        throw new SerializationException("바이너리 코덱이 지원하지 않는 이벤트입니다: " + event.getClass().getName());
+    }
+
+    private static byte[] encodeMetadata(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        try {
+            return METADATA_MAPPER.writeValueAsBytes(metadata);
+        } catch (IOException e) {
+            throw new SerializationException("metadata 직렬화 실패", e);
+        }
+    }
+
+    private static Map<String, Object> decodeMetadata(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return METADATA_MAPPER.readValue(bytes, METADATA_TYPE);
+        } catch (IOException e) {
+            throw new SerializationException("metadata 역직렬화 실패", e);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 가변 길이 바이트 버퍼 (ByteArrayOutputStream의 동기화 비용 없이 사용)
+     */
+    private static final class Writer {
+        private byte[] buf = new byte[128];
+        private int size;
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buf[size++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[size++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong(zigzag(value));
+        }
+
+        void writeBytes(byte[] bytes) {
+            if (bytes == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeId(String value) {
+            if (value == null) {
+                writeVarLong(ID_NULL);
+                return;
+            }
+            UUID uuid = parseCanonicalUuid(value);
+            if (uuid == null) {
+                writeVarLong(ID_STRING);
+                writeString(value);
+                return;
+            }
+            writeVarLong(ID_UUID);
+            writeFixedLong(uuid.getMostSignificantBits());
+            writeFixedLong(uuid.getLeastSignificantBits());
+        }
+
+        void writeInstant(Instant value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(value.getNano() + 1L);
+            writeSignedVarLong(value.getEpochSecond());
+        }
+
+        void writeDuration(Duration value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(value.getNano() + 1L);
+            writeSignedVarLong(value.getSeconds());
+        }
+
+        private void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+    }
+
+    /**
+     * 바이트 배열 순차 읽기
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        byte readByte() {
+            if (position >= data.length) {
+                throw new SerializationException("TimerEvent 메시지가 예상보다 짧습니다");
+            }
+            return data[position++];
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("잘못된 varint 인코딩입니다");
+        }
+
+        long readSignedVarLong() {
+            return unzigzag(readVarLong());
+        }
+
+        byte[] readBytes() {
+            long lengthPlusOne = readVarLong();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            int length = (int) (lengthPlusOne - 1);
+            if (length < 0 || position + length > data.length) {
+                throw new SerializationException("잘못된 필드 길이입니다: " + length);
+            }
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            long lengthPlusOne = readVarLong();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            int length = (int) (lengthPlusOne - 1);
+            if (length < 0 || position + length > data.length) {
+                throw new SerializationException("잘못된 문자열 길이입니다: " + length);
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readId() {
+            int tag = (int) readVarLong();
+            return switch (tag) {
+                case ID_NULL -> null;
+                case ID_UUID -> new UUID(readFixedLong(), readFixedLong()).toString();
+                case ID_STRING -> readString();
+                default -> throw new SerializationException("잘못된 ID 태그입니다: " + tag);
+            };
+        }
+
+        Instant readInstant() {
+            long nanosPlusOne = readVarLong();
+            if (nanosPlusOne == 0) {
+                return null;
+            }
+            return Instant.ofEpochSecond(readSignedVarLong(), nanosPlusOne - 1);
+        }
+
+        Duration readDuration() {
+            long nanosPlusOne = readVarLong();
+            if (nanosPlusOne == 0) {
+                return null;
+            }
+            return Duration.ofSeconds(readSignedVarLong(), nanosPlusOne - 1);
+        }
+
+        private long readFixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 소문자 정규 형식 UUID만 16바이트로 압축 (디코딩 시 원문이 그대로 복원되어야 함)
+     */
+    private static UUID parseCanonicalUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kb.timer.util;
+
+import com.kb.timer.model.event.TimerEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * TimerEvent Kafka 역직렬화기
+ * 메시지 첫 바이트로 포맷을 판별하여 바이너리 코덱 또는 기존 JSON 역직렬화기로 처리
+ * 롤아웃 기간 동안 JSON/바이너리 메시지가 같은 토픽에 섞여 있어도 모두 읽을 수 있음
+ */
+public class TimerEventDeserializer implements Deserializer<TimerEvent> {
+
+    private final JsonDeserializer<TimerEvent> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public TimerEvent deserialize(String topic, byte[] data) {
+        if (TimerEventBinaryCodec.isBinary(data)) {
+            return TimerEventBinaryCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public TimerEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (TimerEventBinaryCodec.isBinary(data)) {
+            return TimerEventBinaryCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,67 @@
+package com.kb.timer.util;
+
+import com.kb.timer.model.event.TimerEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * TimerEvent Kafka 직렬화기
+ * binary-topics 설정에 포함된 토픽은 바이너리 코덱으로, 나머지는 기존 JSON(타입 헤더 포함)으로 직렬화
+ *
+ * 배포 순서: Consumer(TimerEventDeserializer)를 먼저 배포한 뒤 토픽별로 binary-topics에 추가
+ */
+public class TimerEventSerializer implements Serializer<TimerEvent> {
+
+    /**
+     * 바이너리 포맷으로 발행할 토픽 목록 (콤마 구분)
+     */
+    public static final String BINARY_TOPICS_CONFIG = "timer.serde.binary-topics";
+
+    private final JsonSerializer<TimerEvent> jsonSerializer = new JsonSerializer<>();
+    private Set<String> binaryTopics = Set.of();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object topics = configs.get(BINARY_TOPICS_CONFIG);
+        if (topics != null) {
+            binaryTopics = Arrays.stream(topics.toString().split(","))
+                    .map(String::trim)
+                    .filter(topic -> !topic.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, TimerEvent data) {
+        if (data == null) {
+            return null;
+        }
+        if (binaryTopics.contains(topic)) {
+            return TimerEventBinaryCodec.encode(data);
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, TimerEvent data) {
+        if (data == null) {
+            return null;
+        }
+        if (binaryTopics.contains(topic)) {
+            return TimerEventBinaryCodec.encode(data);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
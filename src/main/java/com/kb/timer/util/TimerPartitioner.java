@@ -0,0 +1,28 @@
+package com.kb.timer.util;
+
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 타이머 ID 기반 Kafka 파티션 계산
+ * 프로듀서가 timerId를 키로 발행할 때 기본 파티셔너가 선택하는 파티션과 동일한 값을 계산
+ * (StringSerializer UTF-8 바이트의 murmur2 해시 % 파티션 수)
+ */
+public final class TimerPartitioner {
+
+    private TimerPartitioner() {
+    }
+
+    /**
+     * 타이머 이벤트가 기록되는 파티션 번호
+     *
+     * @param timerId 타이머 ID (레코드 키)
+     * @param partitionCount 토픽 파티션 수
+     * @return 파티션 번호
+     */
+    public static int partitionFor(String timerId, int partitionCount) {
+        byte[] keyBytes = timerId.getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(keyBytes)) % partitionCount;
+    }
+}
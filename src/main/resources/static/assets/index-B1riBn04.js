@@ -253,7 +253,8 @@ export default theme;`}function M0(e){return typeof e=="number"?`${(e*100).toFix
 `)}getSetCookie(){return this.get("set-cookie")||[]}get[Symbol.toStringTag](){return"AxiosHeaders"}static from(n){return n instanceof this?n:new this(n)}static concat(n,...o){const i=new this(n);return o.forEach(l=>i.set(l)),i}static accessor(n){const i=(this[E1]=this[E1]={accessors:{}}).accessors,l=this.prototype;function c(u){const d=js(u);i[d]||($D(l,u),i[d]=!0)}return ne.isArray(n)?n.forEach(c):c(n),this}};On.accessor(["Content-Type","Content-Length","Accept","Accept-Encoding","User-Agent","Authorization"]);ne.reduceDescriptors(On.prototype,({value:e},n)=>{let o=n[0].toUpperCase()+n.slice(1);return{get:()=>e,set(i){this[o]=i}}});ne.freezeMethods(On);function _p(e,n){const o=this||bl,i=n||o,l=On.from(i.headers);let c=i.data;return ne.forEach(e,function(d){c=d.call(o,c,l.normalize(),n?n.status:void 0)}),l.normalize(),c}function MC(e){return!!(e&&e.__CANCEL__)}function Mi(e,n,o){Ve.call(this,e??"canceled",Ve.ERR_CANCELED,n,o),this.name="CanceledError"}ne.inherits(Mi,Ve,{__CANCEL__:!0});function _C(e,n,o){const i=o.config.validateStatus;!o.status||!i||i(o.status)?e(o):n(new Ve("Request failed with status code "+o.status,[Ve.ERR_BAD_REQUEST,Ve.ERR_BAD_RESPONSE][Math.floor(o.status/100)-4],o.config,o.request,o))}function PD(e){const n=/^([-+\w]{1,25})(:?\/\/|:)/.exec(e);return n&&n[1]||""}function UD(e,n){e=e||10;const o=new Array(e),i=new Array(e);let l=0,c=0,u;return n=n!==void 0?n:1e3,function(h){const m=Date.now(),g=i[c];u||(u=m),o[l]=h,i[l]=m;let y=c,C=0;for(;y!==l;)C+=o[y++],y=y%e;if(l=(l+1)%e,l===c&&(c=(c+1)%e),m-u<n)return;const E=g&&m-g;return E?Math.round(C*1e3/E):void 0}}function HD(e,n){let o=0,i=1e3/n,l,c;const u=(m,g=Date.now())=>{o=g,l=null,c&&(clearTimeout(c),c=null),e(...m)};return[(...m)=>{const g=Date.now(),y=g-o;y>=i?u(m,g):(l=m,c||(c=setTimeout(()=>{c=null,u(l)},i-y)))},()=>l&&u(l)]}const Cu=(e,n,o=3)=>{let i=0;const l=UD(50,250);return HD(c=>{const u=c.loaded,d=c.lengthComputable?c.total:void 0,h=u-i,m=l(h),g=u<=d;i=u;const y={loaded:u,total:d,progress:d?u/d:void 0,bytes:h,rate:m||void 0,estimated:m&&d&&g?(d-u)/m:void 0,event:c,lengthComputable:d!=null,[n?"download":"upload"]:!0};e(y)},o)},R1=(e,n)=>{const o=e!=null;return[i=>n[0]({lengthComputable:o,total:e,loaded:i}),n[1]]},A1=e=>(...n)=>ne.asap(()=>e(...n)),ID=pn.hasStandardBrowserEnv?((e,n)=>o=>(o=new URL(o,pn.origin),e.protocol===o.protocol&&e.host===o.host&&(n||e.port===o.port)))(new URL(pn.origin),pn.navigator&&/(msie|trident)/i.test(pn.navigator.userAgent)):()=>!0,qD=pn.hasStandardBrowserEnv?{write(e,n,o,i,l,c){const u=[e+"="+encodeURIComponent(n)];ne.isNumber(o)&&u.push("expires="+new Date(o).toGMTString()),ne.isString(i)&&u.push("path="+i),ne.isString(l)&&u.push("domain="+l),c===!0&&u.push("secure"),document.cookie=u.join("; ")},read(e){const n=document.cookie.match(new RegExp("(^|;\\s*)("+e+")=([^;]*)"));return n?decodeURIComponent(n[3]):null},remove(e){this.write(e,"",Date.now()-864e5)}}:{write(){},read(){return null},remove(){}};function VD(e){return/^([a-z][a-z\d+\-.]*:)?\/\//i.test(e)}function FD(e,n){return n?e.replace(/\/?\/$/,"")+"/"+n.replace(/^\/+/,""):e}function NC(e,n,o){let i=!VD(n);return e&&(i||o==!1)?FD(e,n):n}const O1=e=>e instanceof On?{...e}:e;function ga(e,n){n=n||{};const o={};function i(m,g,y,C){return ne.isPlainObject(m)&&ne.isPlainObject(g)?ne.merge.call({caseless:C},m,g):ne.isPlainObject(g)?ne.merge({},g):ne.isArray(g)?g.slice():g}function l(m,g,y,C){if(ne.isUndefined(g)){if(!ne.isUndefined(m))return i(void 0,m,y,C)}else return i(m,g,y,C)}function c(m,g){if(!ne.isUndefined(g))return i(void 0,g)}function u(m,g){if(ne.isUndefined(g)){if(!ne.isUndefined(m))return i(void 0,m)}else return i(void 0,g)}function d(m,g,y){if(y in n)return i(m,g);if(y in e)return i(void 0,m)}const h={url:c,method:c,data:c,baseURL:u,transformRequest:u,transformResponse:u,paramsSerializer:u,timeout:u,timeoutMessage:u,withCredentials:u,withXSRFToken:u,adapter:u,responseType:u,xsrfCookieName:u,xsrfHeaderName:u,onUploadProgress:u,onDownloadProgress:u,decompress:u,maxContentLength:u,maxBodyLength:u,beforeRedirect:u,transport:u,httpAgent:u,httpsAgent:u,cancelToken:u,socketPath:u,responseEncoding:u,validateStatus:d,headers:(m,g,y)=>l(O1(m),O1(g),y,!0)};return ne.forEach(Object.keys({...e,...n}),function(g){const y=h[g]||l,C=y(e[g],n[g],g);ne.isUndefined(C)&&y!==d||(o[g]=C)}),o}const DC=e=>{const n=ga({},e);let{data:o,withXSRFToken:i,xsrfHeaderName:l,xsrfCookieName:c,headers:u,auth:d}=n;if(n.headers=u=On.from(u),n.url=AC(NC(n.baseURL,n.url,n.allowAbsoluteUrls),e.params,e.paramsSerializer),d&&u.set("Authorization","Basic "+btoa((d.username||"")+":"+(d.password?unescape(encodeURIComponent(d.password)):""))),ne.isFormData(o)){if(pn.hasStandardBrowserEnv||pn.hasStandardBrowserWebWorkerEnv)u.setContentType(void 0);else if(ne.isFunction(o.getHeaders)){const h=o.getHeaders(),m=["content-type","content-length"];Object.entries(h).forEach(([g,y])=>{m.includes(g.toLowerCase())&&u.set(g,y)})}}if(pn.hasStandardBrowserEnv&&(i&&ne.isFunction(i)&&(i=i(n)),i||i!==!1&&ID(n.url))){const h=l&&c&&qD.read(c);h&&u.set(l,h)}return n},WD=typeof XMLHttpRequest<"u",GD=WD&&function(e){return new Promise(function(o,i){const l=DC(e);let c=l.data;const u=On.from(l.headers).normalize();let{responseType:d,onUploadProgress:h,onDownloadProgress:m}=l,g,y,C,E,b;function S(){E&&E(),b&&b(),l.cancelToken&&l.cancelToken.unsubscribe(g),l.signal&&l.signal.removeEventListener("abort",g)}let O=new XMLHttpRequest;O.open(l.method.toUpperCase(),l.url,!0),O.timeout=l.timeout;function M(){if(!O)return;const R=On.from("getAllResponseHeaders"in O&&O.getAllResponseHeaders()),T={data:!d||d==="text"||d==="json"?O.responseText:O.response,status:O.status,statusText:O.statusText,headers:R,config:e,request:O};_C(function(z){o(z),S()},function(z){i(z),S()},T),O=null}"onloadend"in O?O.onloadend=M:O.onreadystatechange=function(){!O||O.readyState!==4||O.status===0&&!(O.responseURL&&O.responseURL.indexOf("file:")===0)||setTimeout(M)},O.onabort=function(){O&&(i(new Ve("Request aborted",Ve.ECONNABORTED,e,O)),O=null)},O.onerror=function(v){const T=v&&v.message?v.message:"Network Error",D=new Ve(T,Ve.ERR_NETWORK,e,O);D.event=v||null,i(D),O=null},O.ontimeout=function(){let v=l.timeout?"timeout of "+l.timeout+"ms exceeded":"timeout exceeded";const T=l.transitional||OC;l.timeoutErrorMessage&&(v=l.timeoutErrorMessage),i(new Ve(v,T.clarifyTimeoutError?Ve.ETIMEDOUT:Ve.ECONNABORTED,e,O)),O=null},c===void 0&&u.setContentType(null),"setRequestHeader"in O&&ne.forEach(u.toJSON(),function(v,T){O.setRequestHeader(T,v)}),ne.isUndefined(l.withCredentials)||(O.withCredentials=!!l.withCredentials),d&&d!=="json"&&(O.responseType=l.responseType),m&&([C,b]=Cu(m,!0),O.addEventListener("progress",C)),h&&O.upload&&([y,E]=Cu(h),O.upload.addEventListener("progress",y),O.upload.addEventListener("loadend",E)),(l.cancelToken||l.signal)&&(g=R=>{O&&(i(!R||R.type?new Mi(null,e,O):R),O.abort(),O=null)},l.cancelToken&&l.cancelToken.subscribe(g),l.signal&&(l.signal.aborted?g():l.signal.addEventListener("abort",g)));const N=PD(l.url);if(N&&pn.protocols.indexOf(N)===-1){i(new Ve("Unsupported protocol "+N+":",Ve.ERR_BAD_REQUEST,e));return}O.send(c||null)})},XD=(e,n)=>{const{length:o}=e=e?e.filter(Boolean):[];if(n||o){let i=new AbortController,l;const c=function(m){if(!l){l=!0,d();const g=m instanceof Error?m:this.reason;i.abort(g instanceof Ve?g:new Mi(g instanceof Error?g.message:g))}};let u=n&&setTimeout(()=>{u=null,c(new Ve(`timeout ${n} of ms exceeded`,Ve.ETIMEDOUT))},n);const d=()=>{e&&(u&&clearTimeout(u),u=null,e.forEach(m=>{m.unsubscribe?m.unsubscribe(c):m.removeEventListener("abort",c)}),e=null)};e.forEach(m=>m.addEventListener("abort",c));const{signal:h}=i;return h.unsubscribe=()=>ne.asap(d),h}},YD=function*(e,n){let o=e.byteLength;if(o<n){yield e;return}let i=0,l;for(;i<o;)l=i+n,yield e.slice(i,l),i=l},KD=async function*(e,n){for await(const o of QD(e))yield*YD(o,n)},QD=async function*(e){if(e[Symbol.asyncIterator]){yield*e;return}const n=e.getReader();try{for(;;){const{done:o,value:i}=await n.read();if(o)break;yield i}}finally{await n.cancel()}},k1=(e,n,o,i)=>{const l=KD(e,n);let c=0,u,d=h=>{u||(u=!0,i&&i(h))};return new ReadableStream({async pull(h){try{const{done:m,value:g}=await l.next();if(m){d(),h.close();return}let y=g.byteLength;if(o){let C=c+=y;o(C)}h.enqueue(new Uint8Array(g))}catch(m){throw d(m),m}},cancel(h){return d(h),l.return()}},{highWaterMark:2})},M1=64*1024,{isFunction:Xc}=ne,ZD=(({Request:e,Response:n})=>({Request:e,Response:n}))(ne.global),{ReadableStream:_1,TextEncoder:N1}=ne.global,D1=(e,...n)=>{try{return!!e(...n)}catch{return!1}},JD=e=>{e=ne.merge.call({skipUndefined:!0},ZD,e);const{fetch:n,Request:o,Response:i}=e,l=n?Xc(n):typeof fetch=="function",c=Xc(o),u=Xc(i);if(!l)return!1;const d=l&&Xc(_1),h=l&&(typeof N1=="function"?(b=>S=>b.encode(S))(new N1):async b=>new Uint8Array(await new o(b).arrayBuffer())),m=c&&d&&D1(()=>{let b=!1;const S=new o(pn.origin,{body:new _1,method:"POST",get duplex(){return b=!0,"half"}}).headers.has("Content-Type");return b&&!S}),g=u&&d&&D1(()=>ne.isReadableStream(new i("").body)),y={stream:g&&(b=>b.body)};l&&["text","arrayBuffer","blob","formData","stream"].forEach(b=>{!y[b]&&(y[b]=(S,O)=>{let M=S&&S[b];if(M)return M.call(S);throw new Ve(`Response type '${b}' is not supported`,Ve.ERR_NOT_SUPPORT,O)})});const C=async b=>{if(b==null)return 0;if(ne.isBlob(b))return b.size;if(ne.isSpecCompliantForm(b))return(await new o(pn.origin,{method:"POST",body:b}).arrayBuffer()).byteLength;if(ne.isArrayBufferView(b)||ne.isArrayBuffer(b))return b.byteLength;if(ne.isURLSearchParams(b)&&(b=b+""),ne.isString(b))return(await h(b)).byteLength},E=async(b,S)=>{const O=ne.toFiniteNumber(b.getContentLength());return O??C(S)};return async b=>{let{url:S,method:O,data:M,signal:N,cancelToken:R,timeout:v,onDownloadProgress:T,onUploadProgress:D,responseType:z,headers:B,withCredentials:P="same-origin",fetchOptions:I}=DC(b),V=n||fetch;z=z?(z+"").toLowerCase():"text";let w=XD([N,R&&R.toAbortSignal()],v),$=null;const q=w&&w.unsubscribe&&(()=>{w.unsubscribe()});let W;try{if(D&&m&&O!=="get"&&O!=="head"&&(W=await E(B,M))!==0){let G=new o(S,{method:"POST",body:M,duplex:"half"}),ee;if(ne.isFormData(M)&&(ee=G.headers.get("content-type"))&&B.setContentType(ee),G.body){const[re,se]=R1(W,Cu(A1(D)));M=k1(G.body,M1,re,se)}}ne.isString(P)||(P=P?"include":"omit");const k=c&&"credentials"in o.prototype,H={...I,signal:w,method:O.toUpperCase(),headers:B.normalize().toJSON(),body:M,duplex:"half",credentials:k?P:void 0};$=c&&new o(S,H);let K=await(c?V($,I):V(S,H));const X=g&&(z==="stream"||z==="response");if(g&&(T||X&&q)){const G={};["status","statusText","headers"].forEach(pe=>{G[pe]=K[pe]});const ee=ne.toFiniteNumber(K.headers.get("content-length")),[re,se]=T&&R1(ee,Cu(A1(T),!0))||[];K=new i(k1(K.body,M1,re,()=>{se&&se(),q&&q()}),G)}z=z||"text";let j=await y[ne.findKey(y,z)||"text"](K,b);return!X&&q&&q(),await new Promise((G,ee)=>{_C(G,ee,{data:j,headers:On.from(K.headers),status:K.status,statusText:K.statusText,config:b,request:$})})}catch(k){throw q&&q(),k&&k.name==="TypeError"&&/Load failed|fetch/i.test(k.message)?Object.assign(new Ve("Network Error",Ve.ERR_NETWORK,b,$),{cause:k.cause||k}):Ve.from(k,k&&k.code,b,$)}}},e6=new Map,LC=e=>{let n=e?e.env:{};const{fetch:o,Request:i,Response:l}=n,c=[i,l,o];let u=c.length,d=u,h,m,g=e6;for(;d--;)h=c[d],m=g.get(h),m===void 0&&g.set(h,m=d?new Map:JD(n)),g=m;return m};LC();const um={http:yD,xhr:GD,fetch:{get:LC}};ne.forEach(um,(e,n)=>{if(e){try{Object.defineProperty(e,"name",{value:n})}catch{}Object.defineProperty(e,"adapterName",{value:n})}});const L1=e=>`- ${e}`,t6=e=>ne.isFunction(e)||e===null||e===!1,BC={getAdapter:(e,n)=>{e=ne.isArray(e)?e:[e];const{length:o}=e;let i,l;const c={};for(let u=0;u<o;u++){i=e[u];let d;if(l=i,!t6(i)&&(l=um[(d=String(i)).toLowerCase()],l===void 0))throw new Ve(`Unknown adapter '${d}'`);if(l&&(ne.isFunction(l)||(l=l.get(n))))break;c[d||"#"+u]=l}if(!l){const u=Object.entries(c).map(([h,m])=>`adapter ${h} `+(m===!1?"is not supported by the environment":"is not available in the build"));let d=o?u.length>1?`since :
 `+u.map(L1).join(`
 `):" "+L1(u[0]):"as no adapter specified";throw new Ve("There is no suitable adapter to dispatch the request "+d,"ERR_NOT_SUPPORT")}return l},adapters:um};function Np(e){if(e.cancelToken&&e.cancelToken.throwIfRequested(),e.signal&&e.signal.aborted)throw new Mi(null,e)}function B1(e){return Np(e),e.headers=On.from(e.headers),e.data=_p.call(e,e.transformRequest),["post","put","patch"].indexOf(e.method)!==-1&&e.headers.setContentType("application/x-www-form-urlencoded",!1),BC.getAdapter(e.adapter||bl.adapter,e)(e).then(function(i){return Np(e),i.data=_p.call(e,e.transformResponse,i),i.headers=On.from(i.headers),i},function(i){return MC(i)||(Np(e),i&&i.response&&(i.response.data=_p.call(e,e.transformResponse,i.response),i.response.headers=On.from(i.response.headers))),Promise.reject(i)})}const jC="1.12.2",Zu={};["object","boolean","number","function","string","symbol"].forEach((e,n)=>{Zu[e]=function(i){return typeof i===e||"a"+(n<1?"n ":" ")+e}});const j1={};Zu.transitional=function(n,o,i){function l(c,u){return"[Axios v"+jC+"] Transitional option '"+c+"'"+u+(i?". "+i:"")}return(c,u,d)=>{if(n===!1)throw new Ve(l(u," has been removed"+(o?" in "+o:"")),Ve.ERR_DEPRECATED);return o&&!j1[u]&&(j1[u]=!0,console.warn(l(u," has been deprecated since v"+o+" and will be removed in the near future"))),n?n(c,u,d):!0}};Zu.spelling=function(n){return(o,i)=>(console.warn(`${i} is likely a misspelling of ${n}`),!0)};function n6(e,n,o){if(typeof e!="object")throw new Ve("options must be an object",Ve.ERR_BAD_OPTION_VALUE);const i=Object.keys(e);let l=i.length;for(;l-- >0;){const c=i[l],u=n[c];if(u){const d=e[c],h=d===void 0||u(d,c,e);if(h!==!0)throw new Ve("option "+c+" must be "+h,Ve.ERR_BAD_OPTION_VALUE);continue}if(o!==!0)throw new Ve("Unknown option "+c,Ve.ERR_BAD_OPTION)}}const uu={assertOptions:n6,validators:Zu},Cr=uu.validators;let pa=class{constructor(n){this.defaults=n||{},this.interceptors={request:new w1,response:new w1}}async request(n,o){try{return await this._request(n,o)}catch(i){if(i instanceof Error){let l={};Error.captureStackTrace?Error.captureStackTrace(l):l=new Error;const c=l.stack?l.stack.replace(/^.+\n/,""):"";try{i.stack?c&&!String(i.stack).endsWith(c.replace(/^.+\n.+\n/,""))&&(i.stack+=`
-`+c):i.stack=c}catch{}}throw i}}_request(n,o){typeof n=="string"?(o=o||{},o.url=n):o=n||{},o=ga(this.defaults,o);const{transitional:i,paramsSerializer:l,headers:c}=o;i!==void 0&&uu.assertOptions(i,{silentJSONParsing:Cr.transitional(Cr.boolean),forcedJSONParsing:Cr.transitional(Cr.boolean),clarifyTimeoutError:Cr.transitional(Cr.boolean)},!1),l!=null&&(ne.isFunction(l)?o.paramsSerializer={serialize:l}:uu.assertOptions(l,{encode:Cr.function,serialize:Cr.function},!0)),o.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?o.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:o.allowAbsoluteUrls=!0),uu.assertOptions(o,{baseUrl:Cr.spelling("baseURL"),withXsrfToken:Cr.spelling("withXSRFToken")},!0),o.method=(o.method||this.defaults.method||"get").toLowerCase();let u=c&&ne.merge(c.common,c[o.method]);c&&ne.forEach(["delete","get","head","post","put","patch","common"],b=>{delete c[b]}),o.headers=On.concat(u,c);const d=[];let h=!0;this.interceptors.request.forEach(function(S){typeof S.runWhen=="function"&&S.runWhen(o)===!1||(h=h&&S.synchronous,d.unshift(S.fulfilled,S.rejected))});const m=[];this.interceptors.response.forEach(function(S){m.push(S.fulfilled,S.rejected)});let g,y=0,C;if(!h){const b=[B1.bind(this),void 0];for(b.unshift(...d),b.push(...m),C=b.length,g=Promise.resolve(o);y<C;)g=g.then(b[y++],b[y++]);return g}C=d.length;let E=o;for(;y<C;){const b=d[y++],S=d[y++];try{E=b(E)}catch(O){S.call(this,O);break}}try{g=B1.call(this,E)}catch(b){return Promise.reject(b)}for(y=0,C=m.length;y<C;)g=g.then(m[y++],m[y++]);return g}getUri(n){n=ga(this.defaults,n);const o=NC(n.baseURL,n.url,n.allowAbsoluteUrls);return AC(o,n.params,n.paramsSerializer)}};ne.forEach(["delete","get","head","options"],function(n){pa.prototype[n]=function(o,i){return this.request(ga(i||{},{method:n,url:o,data:(i||{}).data}))}});ne.forEach(["post","put","patch"],function(n){function o(i){return function(c,u,d){return this.request(ga(d||{},{method:n,headers:i?{"Content-Type":"multipart/form-data"}:{},url:c,data:u}))}}pa.prototype[n]=o(),pa.prototype[n+"Form"]=o(!0)});let r6=class zC{constructor(n){if(typeof n!="function")throw new TypeError("executor must be a function.");let o;this.promise=new Promise(function(c){o=c});const i=this;this.promise.then(l=>{if(!i._listeners)return;let c=i._listeners.length;for(;c-- >0;)i._listeners[c](l);i._listeners=null}),this.promise.then=l=>{let c;const u=new Promise(d=>{i.subscribe(d),c=d}).then(l);return u.cancel=function(){i.unsubscribe(c)},u},n(function(c,u,d){i.reason||(i.reason=new Mi(c,u,d),o(i.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(n){if(this.reason){n(this.reason);return}this._listeners?this._listeners.push(n):this._listeners=[n]}unsubscribe(n){if(!this._listeners)return;const o=this._listeners.indexOf(n);o!==-1&&this._listeners.splice(o,1)}toAbortSignal(){const n=new AbortController,o=i=>{n.abort(i)};return this.subscribe(o),n.signal.unsubscribe=()=>this.unsubscribe(o),n.signal}static source(){let n;return{token:new zC(function(l){n=l}),cancel:n}}};function o6(e){return function(o){return e.apply(null,o)}}function a6(e){return ne.isObject(e)&&e.isAxiosError===!0}const fm={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(fm).forEach(([e,n])=>{fm[n]=e});function $C(e){const n=new pa(e),o=mC(pa.prototype.request,n);return ne.extend(o,pa.prototype,n,{allOwnKeys:!0}),ne.extend(o,n,null,{allOwnKeys:!0}),o.create=function(l){return $C(ga(e,l))},o}const It=$C(bl);It.Axios=pa;It.CanceledError=Mi;It.CancelToken=r6;It.isCancel=MC;It.VERSION=jC;It.toFormData=Qu;It.AxiosError=Ve;It.Cancel=It.CanceledError;It.all=function(n){return Promise.all(n)};It.spread=o6;It.isAxiosError=a6;It.mergeConfig=ga;It.AxiosHeaders=On;It.formToJSON=e=>kC(ne.isHTMLForm(e)?new FormData(e):e);It.getAdapter=BC.getAdapter;It.HttpStatusCode=fm;It.default=It;const{Axios:Y6,AxiosError:K6,CanceledError:Q6,isCancel:Z6,CancelToken:J6,VERSION:eL,all:tL,Cancel:nL,isAxiosError:rL,spread:oL,toFormData:aL,AxiosHeaders:iL,HttpStatusCode:sL,formToJSON:lL,getAdapter:cL,mergeConfig:uL}=It,dn=It.create({baseURL:"/api/v1",timeout:1e4,headers:{"Content-Type":"application/json"}});dn.interceptors.request.use(e=>(console.log(`🚀 API 요청: ${e.method?.toUpperCase()} ${e.url}`),e),e=>(console.error("❌ API 요청 오류:",e),Promise.reject(e)));dn.interceptors.response.use(e=>(console.log(`✅ API 응답: ${e.status} ${e.config.url}`),e),e=>(console.error("❌ API 응답 오류:",e.response?.data||e.message),Promise.reject(e)));class ua{static async createTimer(n){return(await dn.post("/timers",n)).data}static async getTimerInfo(n,o){const i=o?{userId:o}:{};return(await dn.get(`/timers/${n}`,{params:i})).data}static async getTimerInfoByShareToken(n,o){const i=o?{userId:o}:{};return(await dn.get(`/timers/shared/${n}`,{params:i})).data}static async changeTargetTime(n,o){return(await dn.put(`/timers/${n}/target-time`,o)).data}static async saveTimestamp(n,o){return(await dn.post(`/timers/${n}/timestamps`,o)).data}static async getTimerHistory(n){return(await dn.get(`/timers/${n}/history`)).data}static async getUserTimerHistory(n,o){return(await dn.get(`/timers/${n}/history/${o}`)).data}static async getRedisKeys(n="*"){return(await dn.get(`/debug/redis/keys?pattern=${n}`)).data}static async getTimerUsers(n){return(await dn.get(`/debug/redis/timer/${n}/users`)).data}static async getAllTimerUsers(){return(await dn.get("/debug/redis/timers/all-users")).data}static async getRedisStats(){return(await dn.get("/debug/redis/stats")).data}static async getRedisKeyValue(n){return(await dn.get(`/debug/redis/key/${encodeURIComponent(n)}`)).data}static async deleteRedisKey(n){return(await dn.delete(`/debug/redis/key/${encodeURIComponent(n)}`)).data}static async removeUserFromTimer(n,o){return(await dn.delete(`/debug/redis/timer/${n}/user/${o}`)).data}}const i6=({timerId:e,userId:n,refreshTrigger:o=0})=>{const[i,l]=A.useState([]),[c,u]=A.useState(!1),[d,h]=A.useState(null),m=async()=>{if(!(!e||!n)){u(!0),h(null);try{let b;try{b=await ua.getUserTimerHistory(e,n)}catch(S){console.warn("사용자별 API 실패, 전체 목록에서 필터링:",S),b=(await ua.getTimerHistory(e)).filter(M=>M.userId===n)}l(b)}catch(b){console.error("타임스탬프 목록 로드 실패:",b),h("타임스탬프 목록을 불러올 수 없습니다.")}finally{u(!1)}}};A.useEffect(()=>{m()},[e,n,o]);const g=b=>{if(!b||isNaN(b)||b<0)return"00:00";const S=Math.floor(b/1e3),O=Math.floor(S/3600),M=Math.floor(S%3600/60),N=S%60;return O>0?`${O}:${M.toString().padStart(2,"0")}:${N.toString().padStart(2,"0")}`:`${M.toString().padStart(2,"0")}:${N.toString().padStart(2,"0")}`},y=b=>{const S=new Date(b.createdAt).getTime(),M=new Date(b.targetTime).getTime()-S;return Math.max(0,M)},C=b=>new Date(b).toLocaleString("ko-KR",{month:"short",day:"numeric",hour:"2-digit",minute:"2-digit",second:"2-digit"}),E=b=>b.length<=8?b:`${b.substring(0,4)}...${b.substring(b.length-4)}`;return c?L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsx(Ws,{children:L.jsxs($n,{display:"flex",justifyContent:"center",alignItems:"center",py:3,children:[L.jsx(Lm,{size:24}),L.jsx(At,{variant:"body2",color:"text.secondary",ml:2,children:"타임스탬프 목록을 불러오는 중..."})]})})}):d?L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsx(Ws,{children:L.jsx(Bm,{severity:"error",children:d})})}):L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsxs(Ws,{children:[L.jsxs(Ar,{direction:"row",alignItems:"center",spacing:1,mb:2,children:[L.jsx(xN,{color:"primary"}),L.jsx(At,{variant:"h6",color:"primary",children:"저장된 시점들"}),L.jsx(ol,{label:`${i.length}개`,size:"small",color:"primary",variant:"outlined"})]}),i.length===0?L.jsxs($n,{textAlign:"center",py:3,children:[L.jsx(At,{variant:"body2",color:"text.secondary",children:"아직 저장된 시점이 없습니다."}),L.jsx(At,{variant:"caption",color:"text.secondary",display:"block",mt:1,children:"타이머 진행 중 '저장' 버튼을 눌러 현재 시점을 기록해보세요."})]}):L.jsx(aC,{disablePadding:!0,children:i.map((b,S)=>L.jsxs(Zn.Fragment,{children:[L.jsxs(G_,{sx:{px:0,py:1.5,"&:hover":{backgroundColor:"rgba(0, 0, 0, 0.04)"},flexDirection:"column",alignItems:"stretch"},children:[L.jsxs(Ar,{direction:"row",alignItems:"center",spacing:1,mb:.5,children:[L.jsx(bN,{fontSize:"small",color:"action"}),L.jsxs(At,{variant:"body1",fontWeight:"medium",children:["버튼 누른 시점: ",C(b.createdAt)]}),L.jsx(ol,{icon:L.jsx(TN,{}),label:E(b.userId),size:"small",variant:"outlined",sx:{ml:"auto"}})]}),L.jsxs(Ar,{spacing:.5,children:[L.jsxs(Ar,{direction:"row",justifyContent:"space-between",alignItems:"center",children:[L.jsxs(At,{variant:"caption",color:"text.secondary",children:["📅 현재 시각: ",C(b.createdAt)]}),L.jsxs(At,{variant:"caption",color:"text.secondary",children:["⏰ 남은 시간: ",g(y(b))]})]}),L.jsxs(At,{variant:"caption",color:"text.secondary",children:["🎯 목표 시간: ",new Date(b.targetTime).toLocaleString("ko-KR",{month:"short",day:"numeric",hour:"2-digit",minute:"2-digit"})]})]})]}),S<i.length-1&&L.jsx(em,{})]},b.id||S))})]})})};function s6(e,n){e.terminate=function(){const o=()=>{};this.onerror=o,this.onmessage=o,this.onopen=o;const i=new Date,l=Math.random().toString().substring(2,8),c=this.onclose;this.onclose=u=>{const d=new Date().getTime()-i.getTime();n(`Discarded socket (#${l})  closed after ${d}ms, with code/reason: ${u.code}/${u.reason}`)},this.close(),c?.call(e,{code:4001,reason:`Quick discarding socket (#${l}) without waiting for the shutdown sequence.`,wasClean:!1})}}const Hs={LF:`
+`+c):i.stack=c}catch{}}throw i}}_request(n,o){typeof n=="string"?(o=o||{},o.url=n):o=n||{},o=ga(this.defaults,o);const{transitional:i,paramsSerializer:l,headers:c}=o;i!==void 0&&uu.assertOptions(i,{silentJSONParsing:Cr.transitional(Cr.boolean),forcedJSONParsing:Cr.transitional(Cr.boolean),clarifyTimeoutError:Cr.transitional(Cr.boolean)},!1),l!=null&&(ne.isFunction(l)?o.paramsSerializer={serialize:l}:uu.assertOptions(l,{encode:Cr.function,serialize:Cr.function},!0)),o.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?o.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:o.allowAbsoluteUrls=!0),uu.assertOptions(o,{baseUrl:Cr.spelling("baseURL"),withXsrfToken:Cr.spelling("withXSRFToken")},!0),o.method=(o.method||this.defaults.method||"get").toLowerCase();let u=c&&ne.merge(c.common,c[o.method]);c&&ne.forEach(["delete","get","head","post","put","patch","common"],b=>{delete c[b]}),o.headers=On.concat(u,c);const d=[];let h=!0;this.interceptors.request.forEach(function(S){typeof S.runWhen=="function"&&S.runWhen(o)===!1||(h=h&&S.synchronous,d.unshift(S.fulfilled,S.rejected))});const m=[];this.interceptors.response.forEach(function(S){m.push(S.fulfilled,S.rejected)});let g,y=0,C;if(!h){const b=[B1.bind(this),void 0];for(b.unshift(...d),b.push(...m),C=b.length,g=Promise.resolve(o);y<C;)g=g.then(b[y++],b[y++]);return g}C=d.length;let E=o;for(;y<C;){const b=d[y++],S=d[y++];try{E=b(E)}catch(O){S.call(this,O);break}}try{g=B1.call(this,E)}catch(b){return Promise.reject(b)}for(y=0,C=m.length;y<C;)g=g.then(m[y++],m[y++]);return g}getUri(n){n=ga(this.defaults,n);const o=NC(n.baseURL,n.url,n.allowAbsoluteUrls);return AC(o,n.params,n.paramsSerializer)}};ne.forEach(["delete","get","head","options"],function(n){pa.prototype[n]=function(o,i){return this.request(ga(i||{},{method:n,url:o,data:(i||{}).data}))}});ne.forEach(["post","put","patch"],function(n){function o(i){return function(c,u,d){return this.request(ga(d||{},{method:n,headers:i?{"Content-Type":"multipart/form-data"}:{},url:c,data:u}))}}pa.prototype[n]=o(),pa.prototype[n+"Form"]=o(!0)});let r6=class zC{constructor(n){if(typeof n!="function")throw new TypeError("executor must be a function.");let o;this.promise=new Promise(function(c){o=c});const i=this;this.promise.then(l=>{if(!i._listeners)return;let c=i._listeners.length;for(;c-- >0;)i._listeners[c](l);i._listeners=null}),this.promise.then=l=>{let c;const u=new Promise(d=>{i.subscribe(d),c=d}).then(l);return u.cancel=function(){i.unsubscribe(c)},u},n(function(c,u,d){i.reason||(i.reason=new Mi(c,u,d),o(i.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(n){if(this.reason){n(this.reason);return}this._listeners?this._listeners.push(n):this._listeners=[n]}unsubscribe(n){if(!this._listeners)return;const o=this._listeners.indexOf(n);o!==-1&&this._listeners.splice(o,1)}toAbortSignal(){const n=new AbortController,o=i=>{n.abort(i)};return this.subscribe(o),n.signal.unsubscribe=()=>this.unsubscribe(o),n.signal}static source(){let n;return{token:new zC(function(l){n=l}),cancel:n}}};function o6(e){return function(o){return e.apply(null,o)}}function a6(e){return ne.isObject(e)&&e.isAxiosError===!0}const fm={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(fm).forEach(([e,n])=>{fm[n]=e});function $C(e){const n=new pa(e),o=mC(pa.prototype.request,n);return ne.extend(o,pa.prototype,n,{allOwnKeys:!0}),ne.extend(o,n,null,{allOwnKeys:!0}),o.create=function(l){return $C(ga(e,l))},o}const It=$C(bl);It.Axios=pa;It.CanceledError=Mi;It.CancelToken=r6;It.isCancel=MC;It.VERSION=jC;It.toFormData=Qu;It.AxiosError=Ve;It.Cancel=It.CanceledError;It.all=function(n){return Promise.all(n)};It.spread=o6;It.isAxiosError=a6;It.mergeConfig=ga;It.AxiosHeaders=On;It.formToJSON=e=>kC(ne.isHTMLForm(e)?new FormData(e):e);It.getAdapter=BC.getAdapter;It.HttpStatusCode=fm;It.default=It;const{Axios:Y6,AxiosError:K6,CanceledError:Q6,isCancel:Z6,CancelToken:J6,VERSION:eL,all:tL,Cancel:nL,isAxiosError:rL,spread:oL,toFormData:aL,AxiosHeaders:iL,HttpStatusCode:sL,formToJSON:lL,getAdapter:cL,mergeConfig:uL}=It,dn=It.create({baseURL:"/api/v1",timeout:1e4,headers:{"Content-Type":"application/json"}});dn.interceptors.request.use(e=>(console.log(`🚀 API 요청: ${e.method?.toUpperCase()} ${e.url}`),e),e=>(console.error("❌ API 요청 오류:",e),Promise.reject(e)));dn.interceptors.response.use(e=>(console.log(`✅ API 응답: ${e.status} ${e.config.url}`),e),e=>(console.error("❌ API 응답 오류:",e.response?.data||e.message),Promise.reject(e)));class ua{static async createTimer(n){return(await dn.post("/timers",n)).data}static async getTimerInfo(n,o){const i=o?{userId:o}:{};return(await dn.get(`/timers/${n}`,{params:i})).data}static async getTimerInfoByShareToken(n,o){const i=o?{userId:o}:{};return(await dn.get(`/timers/shared/${n}`,{params:i})).data}static async changeTargetTime(n,o){return(await dn.put(`/timers/${n}/target-time`,o)).data}static async saveTimestamp(n,o){return(await dn.post(`/timers/${n}/timestamps`,o)).data}static async getTimerHistory(n){return ua.getAllHistoryPages(`/timers/${n}/history`)}static async getUserTimerHistory(n,o){return ua.getAllHistoryPages(`/timers/${n}/history/${o}`)}static async getAllHistoryPages(n){const o=[];let i;do{const l=await dn.get(n,{params:{after:i}});o.push(...l.data),i=l.headers["x-next-cursor"]}while(i);return o}static async getRedisKeys(n="*",o="0"){const i=await dn.get(`/debug/redis/keys?pattern=${encodeURIComponent(n)}&cursor=${o}`,{responseType:"text"}),l=ua.parseNdjson(i.data);return{keys:l.flatMap(c=>c.keys),nextCursor:l.length>0?l[l.length-1].nextCursor:"0"}}static async getTimerUsers(n){return(await dn.get(`/debug/redis/timer/${n}/users`)).data}static async getAllTimerUsers(n="0"){const o=await dn.get(`/debug/redis/timers/all-users?cursor=${n}`,{responseType:"text"});return ua.parseNdjson(o.data)}static parseNdjson(n){return n.split(`
+`).filter(o=>o.trim().length>0).map(o=>JSON.parse(o))}static async getRedisStats(){return(await dn.get("/debug/redis/stats")).data}static async getRedisKeyValue(n){return(await dn.get(`/debug/redis/key/${encodeURIComponent(n)}`)).data}static async deleteRedisKey(n){return(await dn.delete(`/debug/redis/key/${encodeURIComponent(n)}`)).data}static async removeUserFromTimer(n,o){return(await dn.delete(`/debug/redis/timer/${n}/user/${o}`)).data}}const i6=({timerId:e,userId:n,refreshTrigger:o=0})=>{const[i,l]=A.useState([]),[c,u]=A.useState(!1),[d,h]=A.useState(null),m=async()=>{if(!(!e||!n)){u(!0),h(null);try{let b;try{b=await ua.getUserTimerHistory(e,n)}catch(S){console.warn("사용자별 API 실패, 전체 목록에서 필터링:",S),b=(await ua.getTimerHistory(e)).filter(M=>M.userId===n)}l(b)}catch(b){console.error("타임스탬프 목록 로드 실패:",b),h("타임스탬프 목록을 불러올 수 없습니다.")}finally{u(!1)}}};A.useEffect(()=>{m()},[e,n,o]);const g=b=>{if(!b||isNaN(b)||b<0)return"00:00";const S=Math.floor(b/1e3),O=Math.floor(S/3600),M=Math.floor(S%3600/60),N=S%60;return O>0?`${O}:${M.toString().padStart(2,"0")}:${N.toString().padStart(2,"0")}`:`${M.toString().padStart(2,"0")}:${N.toString().padStart(2,"0")}`},y=b=>{const S=new Date(b.createdAt).getTime(),M=new Date(b.targetTime).getTime()-S;return Math.max(0,M)},C=b=>new Date(b).toLocaleString("ko-KR",{month:"short",day:"numeric",hour:"2-digit",minute:"2-digit",second:"2-digit"}),E=b=>b.length<=8?b:`${b.substring(0,4)}...${b.substring(b.length-4)}`;return c?L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsx(Ws,{children:L.jsxs($n,{display:"flex",justifyContent:"center",alignItems:"center",py:3,children:[L.jsx(Lm,{size:24}),L.jsx(At,{variant:"body2",color:"text.secondary",ml:2,children:"타임스탬프 목록을 불러오는 중..."})]})})}):d?L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsx(Ws,{children:L.jsx(Bm,{severity:"error",children:d})})}):L.jsx(Fs,{elevation:2,sx:{mt:2},children:L.jsxs(Ws,{children:[L.jsxs(Ar,{direction:"row",alignItems:"center",spacing:1,mb:2,children:[L.jsx(xN,{color:"primary"}),L.jsx(At,{variant:"h6",color:"primary",children:"저장된 시점들"}),L.jsx(ol,{label:`${i.length}개`,size:"small",color:"primary",variant:"outlined"})]}),i.length===0?L.jsxs($n,{textAlign:"center",py:3,children:[L.jsx(At,{variant:"body2",color:"text.secondary",children:"아직 저장된 시점이 없습니다."}),L.jsx(At,{variant:"caption",color:"text.secondary",display:"block",mt:1,children:"타이머 진행 중 '저장' 버튼을 눌러 현재 시점을 기록해보세요."})]}):L.jsx(aC,{disablePadding:!0,children:i.map((b,S)=>L.jsxs(Zn.Fragment,{children:[L.jsxs(G_,{sx:{px:0,py:1.5,"&:hover":{backgroundColor:"rgba(0, 0, 0, 0.04)"},flexDirection:"column",alignItems:"stretch"},children:[L.jsxs(Ar,{direction:"row",alignItems:"center",spacing:1,mb:.5,children:[L.jsx(bN,{fontSize:"small",color:"action"}),L.jsxs(At,{variant:"body1",fontWeight:"medium",children:["버튼 누른 시점: ",C(b.createdAt)]}),L.jsx(ol,{icon:L.jsx(TN,{}),label:E(b.userId),size:"small",variant:"outlined",sx:{ml:"auto"}})]}),L.jsxs(Ar,{spacing:.5,children:[L.jsxs(Ar,{direction:"row",justifyContent:"space-between",alignItems:"center",children:[L.jsxs(At,{variant:"caption",color:"text.secondary",children:["📅 현재 시각: ",C(b.createdAt)]}),L.jsxs(At,{variant:"caption",color:"text.secondary",children:["⏰ 남은 시간: ",g(y(b))]})]}),L.jsxs(At,{variant:"caption",color:"text.secondary",children:["🎯 목표 시간: ",new Date(b.targetTime).toLocaleString("ko-KR",{month:"short",day:"numeric",hour:"2-digit",minute:"2-digit"})]})]})]}),S<i.length-1&&L.jsx(em,{})]},b.id||S))})]})})};function s6(e,n){e.terminate=function(){const o=()=>{};this.onerror=o,this.onmessage=o,this.onopen=o;const i=new Date,l=Math.random().toString().substring(2,8),c=this.onclose;this.onclose=u=>{const d=new Date().getTime()-i.getTime();n(`Discarded socket (#${l})  closed after ${d}ms, with code/reason: ${u.code}/${u.reason}`)},this.close(),c?.call(e,{code:4001,reason:`Quick discarding socket (#${l}) without waiting for the shutdown sequence.`,wasClean:!1})}}const Hs={LF:`
 `,NULL:"\0"};class Oo{get body(){return!this._body&&this.isBinaryBody&&(this._body=new TextDecoder().decode(this._binaryBody)),this._body||""}get binaryBody(){return!this._binaryBody&&!this.isBinaryBody&&(this._binaryBody=new TextEncoder().encode(this._body)),this._binaryBody}constructor(n){const{command:o,headers:i,body:l,binaryBody:c,escapeHeaderValues:u,skipContentLengthHeader:d}=n;this.command=o,this.headers=Object.assign({},i||{}),c?(this._binaryBody=c,this.isBinaryBody=!0):(this._body=l||"",this.isBinaryBody=!1),this.escapeHeaderValues=u||!1,this.skipContentLengthHeader=d||!1}static fromRawFrame(n,o){const i={},l=c=>c.replace(/^\s+|\s+$/g,"");for(const c of n.headers.reverse()){c.indexOf(":");const u=l(c[0]);let d=l(c[1]);o&&n.command!=="CONNECT"&&n.command!=="CONNECTED"&&(d=Oo.hdrValueUnEscape(d)),i[u]=d}return new Oo({command:n.command,headers:i,binaryBody:n.binaryBody,escapeHeaderValues:o})}toString(){return this.serializeCmdAndHeaders()}serialize(){const n=this.serializeCmdAndHeaders();return this.isBinaryBody?Oo.toUnit8Array(n,this._binaryBody).buffer:n+this._body+Hs.NULL}serializeCmdAndHeaders(){const n=[this.command];this.skipContentLengthHeader&&delete this.headers["content-length"];for(const o of Object.keys(this.headers||{})){const i=this.headers[o];this.escapeHeaderValues&&this.command!=="CONNECT"&&this.command!=="CONNECTED"?n.push(`${o}:${Oo.hdrValueEscape(`${i}`)}`):n.push(`${o}:${i}`)}return(this.isBinaryBody||!this.isBodyEmpty()&&!this.skipContentLengthHeader)&&n.push(`content-length:${this.bodyLength()}`),n.join(Hs.LF)+Hs.LF+Hs.LF}isBodyEmpty(){return this.bodyLength()===0}bodyLength(){const n=this.binaryBody;return n?n.length:0}static sizeOfUTF8(n){return n?new TextEncoder().encode(n).length:0}static toUnit8Array(n,o){const i=new TextEncoder().encode(n),l=new Uint8Array([0]),c=new Uint8Array(i.length+o.length+l.length);return c.set(i),c.set(o,i.length),c.set(l,i.length+o.length),c}static marshall(n){return new Oo(n).serialize()}static hdrValueEscape(n){return n.replace(/\\/g,"\\\\").replace(/\r/g,"\\r").replace(/\n/g,"\\n").replace(/:/g,"\\c")}static hdrValueUnEscape(n){return n.replace(/\\r/g,"\r").replace(/\\n/g,`
 `).replace(/\\c/g,":").replace(/\\\\/g,"\\")}}const z1=0,Yc=10,Kc=13,l6=58;class c6{constructor(n,o){this.onFrame=n,this.onIncomingPing=o,this._encoder=new TextEncoder,this._decoder=new TextDecoder,this._token=[],this._initState()}parseChunk(n,o=!1){let i;if(typeof n=="string"?i=this._encoder.encode(n):i=new Uint8Array(n),o&&i[i.length-1]!==0){const l=new Uint8Array(i.length+1);l.set(i,0),l[i.length]=0,i=l}for(let l=0;l<i.length;l++){const c=i[l];this._onByte(c)}}_collectFrame(n){if(n!==z1&&n!==Kc){if(n===Yc){this.onIncomingPing();return}this._onByte=this._collectCommand,this._reinjectByte(n)}}_collectCommand(n){if(n!==Kc){if(n===Yc){this._results.command=this._consumeTokenAsUTF8(),this._onByte=this._collectHeaders;return}this._consumeByte(n)}}_collectHeaders(n){if(n!==Kc){if(n===Yc){this._setupCollectBody();return}this._onByte=this._collectHeaderKey,this._reinjectByte(n)}}_reinjectByte(n){this._onByte(n)}_collectHeaderKey(n){if(n===l6){this._headerKey=this._consumeTokenAsUTF8(),this._onByte=this._collectHeaderValue;return}this._consumeByte(n)}_collectHeaderValue(n){if(n!==Kc){if(n===Yc){this._results.headers.push([this._headerKey,this._consumeTokenAsUTF8()]),this._headerKey=void 0,this._onByte=this._collectHeaders;return}this._consumeByte(n)}}_setupCollectBody(){const n=this._results.headers.filter(o=>o[0]==="content-length")[0];n?(this._bodyBytesRemaining=parseInt(n[1],10),this._onByte=this._collectBodyFixedSize):this._onByte=this._collectBodyNullTerminated}_collectBodyNullTerminated(n){if(n===z1){this._retrievedBody();return}this._consumeByte(n)}_collectBodyFixedSize(n){if(this._bodyBytesRemaining--===0){this._retrievedBody();return}this._consumeByte(n)}_retrievedBody(){this._results.binaryBody=this._consumeTokenAsRaw();try{this.onFrame(this._results)}catch(n){console.log("Ignoring an exception thrown by a frame handler. Original exception: ",n)}this._initState()}_consumeByte(n){this._token.push(n)}_consumeTokenAsUTF8(){return this._decoder.decode(this._consumeTokenAsRaw())}_consumeTokenAsRaw(){const n=new Uint8Array(this._token);return this._token=[],n}_initState(){this._results={command:void 0,headers:[],binaryBody:void 0},this._token=[],this._headerKey=void 0,this._onByte=this._collectFrame}}var ko;(function(e){e[e.CONNECTING=0]="CONNECTING",e[e.OPEN=1]="OPEN",e[e.CLOSING=2]="CLOSING",e[e.CLOSED=3]="CLOSED"})(ko||(ko={}));var dr;(function(e){e[e.ACTIVE=0]="ACTIVE",e[e.DEACTIVATING=1]="DEACTIVATING",e[e.INACTIVE=2]="INACTIVE"})(dr||(dr={}));var Tu;(function(e){e[e.LINEAR=0]="LINEAR",e[e.EXPONENTIAL=1]="EXPONENTIAL"})(Tu||(Tu={}));var il;(function(e){e.Interval="interval",e.Worker="worker"})(il||(il={}));class u6{constructor(n,o=il.Interval,i){this._interval=n,this._strategy=o,this._debug=i,this._workerScript=`
     var startTime = Date.now();
@@ -61,10 +61,10 @@ class TimerWebSocketControllerTest {
         
         // Redis 연결 관리 Mock 설정
         when(redisConnectionManager.recordUserConnection(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(Mono.empty());
+                .thenReturn(Mono.just(1L));
         
         // TimerService Mock 설정
-        when(timerService.publishUserJoinedEvent(anyString(), anyString()))
+        when(timerService.publishUserJoinedEvent(anyString(), anyString(), anyLong()))
                 .thenReturn(Mono.empty());
     }
 
@@ -91,7 +91,7 @@ class TimerWebSocketControllerTest {
 
         // Redis 연결 기록 확인
         verify(redisConnectionManager).recordUserConnection(TEST_TIMER_ID, TEST_USER_ID, TEST_SERVER_ID, TEST_SESSION_ID);
-        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, TEST_USER_ID);
+        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, TEST_USER_ID, 1L);
     }
 
     @Test
@@ -117,7 +117,7 @@ class TimerWebSocketControllerTest {
 
         // Redis 연결 기록 확인 (생성된 userId 사용)
         verify(redisConnectionManager).recordUserConnection(TEST_TIMER_ID, expectedUserId, TEST_SERVER_ID, TEST_SESSION_ID);
-        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, expectedUserId);
+        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, expectedUserId, 1L);
     }
 
     // Redis 연결 실패 테스트는 복잡한 Mock 설정으로 인해 제외
@@ -127,7 +127,7 @@ class TimerWebSocketControllerTest {
     void subscribeTimer_TimerServiceFailure_PropagatesError() {
         // Given
         when(headerAccessor.getFirstNativeHeader("userId")).thenReturn(TEST_USER_ID);
-        when(timerService.publishUserJoinedEvent(anyString(), anyString()))
+        when(timerService.publishUserJoinedEvent(anyString(), anyString(), anyLong()))
                 .thenReturn(Mono.error(new RuntimeException("타이머를 찾을 수 없습니다")));
 
         // When & Then
@@ -139,7 +139,7 @@ class TimerWebSocketControllerTest {
 
         // Redis 연결은 성공하지만 이후 로직에서 실패
         verify(redisConnectionManager).recordUserConnection(TEST_TIMER_ID, TEST_USER_ID, TEST_SERVER_ID, TEST_SESSION_ID);
-        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, TEST_USER_ID);
+        verify(timerService).publishUserJoinedEvent(TEST_TIMER_ID, TEST_USER_ID, 1L);
     }
 
     @Test
@@ -206,6 +206,6 @@ class TimerWebSocketControllerTest {
 
         // 두 번의 Redis 연결 기록 확인
         verify(redisConnectionManager, times(2)).recordUserConnection(anyString(), anyString(), anyString(), anyString());
-        verify(timerService, times(2)).publishUserJoinedEvent(anyString(), anyString());
+        verify(timerService, times(2)).publishUserJoinedEvent(anyString(), anyString(), anyLong());
     }
 }
\ No newline at end of file
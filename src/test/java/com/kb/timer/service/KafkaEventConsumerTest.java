@@ -0,0 +1,266 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.TimerEventLog;
+import com.kb.timer.model.event.TargetTimeChangedEvent;
+import com.kb.timer.model.event.TimerEvent;
+import com.kb.timer.model.event.UserJoinedEvent;
+import com.kb.timer.repository.TimerEventLogRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KafkaEventConsumer 테스트
+ *
+ * 테스트 범위:
+ * - 마이크로 배치의 관련 이벤트만 브로드캐스트 및 한 번의 벌크 삽입으로 로그 저장
+ * - 로그 저장이 실패하면 오프셋을 확인하지 않고, 재시도는 브로드캐스트 없이 로그만 저장
+ * - 릴레이 모드에서 다른 노드가 발행한 이벤트도 로그 저장
+ * - 소비한 변경 이벤트로 로컬 캐시 무효화 (기본 경로 및 선택적 전체 파티션 Consumer)
+ * - 라우터가 재개한 파티션은 최신 위치가 아닌 직전 재계산 시각부터 읽음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaEventConsumer 배치 소비 테스트")
+class KafkaEventConsumerTest {
+
+    @Mock
+    private ReceiverOptions<String, TimerEvent> timerEventsConsumerOptions;
+
+    @Mock
+    private LocalSubscriptionRegistry localSubscriptionRegistry;
+
+    @Mock
+    private TimerEventLogRepository eventLogRepository;
+
+    @Mock
+    private TimerBroadcaster timerBroadcaster;
+
+    @Mock
+    private TimerCache timerCache;
+
+    @Mock
+    private ReceiverOffset offset1;
+
+    @Mock
+    private ReceiverOffset offset2;
+
+    @InjectMocks
+    private KafkaEventConsumer kafkaEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(kafkaEventConsumer, "serverId", "test-server-1");
+        ReflectionTestUtils.setField(kafkaEventConsumer, "brokerMode", "simple");
+    }
+
+    @Test
+    @DisplayName("배치 처리 - 관련 이벤트만 브로드캐스트하고 로그를 한 번에 저장한 뒤 모든 오프셋을 확인해야 함")
+    @SuppressWarnings("unchecked")
+    void processBatch_RelevantEvents_BulkInsertThenAcknowledge() {
+        // Given
+        when(localSubscriptionRegistry.hasLocalSubscribers("timer-1")).thenReturn(true);
+        when(localSubscriptionRegistry.hasLocalSubscribers("timer-2")).thenReturn(false);
+        when(eventLogRepository.insertAllUnordered(anyList())).thenReturn(Mono.just(1));
+
+        List<ReceiverRecord<String, TimerEvent>> records = List.of(
+                record("timer-1", offset1),
+                record("timer-2", offset2));
+
+        // When & Then
+        StepVerifier.create(kafkaEventConsumer.processBatch(records, true))
+                .verifyComplete();
+
+        ArgumentCaptor<List<TimerEventLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventLogRepository, times(1)).insertAllUnordered(captor.capture());
+        assertThat(captor.getValue()).extracting(TimerEventLog::getTimerId).containsExactly("timer-1");
+        verify(timerBroadcaster, times(1)).broadcastEvent(argThat(event -> "timer-1".equals(event.getTimerId())));
+        verify(timerBroadcaster, never()).broadcastEvent(argThat(event -> "timer-2".equals(event.getTimerId())));
+        verify(offset1).acknowledge();
+        verify(offset2).acknowledge();
+    }
+
+    @Test
+    @DisplayName("배치 처리 - 로그 저장 실패 시 오프셋을 확인하지 않아야 함")
+    void processBatch_InsertFails_DoesNotAcknowledge() {
+        // Given
+        when(eventLogRepository.insertAllUnordered(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("Mongo 연결 실패")));
+
+        List<ReceiverRecord<String, TimerEvent>> records = List.of(record("timer-1", offset1));
+
+        // When & Then - 로그 저장 전용 모드
+        StepVerifier.create(kafkaEventConsumer.processBatch(records, false))
+                .expectError()
+                .verify();
+
+        verify(offset1, never()).acknowledge();
+        verifyNoInteractions(timerBroadcaster);
+    }
+
+    @Test
+    @DisplayName("릴레이 모드 - 다른 노드가 발행한 이벤트가 이 노드 파티션으로 와도 로그를 저장하고 다시 전송하지 않아야 함")
+    @SuppressWarnings("unchecked")
+    void processBatch_RelayMode_OtherNodeEventLoggedOnce() {
+        // Given - node-a가 발행한 이벤트가 공유 그룹에서 node-b에 할당된 파티션으로 들어옴
+        KafkaEventConsumer nodeB = kafkaEventConsumer;
+        ReflectionTestUtils.setField(nodeB, "serverId", "node-b");
+        ReflectionTestUtils.setField(nodeB, "brokerMode", "relay");
+        when(eventLogRepository.insertAllUnordered(anyList())).thenReturn(Mono.just(1));
+
+        TimerEvent event = UserJoinedEvent.builder()
+                .timerId("timer-1")
+                .userId("user-1")
+                .originServerId("node-a")
+                .build();
+        List<ReceiverRecord<String, TimerEvent>> records = List.of(
+                new ReceiverRecord<>(new ConsumerRecord<>("user-actions", 3, 0L, "timer-1", event), offset1));
+
+        // When & Then - 릴레이 모드 Consumer는 로그 저장 전용
+        StepVerifier.create(nodeB.processBatch(records, false))
+                .verifyComplete();
+
+        ArgumentCaptor<List<TimerEventLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventLogRepository).insertAllUnordered(captor.capture());
+        assertThat(captor.getValue()).extracting(TimerEventLog::getTimerId).containsExactly("timer-1");
+        verify(offset1).acknowledge();
+        // 외부 브로커 전송은 발행 노드(node-a)의 KafkaEventPublisher가 이미 수행
+        verifyNoInteractions(timerBroadcaster);
+    }
+
+    @Test
+    @DisplayName("배치 로그 재저장 - 브로드캐스트 없이 관련 이벤트 로그만 저장한 뒤 오프셋을 확인해야 함")
+    @SuppressWarnings("unchecked")
+    void saveEventLogs_Retry_InsertsWithoutBroadcastThenAcknowledges() {
+        // Given
+        when(localSubscriptionRegistry.hasLocalSubscribers("timer-1")).thenReturn(true);
+        when(localSubscriptionRegistry.hasLocalSubscribers("timer-2")).thenReturn(false);
+        when(eventLogRepository.insertAllUnordered(anyList())).thenReturn(Mono.just(1));
+
+        List<ReceiverRecord<String, TimerEvent>> records = List.of(
+                record("timer-1", offset1),
+                record("timer-2", offset2));
+
+        // When & Then
+        StepVerifier.create(kafkaEventConsumer.saveEventLogs(records, true))
+                .verifyComplete();
+
+        ArgumentCaptor<List<TimerEventLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventLogRepository).insertAllUnordered(captor.capture());
+        assertThat(captor.getValue()).extracting(TimerEventLog::getTimerId).containsExactly("timer-1");
+        verifyNoInteractions(timerBroadcaster);
+        verify(offset1).acknowledge();
+        verify(offset2).acknowledge();
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 - group 모드에서는 이 노드가 소비한 배치의 변경 이벤트로 캐시를 무효화해야 함")
+    void processBatch_GroupMode_InvalidatesChangedTimers() {
+        // Given
+        when(eventLogRepository.insertAllUnordered(anyList())).thenReturn(Mono.just(2));
+        List<ReceiverRecord<String, TimerEvent>> records = List.of(
+                targetTimeChangedRecord("timer-1", offset1),
+                record("timer-2", offset2));
+
+        // When
+        StepVerifier.create(kafkaEventConsumer.processBatch(records, false))
+                .verifyComplete();
+
+        // Then - 타이머 문서를 바꾸는 이벤트만 무효화
+        verify(timerCache).invalidate("timer-1");
+        verify(timerCache, never()).invalidate("timer-2");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 Consumer - 활성화하면 전체 파티션에서 받은 변경 이벤트로 캐시를 무효화해야 함")
+    @SuppressWarnings("unchecked")
+    void startCacheInvalidationConsuming_ChangedEvent_InvalidatesLocalCache() {
+        // Given
+        ReflectionTestUtils.setField(kafkaEventConsumer, "cacheInvalidationConsumerEnabled", true);
+        KafkaReceiver<String, TimerEvent> cacheReceiver = mock(KafkaReceiver.class);
+        when(cacheReceiver.receive()).thenReturn(Flux.just(
+                targetTimeChangedRecord("timer-1", offset1),
+                record("timer-2", offset2)));
+
+        // When
+        Disposable subscription = kafkaEventConsumer.startCacheInvalidationConsuming(cacheReceiver);
+
+        // Then
+        verify(timerCache).invalidate("timer-1");
+        verify(timerCache, never()).invalidate("timer-2");
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("파티션 라우팅 - 재개 파티션은 구독 직후 기록된 이벤트를 건너뛰지 않도록 직전 재계산 시각부터 읽어야 함")
+    @SuppressWarnings("unchecked")
+    void applyPartitionRouting_ResumedPartition_SeeksToLastReconcileTime() {
+        // Given - 파티션 1개 토픽, 구독 타이머가 없어 라우터가 일시 정지한 상태
+        Consumer<String, TimerEvent> consumer = mock(Consumer.class);
+        TopicPartition partition = new TopicPartition("user-actions", 0);
+        when(consumer.assignment()).thenReturn(Set.of(partition));
+        when(consumer.partitionsFor("user-actions"))
+                .thenReturn(List.of(new PartitionInfo("user-actions", 0, null, null, null)));
+        kafkaEventConsumer.applyPartitionRouting(consumer, Set.of(), 0L);
+        verify(consumer).pause(Set.of(partition));
+
+        // 직전 재계산 이후 기록된 첫 레코드는 offset 42, 일시 정지 시점 위치는 40
+        long resumeFromMs = 1_000L;
+        when(consumer.offsetsForTimes(Map.of(partition, resumeFromMs)))
+                .thenReturn(Map.of(partition, new OffsetAndTimestamp(42L, resumeFromMs)));
+        when(consumer.position(partition)).thenReturn(40L);
+
+        // When - 새 타이머 구독으로 파티션 재개
+        Boolean applied = kafkaEventConsumer.applyPartitionRouting(consumer, Set.of("timer-1"), resumeFromMs);
+
+        // Then
+        assertThat(applied).isTrue();
+        verify(consumer).seek(partition, 42L);
+        verify(consumer, never()).seekToEnd(anyCollection());
+        verify(consumer).resume(Set.of(partition));
+    }
+
+    private ReceiverRecord<String, TimerEvent> targetTimeChangedRecord(String timerId, ReceiverOffset offset) {
+        TimerEvent event = TargetTimeChangedEvent.builder()
+                .timerId(timerId)
+                .originServerId("node-a")
+                .newTargetTime(Instant.now().plusSeconds(60))
+                .build();
+        return new ReceiverRecord<>(new ConsumerRecord<>("timer-events", 0, 0L, timerId, event), offset);
+    }
+
+    private ReceiverRecord<String, TimerEvent> record(String timerId, ReceiverOffset offset) {
+        TimerEvent event = UserJoinedEvent.builder()
+                .timerId(timerId)
+                .userId("user-1")
+                .build();
+        return new ReceiverRecord<>(new ConsumerRecord<>("user-actions", 0, 0L, timerId, event), offset);
+    }
+}
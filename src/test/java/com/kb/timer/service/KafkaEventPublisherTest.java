@@ -13,13 +13,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.kafka.sender.SenderRecord;
 import reactor.kafka.sender.SenderResult;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +45,9 @@ class KafkaEventPublisherTest {
     @Mock
     private ReactiveKafkaProducerTemplate<String, TimerEvent> kafkaProducerTemplate;
 
+    @Mock
+    private TimerBroadcaster timerBroadcaster;
+
     @InjectMocks
     private KafkaEventPublisher kafkaEventPublisher;
 
@@ -344,4 +353,85 @@ class KafkaEventPublisherTest {
         // Then - 올바른 키(타이머 ID)로 발행되었는지 확인
         verify(kafkaProducerTemplate).send(TIMER_EVENTS_TOPIC, customTimerId, event);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이벤트 스트림 발행 - 하나의 send 스트림으로 이벤트 타입별 토픽에 발행되어야 함")
+    @SuppressWarnings("unchecked")
+    void publishEvents_MixedEvents_SingleSendStream() {
+        // Given
+        TimerCompletedEvent completedEvent = TimerCompletedEvent.builder()
+                .timerId(TEST_TIMER_ID)
+                .build();
+        UserJoinedEvent joinedEvent = UserJoinedEvent.builder()
+                .timerId(TEST_TIMER_ID)
+                .userId(TEST_USER_ID)
+                .build();
+
+        List<String> sentTopics = new ArrayList<>();
+        when(kafkaProducerTemplate.send(any(Publisher.class))).thenAnswer(invocation -> {
+            Publisher<SenderRecord<String, TimerEvent, TimerEvent>> records = invocation.getArgument(0);
+            return Flux.from(records)
+                    .doOnNext(record -> sentTopics.add(record.topic()))
+                    .map(record -> mock(SenderResult.class));
+        });
+
+        // When
+        StepVerifier.create(kafkaEventPublisher.publishEvents(Flux.just(completedEvent, joinedEvent)))
+                .verifyComplete();
+
+        // Then
+        verify(kafkaProducerTemplate, times(1)).send(any(Publisher.class));
+        verify(kafkaProducerTemplate, never()).send(anyString(), anyString(), any());
+        assertThat(sentTopics).containsExactly(TIMER_EVENTS_TOPIC, USER_ACTIONS_TOPIC);
+    }
+
+    @Test
+    @DisplayName("릴레이 모드 - 발행 노드가 외부 브로커로 직접 전송해야 함 (어느 노드가 소비하든 전달)")
+    @SuppressWarnings("unchecked")
+    void publishEvents_RelayMode_BroadcastsFromPublishingNode() {
+        // Given
+        ReflectionTestUtils.setField(kafkaEventPublisher, "brokerMode", "relay");
+        TimerCompletedEvent completedEvent = TimerCompletedEvent.builder()
+                .timerId(TEST_TIMER_ID)
+                .originServerId("node-a")
+                .build();
+
+        when(kafkaProducerTemplate.send(any(Publisher.class))).thenAnswer(invocation -> {
+            Publisher<SenderRecord<String, TimerEvent, TimerEvent>> records = invocation.getArgument(0);
+            return Flux.from(records).map(record -> {
+                SenderResult<TimerEvent> result = mock(SenderResult.class);
+                when(result.correlationMetadata()).thenReturn(record.correlationMetadata());
+                return result;
+            });
+        });
+
+        // When
+        StepVerifier.create(kafkaEventPublisher.publishEvents(Flux.just(completedEvent)))
+                .verifyComplete();
+
+        // Then
+        verify(timerBroadcaster, times(1)).broadcastEvent(completedEvent);
+    }
+
+    @Test
+    @DisplayName("simple 모드 - 발행 시 직접 브로드캐스트하지 않아야 함 (Consumer가 각 노드 구독자에게 전송)")
+    void publishTimerEvent_SimpleMode_DoesNotBroadcast() {
+        // Given
+        ReflectionTestUtils.setField(kafkaEventPublisher, "brokerMode", "simple");
+        TimerCompletedEvent event = TimerCompletedEvent.builder()
+                .timerId(TEST_TIMER_ID)
+                .build();
+        SenderResult<Void> senderResult = mock(SenderResult.class);
+        when(senderResult.recordMetadata()).thenReturn(new RecordMetadata(
+                new TopicPartition(TIMER_EVENTS_TOPIC, 0), 0L, 0, 0, 0, 0));
+        when(kafkaProducerTemplate.send(eq(TIMER_EVENTS_TOPIC), eq(TEST_TIMER_ID), any(TimerEvent.class)))
+                .thenReturn(Mono.just(senderResult));
+
+        // When
+        StepVerifier.create(kafkaEventPublisher.publishTimerEvent(event))
+                .verifyComplete();
+
+        // Then
+        verifyNoInteractions(timerBroadcaster);
+    }
+}
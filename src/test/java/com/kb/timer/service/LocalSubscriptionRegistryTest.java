@@ -0,0 +1,58 @@
+package com.kb.timer.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalSubscriptionRegistry 테스트
+ *
+ * 테스트 범위:
+ * - 세션 등록/해제에 따른 타이머별 로컬 구독자 수 유지
+ * - 같은 세션의 재구독 시 이전 타이머 카운트 정리
+ */
+@DisplayName("LocalSubscriptionRegistry 로컬 구독 인덱스 테스트")
+class LocalSubscriptionRegistryTest {
+
+    private final LocalSubscriptionRegistry registry = new LocalSubscriptionRegistry();
+
+    @Test
+    @DisplayName("마지막 구독 세션이 해제되면 로컬 구독자가 없어야 함")
+    void unregister_LastSession_NoLocalSubscribers() {
+        // Given
+        registry.register("session-1", "timer-1");
+        registry.register("session-2", "timer-1");
+
+        // When
+        String firstTimerId = registry.unregister("session-1");
+
+        // Then
+        assertThat(firstTimerId).isEqualTo("timer-1");
+        assertThat(registry.hasLocalSubscribers("timer-1")).isTrue();
+        assertThat(registry.getLocalSubscriberCount("timer-1")).isEqualTo(1);
+
+        // When
+        registry.unregister("session-2");
+
+        // Then
+        assertThat(registry.hasLocalSubscribers("timer-1")).isFalse();
+        assertThat(registry.getSubscribedTimerIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 세션이 다른 타이머를 구독하면 이전 타이머 카운트가 감소해야 함")
+    void register_SameSessionDifferentTimer_MovesSubscription() {
+        // Given
+        registry.register("session-1", "timer-1");
+
+        // When
+        registry.register("session-1", "timer-2");
+        registry.register("session-1", "timer-2");
+
+        // Then
+        assertThat(registry.hasLocalSubscribers("timer-1")).isFalse();
+        assertThat(registry.getLocalSubscriberCount("timer-2")).isEqualTo(1);
+        assertThat(registry.unregister("unknown-session")).isNull();
+    }
+}
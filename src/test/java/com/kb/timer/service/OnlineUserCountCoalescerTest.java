@@ -0,0 +1,200 @@
+package com.kb.timer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OnlineUserCountCoalescer 테스트
+ *
+ * 테스트 범위:
+ * - 윈도우 내 여러 입장/퇴장이 한 번의 브로드캐스트로 병합
+ * - 재동기화 주기 내에는 Redis 조회 없이 로컬 delta로 계산
+ * - 연결 기록 시 받은 온라인 사용자 수를 기준값으로 사용
+ * - 기준값 관측 이후에 기록된 delta는 유지, 이전 delta는 버림
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OnlineUserCountCoalescer 온라인 사용자 수 병합 테스트")
+class OnlineUserCountCoalescerTest {
+
+    @Mock
+    private RedisConnectionManager connectionManager;
+
+    @Mock
+    private TimerBroadcaster timerBroadcaster;
+
+    @InjectMocks
+    private OnlineUserCountCoalescer coalescer;
+
+    private final String TEST_TIMER_ID = "timer-789";
+
+    @BeforeEach
+    void setUp() {
+        // 자동 플러시가 테스트 중에 실행되지 않도록 윈도우를 길게 설정하고 직접 flush 호출
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(coalescer, "resyncIntervalMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("윈도우 병합 - 여러 입장이 한 번의 SCARD와 한 번의 브로드캐스트로 처리되어야 함")
+    @SuppressWarnings("unchecked")
+    void flush_MultipleJoins_SingleBroadcast() {
+        // Given
+        when(connectionManager.getOnlineUserCount(TEST_TIMER_ID)).thenReturn(Mono.just(3L));
+        coalescer.onUserJoined(TEST_TIMER_ID);
+        coalescer.onUserJoined(TEST_TIMER_ID);
+        coalescer.onUserJoined(TEST_TIMER_ID);
+
+        // When
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        verify(connectionManager, times(1)).getOnlineUserCount(TEST_TIMER_ID);
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(1)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getValue())
+                .containsEntry("eventType", "ONLINE_USER_COUNT_UPDATED")
+                .containsEntry("onlineUserCount", 3);
+    }
+
+    @Test
+    @DisplayName("로컬 delta - 재동기화 주기 내에는 Redis 조회 없이 수를 계산해야 함")
+    @SuppressWarnings("unchecked")
+    void flush_WithinResyncInterval_UsesLocalDelta() {
+        // Given - 첫 플러시로 기준값 확보
+        when(connectionManager.getOnlineUserCount(TEST_TIMER_ID)).thenReturn(Mono.just(5L));
+        coalescer.onUserJoined(TEST_TIMER_ID);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // When - 2명 입장, 1명 퇴장
+        coalescer.onUserJoined(TEST_TIMER_ID);
+        coalescer.onUserJoined(TEST_TIMER_ID);
+        coalescer.onUserLeft(TEST_TIMER_ID);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        verify(connectionManager, times(1)).getOnlineUserCount(TEST_TIMER_ID);
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(2)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getAllValues().get(1))
+                .containsEntry("onlineUserCount", 6);
+    }
+
+    @Test
+    @DisplayName("연결 기록 결과 사용 - 알려진 온라인 사용자 수가 있으면 SCARD 없이 브로드캐스트해야 함")
+    @SuppressWarnings("unchecked")
+    void flush_KnownCountFromConnectionRecord_SkipsRedisLookup() {
+        // Given - 연결 기록 스크립트가 돌려준 수로 입장 반영 후 1명 퇴장
+        coalescer.onUserJoined(TEST_TIMER_ID, 4L);
+        coalescer.onUserLeft(TEST_TIMER_ID);
+
+        // When
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        verify(connectionManager, never()).getOnlineUserCount(anyString());
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(1)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getValue())
+                .containsEntry("onlineUserCount", 3);
+    }
+
+    @Test
+    @DisplayName("기준값 적용 - 관측 이후에 기록된 퇴장은 기준값 적용 후에도 유지되어야 함")
+    @SuppressWarnings("unchecked")
+    void onUserJoined_LeaveAfterObservation_KeepsDelta() {
+        // Given - 연결 기록 스크립트가 4명을 관측한 뒤, 입장 반영 전에 1명 퇴장
+        long observedAt = coalescer.observationMark();
+        coalescer.onUserLeft(TEST_TIMER_ID);
+
+        // When
+        coalescer.onUserJoined(TEST_TIMER_ID, 4L, observedAt);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        verify(connectionManager, never()).getOnlineUserCount(anyString());
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(1)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getValue())
+                .containsEntry("onlineUserCount", 3);
+    }
+
+    @Test
+    @DisplayName("기준값 적용 - 관측 이전에 기록된 퇴장은 기준값에 포함되어 있으므로 버려야 함")
+    @SuppressWarnings("unchecked")
+    void onUserJoined_LeaveBeforeObservation_DropsDelta() {
+        // Given - 퇴장이 먼저 반영된 뒤 연결 기록 스크립트가 4명을 관측
+        coalescer.onUserLeft(TEST_TIMER_ID);
+        long observedAt = coalescer.observationMark();
+
+        // When
+        coalescer.onUserJoined(TEST_TIMER_ID, 4L, observedAt);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(1)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getValue())
+                .containsEntry("onlineUserCount", 4);
+    }
+
+    @Test
+    @DisplayName("기준값 적용 - 더 최근 기준값이 있으면 늦게 도착한 입장은 delta 하나로만 반영해야 함")
+    @SuppressWarnings("unchecked")
+    void onUserJoined_StaleObservation_CountsJoinAsDelta() {
+        // Given - 5명 기준값에서 1명 퇴장이 플러시되어 4명
+        long staleObservation = coalescer.observationMark();
+        coalescer.onUserJoined(TEST_TIMER_ID, 5L);
+        coalescer.onUserLeft(TEST_TIMER_ID);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // When - 퇴장 이전에 관측된 입장이 늦게 반영
+        coalescer.onUserJoined(TEST_TIMER_ID, 6L, staleObservation);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then - 6으로 덮지 않고 4 + 1
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(2)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getAllValues().get(0))
+                .containsEntry("onlineUserCount", 4);
+        assertThat((Map<String, Object>) payloadCaptor.getAllValues().get(1))
+                .containsEntry("onlineUserCount", 5);
+    }
+
+    @Test
+    @DisplayName("윈도우 정리 - 접속자가 없어 정리된 뒤 기록된 delta도 반영되어야 함")
+    @SuppressWarnings("unchecked")
+    void recordDelta_AfterIdleEviction_TracksCount() {
+        // Given - 마지막 사용자가 나가 0명이 브로드캐스트되고 윈도우가 정리됨
+        coalescer.onUserJoined(TEST_TIMER_ID, 1L);
+        coalescer.onUserLeft(TEST_TIMER_ID);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+        Map<String, Object> windows = (Map<String, Object>) ReflectionTestUtils.getField(coalescer, "windows");
+        assertThat(windows).doesNotContainKey(TEST_TIMER_ID);
+
+        // When - 새 사용자 입장
+        coalescer.onUserJoined(TEST_TIMER_ID, 1L);
+        StepVerifier.create(coalescer.flush(TEST_TIMER_ID)).verifyComplete();
+
+        // Then
+        assertThat(windows).containsKey(TEST_TIMER_ID);
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(timerBroadcaster, times(2)).broadcast(eq(TEST_TIMER_ID), payloadCaptor.capture());
+        assertThat((Map<String, Object>) payloadCaptor.getAllValues().get(1))
+                .containsEntry("onlineUserCount", 1);
+    }
+}
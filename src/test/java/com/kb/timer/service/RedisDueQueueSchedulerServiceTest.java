@@ -0,0 +1,172 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.repository.TimerRepository;
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisDueQueueSchedulerService 테스트
+ *
+ * 테스트 범위:
+ * - 선점한 타이머의 완료 로그를 저장하지 않고 완료 이벤트에 실어 발행
+ * - 타이머 조회 실패 시 선점한 타이머를 due-queue에 반환
+ * - 선점한 배치의 타이머마다 완료 이벤트를 한 번씩 발행하고, 배치가 가득 차면 다음 배치를 이어서 선점
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisDueQueueSchedulerService due-queue 처리 테스트")
+class RedisDueQueueSchedulerServiceTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ServerInstanceIdGenerator serverInstanceIdGenerator;
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskScheduler timerTaskScheduler;
+
+    @Mock
+    private ScheduleShardManager shardManager;
+
+    private RedisDueQueueSchedulerService schedulerService;
+
+    private final String TEST_SERVER_ID = "test-server-1";
+    private final String DUE_KEY = "timer:due:0";
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = new RedisDueQueueSchedulerService(
+                stringRedisTemplate,
+                serverInstanceIdGenerator,
+                timerRepository,
+                eventPublisher,
+                timerTaskScheduler,
+                shardManager
+        );
+        ReflectionTestUtils.setField(schedulerService, "batchSize", 100);
+        lenient().when(serverInstanceIdGenerator.getServerInstanceId()).thenReturn(TEST_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("선점 타이머 처리 - 완료 로그는 저장하지 않고 완료 이벤트에 실어 발행해야 함")
+    void processClaimedTimer_PendingTimer_PublishesEventWithCompletionLog() {
+        // Given
+        Instant targetTime = Instant.now().minusMillis(20);
+        Timer timer = Timer.builder().id("timer-1").targetTime(targetTime).completed(false).build();
+        when(timerRepository.findById("timer-1")).thenReturn(Mono.just(timer));
+
+        // When
+        StepVerifier.create(schedulerService.processClaimedTimer(DUE_KEY, "timer-1"))
+                .verifyComplete();
+
+        // Then - 성공 여부는 조건부 업데이트를 통과한 뒤 배치 처리기가 기록
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TimerCompletionEvent event = eventCaptor.getValue();
+        assertThat(event.getTimerId()).isEqualTo("timer-1");
+        assertThat(event.getCompletionLog()).isNotNull();
+        assertThat(event.getCompletionLog().getServerId()).isEqualTo(TEST_SERVER_ID);
+        assertThat(event.getCompletionLog().getOriginalTargetTime()).isEqualTo(targetTime);
+        assertThat(event.getCompletionLog().isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("선점 타이머 처리 - 타이머 조회가 실패하면 due-queue에 되돌려야 함")
+    @SuppressWarnings("unchecked")
+    void processClaimedTimer_FindFails_RestoresToDueQueue() {
+        // Given
+        when(timerRepository.findById("timer-1")).thenReturn(Mono.error(new RuntimeException("Mongo 연결 실패")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(1L));
+
+        // When
+        StepVerifier.create(schedulerService.processClaimedTimer(DUE_KEY, "timer-1"))
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<List<String>> argsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(DUE_KEY)), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).endsWith("timer-1");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 선점 - 선점한 타이머마다 완료 이벤트를 한 번씩 발행해야 함")
+    @SuppressWarnings("unchecked")
+    void drainShard_ClaimedBatch_PublishesOneEventPerTimer() {
+        // Given - 배치 크기보다 적게 선점되어 한 번만 선점
+        when(shardManager.dueKey(0)).thenReturn(DUE_KEY);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(DUE_KEY)), anyList()))
+                .thenReturn(Flux.just(List.of("timer-1", "timer-2", "timer-3")));
+        stubPendingTimers("timer-1", "timer-2", "timer-3");
+
+        // When
+        StepVerifier.create(schedulerService.drainShard(0))
+                .expectNext(3)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(TimerCompletionEvent::getTimerId)
+                .containsExactlyInAnyOrder("timer-1", "timer-2", "timer-3");
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("배치 선점 - 배치가 가득 차면 남은 타이머를 이어서 선점해야 함")
+    @SuppressWarnings("unchecked")
+    void drainShard_FullBatch_ClaimsNextBatch() {
+        // Given - 배치 크기 2: 가득 찬 배치 다음 1개 배치에서 종료
+        ReflectionTestUtils.setField(schedulerService, "batchSize", 2);
+        when(shardManager.dueKey(0)).thenReturn(DUE_KEY);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(DUE_KEY)), anyList()))
+                .thenReturn(Flux.just(List.of("timer-1", "timer-2")), Flux.just(List.of("timer-3")));
+        stubPendingTimers("timer-1", "timer-2", "timer-3");
+
+        // When
+        StepVerifier.create(schedulerService.drainShard(0))
+                .expectNext(2, 1)
+                .verifyComplete();
+
+        // Then
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(TimerCompletionEvent.class));
+    }
+
+    private void stubPendingTimers(String... timerIds) {
+        for (String timerId : timerIds) {
+            Timer timer = Timer.builder().id(timerId).targetTime(Instant.now().minusMillis(10)).completed(false).build();
+            when(timerRepository.findById(timerId)).thenReturn(Mono.just(timer));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.kb.timer.service;
 
 import com.kb.timer.model.entity.Timer;
 import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletionEvent;
 import com.kb.timer.model.event.TimerScheduleEvent;
 import com.kb.timer.repository.TimerCompletionLogRepository;
 import com.kb.timer.repository.TimerRepository;
@@ -10,18 +11,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -322,6 +327,57 @@ class RedisTTLSchedulerServiceTest {
     // 분산 락 처리 테스트는 복잡한 내부 로직으로 인해 제외
     // 핵심 비즈니스 로직은 TimerService에서 충분히 테스트됨
 
+    @Test
+    @DisplayName("TTL 만료 처리 - 완료 로그를 바로 저장하지 않고 완료 이벤트에 실어 보내야 함")
+    void onMessage_PendingTimer_PublishesCompletionEventWithLog() {
+        // Given
+        Timer timer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .targetTime(Instant.now().minusMillis(5))
+                .completed(false)
+                .build();
+        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(timer));
+        when(serverInstanceIdGenerator.getServerInstanceId()).thenReturn(TEST_SERVER_ID);
+
+        // When
+        schedulerService.onMessage(expiredKeyMessage("timer:schedule:" + TEST_TIMER_ID), null);
+
+        // Then
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TimerCompletionEvent event = eventCaptor.getValue();
+        assertThat(event.getTimerId()).isEqualTo(TEST_TIMER_ID);
+        assertThat(event.getCompletionLog()).isNotNull();
+        assertThat(event.getCompletionLog().getServerId()).isEqualTo(TEST_SERVER_ID);
+
+        // 성공 로그는 조건부 업데이트를 통과한 노드의 배치 처리기에서만 저장
+        verifyNoInteractions(completionLogRepository);
+    }
+
+    @Test
+    @DisplayName("TTL 만료 처리 - 다른 노드가 이미 완료한 타이머는 로그를 남기지 않아야 함")
+    void onMessage_AlreadyCompletedTimer_WritesNoLog() {
+        // Given
+        Timer timer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .targetTime(Instant.now().minusSeconds(1))
+                .completed(true)
+                .build();
+        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(timer));
+        when(serverInstanceIdGenerator.getServerInstanceId()).thenReturn(TEST_SERVER_ID);
+
+        // When
+        schedulerService.onMessage(expiredKeyMessage("timer:schedule:" + TEST_TIMER_ID), null);
+
+        // Then
+        verifyNoInteractions(eventPublisher, completionLogRepository);
+    }
+
+    private DefaultMessage expiredKeyMessage(String expiredKey) {
+        return new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+                expiredKey.getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test
     @DisplayName("서비스 종료 - 정상적으로 종료됨")
     void shutdown_CompletesSuccessfully() {
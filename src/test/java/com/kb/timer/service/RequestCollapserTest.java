@@ -0,0 +1,105 @@
+package com.kb.timer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestCollapser 테스트
+ *
+ * 테스트 범위:
+ * - 진행 중인 같은 키 조회는 한 번만 실행되고 결과를 공유
+ * - 완료된 조회 결과는 재사용하지 않음
+ * - 병합 대상이 아닌 작업은 그대로 실행
+ */
+@DisplayName("RequestCollapser 동시 조회 병합 테스트")
+class RequestCollapserTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCollapser requestCollapser;
+
+    private final String TEST_SHARE_TOKEN = "share-token-123";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCollapser = new RequestCollapser(meterRegistry);
+        ReflectionTestUtils.setField(requestCollapser, "enabledOperations",
+                Set.of(RequestCollapser.OPERATION_TIMER_BY_SHARE_TOKEN));
+    }
+
+    @Test
+    @DisplayName("병합 - 진행 중인 같은 키 조회는 한 번만 실행되고 모든 호출자가 같은 결과를 받아야 함")
+    void execute_ConcurrentSameKey_SingleLoad() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+        List<String> received = new ArrayList<>();
+
+        // When - 조회가 끝나기 전에 3개의 요청이 들어옴
+        for (int i = 0; i < 3; i++) {
+            requestCollapser.execute(RequestCollapser.OPERATION_TIMER_BY_SHARE_TOKEN, TEST_SHARE_TOKEN, () -> {
+                loads.incrementAndGet();
+                return result.asMono();
+            }).subscribe(received::add);
+        }
+        result.tryEmitValue("timer-789");
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(received).containsExactly("timer-789", "timer-789", "timer-789");
+        assertThat(requestCollapser.getInFlightCount()).isZero();
+        assertThat(meterRegistry.get("timer.collapse.requests").tag("result", "collapsed").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("완료 후 - 완료된 조회 결과를 재사용하지 않고 다시 조회해야 함")
+    void execute_AfterCompletion_LoadsAgain() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(requestCollapser.execute(RequestCollapser.OPERATION_TIMER_BY_SHARE_TOKEN, TEST_SHARE_TOKEN,
+                            () -> Mono.fromCallable(loads::incrementAndGet)))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성 작업 - 병합 대상이 아닌 작업은 호출마다 실행되어야 함")
+    void execute_DisabledOperation_PassesThrough() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<Long> result = Sinks.one();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            requestCollapser.execute(RequestCollapser.OPERATION_ONLINE_USER_COUNT, "timer-789", () -> {
+                loads.incrementAndGet();
+                return result.asMono();
+            }).subscribe();
+        }
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(requestCollapser.getInFlightCount()).isZero();
+    }
+}
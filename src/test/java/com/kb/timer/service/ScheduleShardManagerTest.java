@@ -0,0 +1,247 @@
+package com.kb.timer.service;
+
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduleShardManager 테스트
+ *
+ * 여러 인스턴스가 같은 Redis(인스턴스 ZSET + 샤드 리스)를 공유하는 상황을 인메모리로 흉내내어 검증
+ *
+ * 테스트 범위:
+ * - 인스턴스 추가/제거 시 기존 인스턴스의 담당 샤드는 옮겨가는 샤드 외에 바뀌지 않음
+ * - 죽은 인스턴스의 샤드는 리스 TTL 이후 생존 인스턴스가 이어받음
+ * - 재배치 중 어느 시점에도 하나의 샤드를 두 인스턴스가 동시에 소유하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleShardManager 샤드 소유권 테스트")
+class ScheduleShardManagerTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ReactiveZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private TaskScheduler timerTaskScheduler;
+
+    private static final int SHARD_COUNT = 16;
+    private static final long LEASE_TTL_MS = 15_000L;
+    private static final String INSTANCES_KEY = "scheduler:instances";
+
+    // 공유 Redis 상태: 인스턴스 하트비트(ZSET)와 샤드 리스 (리스 키 -> serverId)
+    private final Map<String, Double> instances = new TreeMap<>();
+    private final Map<String, String> leases = new TreeMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(zSetOperations.add(eq(INSTANCES_KEY), anyString(), anyDouble()))
+                .thenAnswer(invocation -> Mono.fromCallable(() ->
+                        instances.put(invocation.getArgument(1), invocation.getArgument(2)) == null));
+        lenient().when(zSetOperations.removeRangeByScore(eq(INSTANCES_KEY), any(Range.class)))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    Range<Double> range = invocation.getArgument(1);
+                    double max = range.getUpperBound().getValue().orElse(Double.MAX_VALUE);
+                    long before = instances.size();
+                    instances.values().removeIf(score -> score <= max);
+                    return before - instances.size();
+                }));
+        lenient().when(zSetOperations.range(eq(INSTANCES_KEY), any(Range.class)))
+                .thenAnswer(invocation -> Flux.defer(() -> Flux.fromIterable(new ArrayList<>(instances.keySet()))));
+        lenient().when(zSetOperations.remove(eq(INSTANCES_KEY), any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() ->
+                        instances.remove((String) invocation.getArgument(1)) != null ? 1L : 0L));
+        lenient().when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(invocation -> Flux.defer(() -> {
+                    RedisScript<Long> script = invocation.getArgument(0);
+                    String leaseKey = ((List<String>) invocation.getArgument(1)).get(0);
+                    String serverId = (String) ((List<?>) invocation.getArgument(2)).get(0);
+                    return Flux.just(script.getScriptAsString().contains("PEXPIRE")
+                            ? acquireLease(leaseKey, serverId)
+                            : releaseLease(leaseKey, serverId));
+                }));
+    }
+
+    @Test
+    @DisplayName("인스턴스 추가/제거 - 기존 인스턴스는 새 인스턴스에 넘기는 샤드 외에는 담당이 바뀌지 않아야 함")
+    void rebalance_NodeJoinsAndLeaves_OnlyMovedShardsChangeOwner() {
+        // Given - 3개 인스턴스가 전체 샤드를 나눠 가진 상태
+        List<ScheduleShardManager> nodes = List.of(newManager("server-a"), newManager("server-b"), newManager("server-c"));
+        settle(nodes);
+        List<Set<Integer>> before = ownedShardsOf(nodes);
+        assertExclusiveAndComplete(nodes);
+
+        // When - 새 인스턴스 합류 (하트비트 → 기존 인스턴스 반납 → 새 인스턴스 획득)
+        ScheduleShardManager joined = newManager("server-d");
+        List<ScheduleShardManager> all = List.of(nodes.get(0), nodes.get(1), nodes.get(2), joined);
+        rebalance(joined);
+        assertNoDoubleOwnership(all);
+        nodes.forEach(this::rebalance);
+        assertNoDoubleOwnership(all);
+        rebalance(joined);
+
+        // Then - 기존 인스턴스는 일부 샤드만 넘기고 새로 가져가지 않음
+        List<Set<Integer>> afterJoin = ownedShardsOf(nodes);
+        for (int i = 0; i < nodes.size(); i++) {
+            assertThat(before.get(i)).containsAll(afterJoin.get(i));
+        }
+        assertExclusiveAndComplete(all);
+
+        // When - 합류했던 인스턴스가 정상 종료 (리스 반납 후 인스턴스 목록에서 제거)
+        joined.shutdown();
+        nodes.forEach(this::rebalance);
+
+        // Then - 넘겼던 샤드만 되돌아오고 원래 배치로 복귀
+        assertThat(ownedShardsOf(nodes)).isEqualTo(before);
+        assertExclusiveAndComplete(nodes);
+    }
+
+    @Test
+    @DisplayName("리스 만료 - 죽은 인스턴스의 샤드는 리스 TTL이 지난 뒤에만 생존 인스턴스가 이어받아야 함")
+    void rebalance_DeadNode_TakesOverAfterLeaseExpires() {
+        // Given
+        ScheduleShardManager nodeA = newManager("server-a");
+        ScheduleShardManager nodeB = newManager("server-b");
+        settle(List.of(nodeA, nodeB));
+        Set<Integer> shardsOfA = new HashSet<>(nodeA.getOwnedShards());
+        Set<Integer> shardsOfB = new HashSet<>(nodeB.getOwnedShards());
+        assertThat(shardsOfA).isNotEmpty();
+        List<Set<Integer>> acquiredByB = new ArrayList<>();
+        nodeB.addOwnershipListener((acquired, released) -> acquiredByB.add(acquired));
+
+        // When - A가 하트비트 없이 죽어 인스턴스 목록에서는 빠졌지만 리스는 아직 남아 있음
+        instances.put("server-a", (double) (Instant.now().toEpochMilli() - LEASE_TTL_MS - 1_000));
+        rebalance(nodeB);
+
+        // Then - 리스가 살아 있는 동안에는 이어받지 않음
+        assertThat(instances).doesNotContainKey("server-a");
+        assertThat(new HashSet<>(nodeB.getOwnedShards())).isEqualTo(shardsOfB);
+        assertThat(acquiredByB).isEmpty();
+
+        // When - 리스 TTL 경과
+        leases.values().removeIf("server-a"::equals);
+        rebalance(nodeB);
+
+        // Then - B가 전체 샤드를 소유하고, 새로 얻은 샤드를 리스너에 알림
+        assertThat(nodeB.getOwnedShards()).containsExactlyInAnyOrderElementsOf(allShards());
+        assertThat(acquiredByB).containsExactly(shardsOfA);
+    }
+
+    @Test
+    @DisplayName("이중 소유 방지 - 다른 인스턴스가 리스를 보유한 샤드는 담당으로 계산되어도 소유하지 않아야 함")
+    void rebalance_LeaseHeldByOther_DoesNotOwn() {
+        // Given - A 혼자 시작하여 전체 샤드 리스 보유
+        ScheduleShardManager nodeA = newManager("server-a");
+        rebalance(nodeA);
+        assertThat(nodeA.getOwnedShards()).hasSize(SHARD_COUNT);
+
+        // When - B 합류 직후 (A가 아직 반납 전)
+        ScheduleShardManager nodeB = newManager("server-b");
+        rebalance(nodeB);
+
+        // Then
+        assertThat(nodeB.getOwnedShards()).isEmpty();
+        assertThat(nodeB.ownsTimer("timer-1")).isFalse();
+        assertNoDoubleOwnership(List.of(nodeA, nodeB));
+
+        // When - A가 재계산하여 B 담당 샤드를 반납한 뒤 B 재계산
+        rebalance(nodeA);
+        assertNoDoubleOwnership(List.of(nodeA, nodeB));
+        rebalance(nodeB);
+
+        // Then
+        assertThat(nodeB.getOwnedShards()).isNotEmpty();
+        assertExclusiveAndComplete(List.of(nodeA, nodeB));
+        assertThat(nodeA.ownsTimer("timer-1")).isNotEqualTo(nodeB.ownsTimer("timer-1"));
+    }
+
+    private ScheduleShardManager newManager(String serverId) {
+        ServerInstanceIdGenerator generator = mock(ServerInstanceIdGenerator.class);
+        lenient().when(generator.getServerInstanceId()).thenReturn(serverId);
+        ScheduleShardManager manager = new ScheduleShardManager(stringRedisTemplate, generator, timerTaskScheduler);
+        ReflectionTestUtils.setField(manager, "shardCount", SHARD_COUNT);
+        ReflectionTestUtils.setField(manager, "leaseTtlMs", LEASE_TTL_MS);
+        return manager;
+    }
+
+    private void rebalance(ScheduleShardManager manager) {
+        StepVerifier.create(manager.rebalance()).verifyComplete();
+    }
+
+    /**
+     * 하트비트 등록 → 반납 → 획득이 모두 끝나도록 전체 인스턴스를 두 바퀴 재계산
+     */
+    private void settle(List<ScheduleShardManager> nodes) {
+        nodes.forEach(this::rebalance);
+        nodes.forEach(this::rebalance);
+    }
+
+    private Long acquireLease(String leaseKey, String serverId) {
+        String owner = leases.get(leaseKey);
+        if (owner == null) {
+            leases.put(leaseKey, serverId);
+            return 1L;
+        }
+        return owner.equals(serverId) ? 1L : 0L;
+    }
+
+    private Long releaseLease(String leaseKey, String serverId) {
+        return leases.remove(leaseKey, serverId) ? 1L : 0L;
+    }
+
+    private List<Set<Integer>> ownedShardsOf(List<ScheduleShardManager> nodes) {
+        return nodes.stream()
+                .map(node -> (Set<Integer>) new HashSet<>(node.getOwnedShards()))
+                .toList();
+    }
+
+    private void assertNoDoubleOwnership(List<ScheduleShardManager> nodes) {
+        List<Integer> owned = nodes.stream()
+                .flatMap(node -> node.getOwnedShards().stream())
+                .toList();
+        assertThat(owned).doesNotHaveDuplicates();
+    }
+
+    private void assertExclusiveAndComplete(List<ScheduleShardManager> nodes) {
+        assertNoDoubleOwnership(nodes);
+        Set<Integer> owned = nodes.stream()
+                .flatMap(node -> node.getOwnedShards().stream())
+                .collect(Collectors.toSet());
+        assertThat(owned).containsExactlyInAnyOrderElementsOf(allShards());
+    }
+
+    private List<Integer> allShards() {
+        return IntStream.range(0, SHARD_COUNT).boxed().toList();
+    }
+}
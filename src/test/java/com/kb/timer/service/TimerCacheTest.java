@@ -0,0 +1,114 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.repository.TimerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * TimerCache 테스트
+ *
+ * 테스트 범위:
+ * - 반복 조회는 MongoDB를 다시 조회하지 않음 (ID / 공유 토큰 양쪽)
+ * - 무효화 후에는 다시 조회
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerCache 노드 로컬 캐시 테스트")
+class TimerCacheTest {
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimerCache timerCache;
+
+    private final String TEST_TIMER_ID = "timer-789";
+    private final String TEST_SHARE_TOKEN = "share-token-123";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timerCache = new TimerCache(timerRepository, meterRegistry);
+        ReflectionTestUtils.setField(timerCache, "maxSize", 2);
+        ReflectionTestUtils.setField(timerCache, "ttlMs", 60_000L);
+        timerCache.init();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - ID로 조회한 타이머는 공유 토큰 조회에서도 MongoDB를 다시 조회하지 않아야 함")
+    void findById_ThenShareToken_ServedFromCache() {
+        // Given
+        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(timer(TEST_TIMER_ID, TEST_SHARE_TOKEN)));
+
+        // When
+        StepVerifier.create(timerCache.findById(TEST_TIMER_ID)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(timerCache.findById(TEST_TIMER_ID)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(timerCache.findByShareToken(TEST_SHARE_TOKEN))
+                .assertNext(timer -> assertThat(timer.getId()).isEqualTo(TEST_TIMER_ID))
+                .verifyComplete();
+
+        // Then
+        verify(timerRepository, times(1)).findById(TEST_TIMER_ID);
+        verify(timerRepository, never()).findByShareToken(anyString());
+        assertThat(meterRegistry.get("timer.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("timer.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 - 이벤트로 무효화된 타이머는 다음 조회 시 MongoDB에서 다시 읽어야 함")
+    void invalidate_NextLookupReloads() {
+        // Given
+        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(timer(TEST_TIMER_ID, TEST_SHARE_TOKEN)));
+        StepVerifier.create(timerCache.findById(TEST_TIMER_ID)).expectNextCount(1).verifyComplete();
+
+        // When
+        timerCache.invalidate(TEST_TIMER_ID);
+        StepVerifier.create(timerCache.findById(TEST_TIMER_ID)).expectNextCount(1).verifyComplete();
+
+        // Then
+        verify(timerRepository, times(2)).findById(TEST_TIMER_ID);
+        assertThat(meterRegistry.get("timer.cache.evictions").tag("cause", "invalidated").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("크기 제한 - 최대 크기를 넘으면 가장 오래 사용되지 않은 타이머가 제거되어야 함")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // Given
+        timerCache.put(timer("timer-1", "token-1"));
+        timerCache.put(timer("timer-2", "token-2"));
+        StepVerifier.create(timerCache.findById("timer-1")).expectNextCount(1).verifyComplete(); // timer-1 최근 사용
+
+        // When
+        timerCache.put(timer("timer-3", "token-3"));
+
+        // Then
+        assertThat(timerCache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("timer.cache.evictions").tag("cause", "size").counter().count()).isEqualTo(1.0);
+        when(timerRepository.findByShareToken("token-2")).thenReturn(Mono.empty());
+        StepVerifier.create(timerCache.findByShareToken("token-2")).verifyComplete();
+        verify(timerRepository).findByShareToken("token-2");
+    }
+
+    private Timer timer(String id, String shareToken) {
+        return Timer.builder()
+                .id(id)
+                .ownerId("owner-123")
+                .targetTime(Instant.now().plusSeconds(300))
+                .shareToken(shareToken)
+                .build();
+    }
+}
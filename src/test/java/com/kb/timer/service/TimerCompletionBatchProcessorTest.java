@@ -0,0 +1,214 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.entity.TimerCompletionLog;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
+import com.kb.timer.repository.TimerCompletionLogRepository;
+import com.kb.timer.repository.TimerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TimerCompletionBatchProcessor 테스트
+ *
+ * 테스트 범위:
+ * - 배치 내 중복 타이머 ID 제거
+ * - 실제로 완료된 타이머만 이벤트 발행
+ * - 완료된 타이머가 없으면 Redis/Kafka 호출 생략
+ * - 실제로 완료한 타이머의 완료 로그만 저장
+ * - 완료된 타이머로 로컬 캐시 갱신
+ * - 완료 업데이트 실패 시에만 실패 로그 저장, 완료 이후 실패는 발행 재시도
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerCompletionBatchProcessor 완료 배치 처리 테스트")
+class TimerCompletionBatchProcessorTest {
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private RedisConnectionManager connectionManager;
+
+    @Mock
+    private KafkaEventPublisher kafkaEventPublisher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TimerCompletionLogRepository completionLogRepository;
+
+    @Mock
+    private TimerCache timerCache;
+
+    @InjectMocks
+    private TimerCompletionBatchProcessor batchProcessor;
+
+    private final String TEST_SERVER_ID = "test-server-1";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchProcessor, "serverId", TEST_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 완료된 타이머들을 한 번의 Kafka 배치로 발행해야 함")
+    @SuppressWarnings("unchecked")
+    void completeBatch_CompletedTimers_PublishesSingleBatch() {
+        // Given
+        Timer timer1 = Timer.builder().id("timer-1").ownerId("owner-1").targetTime(Instant.now()).completed(true).build();
+        Timer timer2 = Timer.builder().id("timer-2").ownerId("owner-2").targetTime(Instant.now()).completed(true).build();
+
+        when(timerRepository.completeTimers(eq(List.of("timer-1", "timer-2", "timer-3")), any(Instant.class)))
+                .thenReturn(Flux.just(timer1, timer2)); // timer-3은 이미 완료됨
+        when(connectionManager.getOnlineUserCounts(List.of("timer-1", "timer-2")))
+                .thenReturn(Mono.just(Map.of("timer-1", 3L)));
+        when(kafkaEventPublisher.publishTimerEvents(anyList())).thenReturn(Mono.empty());
+
+        // When & Then - 중복 ID 포함
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1", "timer-2", "timer-1", "timer-3")))
+                .verifyComplete();
+
+        ArgumentCaptor<List<TimerCompletedEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(kafkaEventPublisher, times(1)).publishTimerEvents(eventsCaptor.capture());
+
+        List<TimerCompletedEvent> events = eventsCaptor.getValue();
+        assertThat(events).extracting(TimerCompletedEvent::getTimerId).containsExactly("timer-1", "timer-2");
+        assertThat(events).extracting(TimerCompletedEvent::getOnlineUserCount).containsExactly(3, 0);
+        assertThat(events).allMatch(event -> TEST_SERVER_ID.equals(event.getOriginServerId()));
+
+        // 완료된 타이머마다 스케줄 취소 이벤트 발행
+        verify(eventPublisher, times(2)).publishEvent(any(TimerScheduleEvent.class));
+
+        // 로컬 캐시는 완료된 문서로 갱신
+        verify(timerCache).put(timer1);
+        verify(timerCache).put(timer2);
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 완료된 타이머가 없으면 Redis/Kafka를 호출하지 않아야 함")
+    void completeBatch_NothingCompleted_SkipsPublishing() {
+        // Given
+        when(timerRepository.completeTimers(anyList(), any(Instant.class))).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1")))
+                .verifyComplete();
+
+        verifyNoInteractions(connectionManager, kafkaEventPublisher, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 이 노드가 실제로 완료한 타이머의 로그만 성공으로 저장해야 함")
+    @SuppressWarnings("unchecked")
+    void completeBatch_WithCompletionLogs_SavesOnlyCompletedTimerLogs() {
+        // Given
+        Timer timer1 = Timer.builder().id("timer-1").ownerId("owner-1").targetTime(Instant.now()).completed(true).build();
+        TimerCompletionLog log1 = TimerCompletionLog.builder().timerId("timer-1").serverId(TEST_SERVER_ID).build();
+        TimerCompletionLog log2 = TimerCompletionLog.builder().timerId("timer-2").serverId(TEST_SERVER_ID).build();
+
+        // timer-2는 다른 노드가 먼저 완료하여 조건부 업데이트에 걸리지 않음
+        when(timerRepository.completeTimers(eq(List.of("timer-1", "timer-2")), any(Instant.class)))
+                .thenReturn(Flux.just(timer1));
+        when(completionLogRepository.saveAll(anyIterable())).thenAnswer(invocation ->
+                Flux.fromIterable((Iterable<TimerCompletionLog>) invocation.getArgument(0)));
+        when(connectionManager.getOnlineUserCounts(List.of("timer-1"))).thenReturn(Mono.just(Map.of()));
+        when(kafkaEventPublisher.publishTimerEvents(anyList())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1", "timer-2"),
+                        Map.of("timer-1", log1, "timer-2", log2)))
+                .verifyComplete();
+
+        ArgumentCaptor<Iterable<TimerCompletionLog>> logsCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(completionLogRepository, times(1)).saveAll(logsCaptor.capture());
+        assertThat(logsCaptor.getValue()).containsExactly(log1);
+        assertThat(log1.isSuccess()).isTrue();
+        assertThat(log1.isLockAcquired()).isTrue();
+        assertThat(log1.getProcessingCompletedAt()).isNotNull();
+        assertThat(log2.isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 모든 타이머를 다른 노드가 완료했으면 완료 로그를 저장하지 않아야 함")
+    void completeBatch_CompletedElsewhere_SavesNoCompletionLog() {
+        // Given
+        TimerCompletionLog completionLog = TimerCompletionLog.builder().timerId("timer-1").serverId(TEST_SERVER_ID).build();
+        when(timerRepository.completeTimers(anyList(), any(Instant.class))).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1"), Map.of("timer-1", completionLog)))
+                .verifyComplete();
+
+        verifyNoInteractions(completionLogRepository, connectionManager, kafkaEventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 완료 업데이트가 실패하면 완료 로그를 실패로 저장하고 발행하지 않아야 함")
+    @SuppressWarnings("unchecked")
+    void completeBatch_CompleteTimersFails_SavesFailureLogs() {
+        // Given
+        TimerCompletionLog completionLog = TimerCompletionLog.builder().timerId("timer-1").serverId(TEST_SERVER_ID).build();
+        when(timerRepository.completeTimers(anyList(), any(Instant.class)))
+                .thenReturn(Flux.error(new RuntimeException("Mongo 연결 실패")));
+        when(completionLogRepository.saveAll(anyIterable())).thenAnswer(invocation ->
+                Flux.fromIterable((Iterable<TimerCompletionLog>) invocation.getArgument(0)));
+
+        // When & Then
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1"), Map.of("timer-1", completionLog)))
+                .verifyComplete();
+
+        verify(completionLogRepository, times(1)).saveAll(anyIterable());
+        assertThat(completionLog.isSuccess()).isFalse();
+        assertThat(completionLog.getErrorMessage()).isEqualTo("Mongo 연결 실패");
+        verifyNoInteractions(connectionManager, kafkaEventPublisher);
+    }
+
+    @Test
+    @DisplayName("배치 완료 처리 - 완료 이후 발행이 실패하면 성공 로그를 유지하고 발행만 재시도해야 함")
+    @SuppressWarnings("unchecked")
+    void completeBatch_PublishFailsOnce_RetriesWithoutFailureLog() {
+        // Given
+        ReflectionTestUtils.setField(batchProcessor, "publishMaxRetries", 2);
+        Timer timer1 = Timer.builder().id("timer-1").ownerId("owner-1").targetTime(Instant.now()).completed(true).build();
+        TimerCompletionLog completionLog = TimerCompletionLog.builder().timerId("timer-1").serverId(TEST_SERVER_ID).build();
+        when(timerRepository.completeTimers(anyList(), any(Instant.class))).thenReturn(Flux.just(timer1));
+        when(completionLogRepository.saveAll(anyIterable())).thenAnswer(invocation ->
+                Flux.fromIterable((Iterable<TimerCompletionLog>) invocation.getArgument(0)));
+        // 온라인 사용자 수 조회 실패는 발행을 막지 않음
+        when(connectionManager.getOnlineUserCounts(List.of("timer-1")))
+                .thenReturn(Mono.error(new RuntimeException("Redis 연결 실패")));
+        when(kafkaEventPublisher.publishTimerEvents(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("Kafka 전송 실패")))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(batchProcessor.completeBatch(List.of("timer-1"), Map.of("timer-1", completionLog)))
+                .verifyComplete();
+
+        verify(kafkaEventPublisher, times(2)).publishTimerEvents(anyList());
+        verify(completionLogRepository, times(1)).saveAll(anyIterable());
+        assertThat(completionLog.isSuccess()).isTrue();
+        assertThat(completionLog.getErrorMessage()).isNull();
+    }
+}
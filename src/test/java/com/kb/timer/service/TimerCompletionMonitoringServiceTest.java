@@ -0,0 +1,202 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.SweeperCheckpoint;
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.repository.SweeperCheckpointRepository;
+import com.kb.timer.repository.TimerCompletionLogRepository;
+import com.kb.timer.repository.TimerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TimerCompletionMonitoringService 테스트
+ *
+ * 미완료 타이머 컬렉션과 체크포인트(CAS)를 인메모리로 흉내내어 스위프 구간 처리를 검증
+ *
+ * 테스트 범위:
+ * - 다른 노드에 구간 선점(CAS)을 빼앗기면 mark를 전진시키지 않고 재발행하지 않음
+ * - 배치가 가득 차면 마지막 targetTime 직전까지만 전진하여 같은 밀리초의 타이머를 건너뛰지 않음
+ * - 재발행했지만 아직 미완료인 타이머는 rescan-window-ms 안에서 다음 스위프에 다시 재발행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerCompletionMonitoringService 누락 타이머 스위프 테스트")
+class TimerCompletionMonitoringServiceTest {
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private TimerCompletionLogRepository completionLogRepository;
+
+    @Mock
+    private SweeperCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TimerCompletionMonitoringService monitoringService;
+
+    private static final String SWEEPER_ID = "missed-timer-completion";
+    private static final long GRACE_MS = 5_000L;
+
+    // 미완료 타이머 컬렉션과 저장된 high-water mark
+    private final List<Timer> incompleteTimers = new ArrayList<>();
+    private Instant highWaterMark;
+
+    @BeforeEach
+    void setUp() {
+        monitoringService = new TimerCompletionMonitoringService(
+                timerRepository,
+                completionLogRepository,
+                checkpointRepository,
+                eventPublisher
+        );
+        ReflectionTestUtils.setField(monitoringService, "graceMs", GRACE_MS);
+        ReflectionTestUtils.setField(monitoringService, "batchSize", 100);
+        ReflectionTestUtils.setField(monitoringService, "initialLookbackMinutes", 5L);
+        ReflectionTestUtils.setField(monitoringService, "rescanWindowMs", 0L);
+
+        highWaterMark = Instant.now().minusSeconds(120);
+        lenient().when(checkpointRepository.findById(SWEEPER_ID))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> SweeperCheckpoint.builder()
+                        .id(SWEEPER_ID)
+                        .highWaterMark(highWaterMark)
+                        .build()));
+        lenient().when(checkpointRepository.advanceHighWaterMark(eq(SWEEPER_ID), any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    Instant expected = invocation.getArgument(1);
+                    if (!expected.equals(highWaterMark)) {
+                        return false;
+                    }
+                    highWaterMark = invocation.getArgument(2);
+                    return true;
+                }));
+        // { completed: false, targetTime: { $gt: after, $lte: until } } 정렬 + 페이지 크기 제한
+        lenient().when(timerRepository.findIncompleteDueBetween(any(Instant.class), any(Instant.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Instant after = invocation.getArgument(0);
+                    Instant until = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return Flux.defer(() -> Flux.fromIterable(incompleteTimers.stream()
+                            .filter(timer -> timer.getTargetTime().isAfter(after) && !timer.getTargetTime().isAfter(until))
+                            .sorted(Comparator.comparing(Timer::getTargetTime))
+                            .limit(pageable.getPageSize())
+                            .toList()));
+                });
+        lenient().when(completionLogRepository.findTimerIdsWithSuccessfulLog(anyCollection())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("구간 선점 실패 - 다른 노드가 먼저 mark를 전진시키면 재발행하지 않아야 함")
+    void sweepOnce_CasLost_DoesNotRedrive() {
+        // Given - 조회 후 CAS 직전에 다른 노드가 같은 구간을 선점
+        incompleteTimers.add(timer("timer-1", Instant.now().minusSeconds(30)));
+        Instant advancedByOtherNode = Instant.now().minusMillis(GRACE_MS);
+        when(checkpointRepository.advanceHighWaterMark(eq(SWEEPER_ID), any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    highWaterMark = advancedByOtherNode;
+                    return false;
+                }));
+
+        // When
+        StepVerifier.create(monitoringService.sweepOnce())
+                .expectNext(0)
+                .verifyComplete();
+
+        // Then - mark는 다른 노드가 전진시킨 값 그대로, 재발행/완료 로그 조회 없음
+        assertThat(highWaterMark).isEqualTo(advancedByOtherNode);
+        verify(timerRepository, times(1)).findIncompleteDueBetween(any(Instant.class), any(Instant.class), any(Pageable.class));
+        verifyNoInteractions(completionLogRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치 - 같은 밀리초의 남은 타이머를 건너뛰지 않고 다음 스위프에서 이어서 처리해야 함")
+    void sweepOnce_FullBatch_ResumesBeforeLastTargetTime() {
+        // Given - 배치 크기 3, 마지막 targetTime에 타이머 3개가 몰림
+        ReflectionTestUtils.setField(monitoringService, "batchSize", 3);
+        Instant base = Instant.now().minusSeconds(30);
+        Instant crowded = base.plusMillis(5);
+        incompleteTimers.addAll(List.of(
+                timer("timer-1", base),
+                timer("timer-2", crowded),
+                timer("timer-3", crowded),
+                timer("timer-4", crowded)));
+        // 재발행된 타이머는 완료 처리됨
+        doAnswer(invocation -> {
+            TimerCompletionEvent event = invocation.getArgument(0);
+            incompleteTimers.removeIf(timer -> timer.getId().equals(event.getTimerId()));
+            return null;
+        }).when(eventPublisher).publishEvent(any(TimerCompletionEvent.class));
+
+        // When - 첫 스위프
+        StepVerifier.create(monitoringService.sweepOnce())
+                .expectNext(3)
+                .verifyComplete();
+
+        // Then - 마지막 targetTime 1ms 전까지만 전진
+        assertThat(highWaterMark).isEqualTo(crowded.minusMillis(1));
+
+        // When - 다음 스위프
+        StepVerifier.create(monitoringService.sweepOnce())
+                .expectNext(1)
+                .verifyComplete();
+
+        // Then - 같은 밀리초의 timer-4까지 모두 한 번씩 재발행
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(TimerCompletionEvent::getTimerId)
+                .containsExactlyInAnyOrder("timer-1", "timer-2", "timer-3", "timer-4");
+        assertThat(incompleteTimers).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재검사 구간 - 재발행했지만 아직 미완료인 타이머는 다음 스위프에서 다시 재발행해야 함")
+    void sweepOnce_RedrivenButIncomplete_RedrivenAgainWithinRescanWindow() {
+        // Given - 재발행이 완료로 이어지지 못하는 타이머
+        ReflectionTestUtils.setField(monitoringService, "rescanWindowMs", 60_000L);
+        incompleteTimers.add(timer("timer-1", Instant.now().minusMillis(GRACE_MS).minusSeconds(10)));
+
+        // When - mark가 timer-1을 지난 뒤 다시 스위프
+        StepVerifier.create(monitoringService.sweepOnce())
+                .expectNext(1)
+                .verifyComplete();
+        Instant markAfterFirstSweep = highWaterMark;
+        StepVerifier.create(monitoringService.sweepOnce())
+                .expectNext(1)
+                .verifyComplete();
+
+        // Then - 두 번째 스위프는 mark 뒤쪽 구간에서 다시 찾아 재발행
+        assertThat(incompleteTimers.get(0).getTargetTime()).isBefore(markAfterFirstSweep);
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(TimerCompletionEvent::getTimerId)
+                .containsExactly("timer-1", "timer-1");
+    }
+
+    private Timer timer(String timerId, Instant targetTime) {
+        return Timer.builder().id(timerId).targetTime(targetTime).completed(false).build();
+    }
+}
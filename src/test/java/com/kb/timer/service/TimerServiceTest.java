@@ -2,18 +2,26 @@ package com.kb.timer.service;
 
 import com.kb.timer.model.entity.Timer;
 import com.kb.timer.model.entity.TimestampEntry;
+import com.kb.timer.model.dto.CreateTimerRequest;
 import com.kb.timer.model.dto.TimerResponse;
+import com.kb.timer.model.dto.TimestampHistoryCursor;
+import com.kb.timer.model.event.TargetTimeChangedEvent;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
 import com.kb.timer.repository.TimerRepository;
 import com.kb.timer.repository.TimestampEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -23,8 +31,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -54,7 +64,13 @@ class TimerServiceTest {
     private RedisConnectionManager connectionManager;
     
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private OnlineUserCountCoalescer onlineUserCountCoalescer;
+    
+    @Mock
+    private TimerCache timerCache;
+    
+    @Spy
+    private RequestCollapser requestCollapser = new RequestCollapser(new SimpleMeterRegistry());
     
     @Mock
     private ApplicationEventPublisher eventPublisher;
@@ -71,6 +87,10 @@ class TimerServiceTest {
     void setUp() {
         // 서버 ID 설정
         ReflectionTestUtils.setField(timerService, "serverId", TEST_SERVER_ID);
+        ReflectionTestUtils.setField(requestCollapser, "enabledOperations", Set.of(
+                RequestCollapser.OPERATION_TIMER_BY_ID,
+                RequestCollapser.OPERATION_TIMER_BY_SHARE_TOKEN,
+                RequestCollapser.OPERATION_ONLINE_USER_COUNT));
     }
 
     @Test
@@ -118,6 +138,47 @@ class TimerServiceTest {
         // createTimer에서는 Kafka 이벤트를 직접 발행하지 않음
     }
 
+    @Test
+    @DisplayName("타이머 일괄 생성 - 청크마다 insertMany 한 번, 스케줄 일괄 등록 이벤트 한 번으로 처리하고 요청 순서대로 응답해야 함")
+    void createTimers_ChunkedInsertAndBatchSchedule() {
+        // Given
+        ReflectionTestUtils.setField(timerService, "batchCreateChunkSize", 2);
+        ReflectionTestUtils.setField(timerService, "batchCreateChunkWindowMs", 1000L);
+        when(timerRepository.insert(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+
+        Flux<CreateTimerRequest> requests = Flux.just(60L, 120L, 180L).map(seconds -> {
+            CreateTimerRequest request = new CreateTimerRequest();
+            request.setTargetTimeSeconds(seconds);
+            request.setOwnerId(TEST_OWNER_ID);
+            return request;
+        });
+
+        // When & Then
+        StepVerifier.create(timerService.createTimers(requests))
+                .assertNext(response -> assertThat(response.getRemainingTime()).isEqualTo(Duration.ofSeconds(60)))
+                .assertNext(response -> assertThat(response.getRemainingTime()).isEqualTo(Duration.ofSeconds(120)))
+                .assertNext(response -> {
+                    assertThat(response.getRemainingTime()).isEqualTo(Duration.ofSeconds(180));
+                    assertThat(response.getUserRole()).isEqualTo("OWNER");
+                    assertThat(response.getShareToken()).startsWith("/timer/");
+                })
+                .verifyComplete();
+
+        // 3건 요청 → 2건 + 1건 청크
+        verify(timerRepository, times(2)).insert(anyList());
+        verify(timerRepository, never()).save(any(Timer.class));
+        verify(timerCache, times(3)).put(any(Timer.class));
+
+        ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(event -> ((TimerScheduleEvent) event).getType())
+                .containsOnly(TimerScheduleEvent.Type.SCHEDULE_BATCH);
+        assertThat(eventCaptor.getAllValues())
+                .extracting(event -> ((TimerScheduleEvent) event).getTimers().size())
+                .containsExactly(2, 1);
+    }
+
     @Test
     @DisplayName("목표 시간 변경 - 소유자가 변경 시 성공해야 함")
     void changeTargetTime_OwnerCanChange_Success() {
@@ -132,15 +193,16 @@ class TimerServiceTest {
                 .completed(false)
                 .build();
 
-        Timer updatedTimer = Timer.builder()
+        Timer previousTimer = Timer.builder()
                 .id(TEST_TIMER_ID)
                 .ownerId(TEST_OWNER_ID)
-                .targetTime(newTargetTime)
+                .targetTime(oldTargetTime)
                 .completed(false)
                 .build();
 
         when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(existingTimer));
-        when(timerRepository.save(any(Timer.class))).thenReturn(Mono.just(updatedTimer));
+        when(timerRepository.changeTargetTimeIfPending(eq(TEST_TIMER_ID), eq(newTargetTime), any(Instant.class)))
+                .thenReturn(Mono.just(previousTimer));
         when(kafkaEventPublisher.publishTimerEvent(any())).thenReturn(Mono.empty());
         when(connectionManager.getOnlineUserCount(anyString())).thenReturn(Mono.just(1L));
 
@@ -155,7 +217,40 @@ class TimerServiceTest {
 
         // 이벤트 발행 검증
         verify(eventPublisher).publishEvent(any()); // 스케줄 업데이트 이벤트
-        verify(kafkaEventPublisher).publishTimerEvent(any()); // 목표시간 변경 이벤트
+        verify(kafkaEventPublisher).publishTimerEvent(argThat(event ->
+                event instanceof TargetTimeChangedEvent changed
+                        && oldTargetTime.equals(changed.getOldTargetTime())
+                        && newTargetTime.equals(changed.getNewTargetTime()))); // 목표시간 변경 이벤트
+        // 전체 문서 저장 대신 조건부 업데이트만 사용
+        verify(timerRepository, never()).save(any(Timer.class));
+    }
+
+    @Test
+    @DisplayName("목표 시간 변경 - 그 사이 완료된 타이머는 미완료로 되돌리지 않고 실패해야 함")
+    void changeTargetTime_CompletedConcurrently_Failure() {
+        // Given
+        Instant newTargetTime = Instant.now().plusSeconds(600);
+        Timer existingTimer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .ownerId(TEST_OWNER_ID)
+                .targetTime(Instant.now().minusSeconds(1))
+                .completed(false)
+                .build();
+
+        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(existingTimer));
+        // 조회 이후 완료 처리되어 {_id, completed:false} 조건에 맞는 문서가 없음
+        when(timerRepository.changeTargetTimeIfPending(eq(TEST_TIMER_ID), eq(newTargetTime), any(Instant.class)))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(timerService.changeTargetTime(TEST_TIMER_ID, newTargetTime, TEST_OWNER_ID))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("이미 완료된 타이머"))
+                .verify();
+
+        verify(timerRepository, never()).save(any(Timer.class));
+        verifyNoInteractions(eventPublisher, kafkaEventPublisher);
     }
 
     @Test
@@ -182,6 +277,7 @@ class TimerServiceTest {
 
         // 저장이 호출되지 않았는지 확인
         verify(timerRepository, never()).save(any(Timer.class));
+        verify(timerRepository, never()).changeTargetTimeIfPending(anyString(), any(Instant.class), any(Instant.class));
         verify(kafkaEventPublisher, never()).publishTimerEvent(any());
     }
 
@@ -200,6 +296,87 @@ class TimerServiceTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("타이머 완료 - 조건부 업데이트 성공 시 완료 이벤트를 발행해야 함")
+    void publishTimerCompletedEvent_DueTimer_PublishesCompletedEvent() {
+        // Given
+        Timer completedTimer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .ownerId(TEST_OWNER_ID)
+                .targetTime(Instant.now().minusSeconds(1))
+                .completed(true)
+                .completedAt(Instant.now())
+                .build();
+
+        when(timerRepository.completeIfPending(eq(TEST_TIMER_ID), any(Instant.class))).thenReturn(Mono.just(completedTimer));
+        when(connectionManager.getOnlineUserCount(TEST_TIMER_ID)).thenReturn(Mono.just(2L));
+        when(kafkaEventPublisher.publishTimerEvent(any())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(timerService.publishTimerCompletedEvent(TEST_TIMER_ID))
+                .verifyComplete();
+
+        // 전체 문서 저장 대신 조건부 업데이트만 사용
+        verify(timerRepository, never()).save(any(Timer.class));
+        verify(kafkaEventPublisher).publishTimerEvent(any());
+    }
+
+    @Test
+    @DisplayName("타이머 완료 - 수동 완료는 목표 시각 전이어도 완료 처리하고 이벤트를 발행해야 함")
+    void publishTimerCompletedEvent_BeforeTargetTime_CompletesManually() {
+        // Given
+        Instant targetTime = Instant.now().plusSeconds(300);
+        Timer completedTimer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .ownerId(TEST_OWNER_ID)
+                .targetTime(targetTime)
+                .completed(true)
+                .completedAt(Instant.now())
+                .build();
+
+        when(timerRepository.completeIfPending(eq(TEST_TIMER_ID), any(Instant.class))).thenReturn(Mono.just(completedTimer));
+        when(connectionManager.getOnlineUserCount(TEST_TIMER_ID)).thenReturn(Mono.just(1L));
+        when(kafkaEventPublisher.publishTimerEvent(any())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(timerService.publishTimerCompletedEvent(TEST_TIMER_ID))
+                .verifyComplete();
+
+        verify(kafkaEventPublisher).publishTimerEvent(argThat(event ->
+                event instanceof TimerCompletedEvent completed && targetTime.equals(completed.getCompletedTargetTime())));
+        verify(timerRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("타이머 완료 - 이미 완료된 타이머는 이벤트를 발행하지 않아야 함")
+    void publishTimerCompletedEvent_AlreadyCompleted_SkipsPublishing() {
+        // Given
+        when(timerRepository.completeIfPending(eq(TEST_TIMER_ID), any(Instant.class))).thenReturn(Mono.empty());
+        when(timerRepository.existsById(TEST_TIMER_ID)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(timerService.publishTimerCompletedEvent(TEST_TIMER_ID))
+                .verifyComplete();
+
+        verify(kafkaEventPublisher, never()).publishTimerEvent(any());
+        verifyNoInteractions(connectionManager);
+    }
+
+    @Test
+    @DisplayName("타이머 완료 - 존재하지 않는 타이머는 실패해야 함")
+    void publishTimerCompletedEvent_TimerNotFound_Failure() {
+        // Given
+        when(timerRepository.completeIfPending(eq(TEST_TIMER_ID), any(Instant.class))).thenReturn(Mono.empty());
+        when(timerRepository.existsById(TEST_TIMER_ID)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(timerService.publishTimerCompletedEvent(TEST_TIMER_ID))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("타이머를 찾을 수 없습니다"))
+                .verify();
+    }
+
     @Test
     @DisplayName("타임스탬프 저장 - 정상적인 저장 시 올바른 데이터로 저장되어야 함")
     void saveTimestamp_Success() {
@@ -219,7 +396,7 @@ class TimerServiceTest {
                 .build();
 
         when(timestampRepository.save(any(TimestampEntry.class))).thenReturn(Mono.just(savedEntry));
-        when(kafkaEventPublisher.publishTimerEvent(any())).thenReturn(Mono.empty()); // saveTimestamp는 publishTimerEvent를 호출
+        when(kafkaEventPublisher.publishEvent(any())).thenReturn(Mono.empty()); // saveTimestamp는 우선순위 레인 라우팅(publishEvent) 사용
 
         // When & Then
         StepVerifier.create(timerService.saveTimestamp(TEST_TIMER_ID, TEST_USER_ID, targetTime, metadata))
@@ -235,7 +412,7 @@ class TimerServiceTest {
 
         // 저장 호출 검증
         verify(timestampRepository).save(any(TimestampEntry.class));
-        verify(kafkaEventPublisher).publishTimerEvent(any()); // 타임스탬프 저장 이벤트 발행 확인 (실제로는 publishTimerEvent 호출)
+        verify(kafkaEventPublisher).publishEvent(any()); // 타임스탬프 저장 이벤트 발행 확인 (NORMAL 레인)
     }
 
     @Test
@@ -254,7 +431,7 @@ class TimerServiceTest {
                 .shareToken("share-token-123")
                 .build();
 
-        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(existingTimer));
+        when(timerCache.findById(TEST_TIMER_ID)).thenReturn(Mono.just(existingTimer));
         when(connectionManager.getOnlineUserCount(anyString())).thenReturn(Mono.just(1L));
 
         // When & Then
@@ -278,6 +455,33 @@ class TimerServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("상태 틱 조회 - 목표 시각과 마지막 변경 시각을 epoch 밀리초로 반환")
+    void getTimerTick_ExistingTimer_ReturnsTargetAndVersion() {
+        // Given
+        Instant targetTime = Instant.parse("2026-01-01T00:05:00Z");
+        Instant updatedAt = Instant.parse("2026-01-01T00:00:10Z");
+        Timer existingTimer = Timer.builder()
+                .id(TEST_TIMER_ID)
+                .ownerId(TEST_OWNER_ID)
+                .targetTime(targetTime)
+                .createdAt(updatedAt.minusSeconds(10))
+                .updatedAt(updatedAt)
+                .completed(false)
+                .build();
+
+        when(timerCache.findById(TEST_TIMER_ID)).thenReturn(Mono.just(existingTimer));
+
+        // When & Then
+        StepVerifier.create(timerService.getTimerTick(TEST_TIMER_ID))
+                .assertNext(tick -> {
+                    assertThat(tick.getTargetTimeMs()).isEqualTo(targetTime.toEpochMilli());
+                    assertThat(tick.getVersion()).isEqualTo(updatedAt.toEpochMilli());
+                    assertThat(tick.isCompleted()).isFalse();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("타이머 조회 - 완료된 타이머 조회 시 완료 상태 반환")
     void getTimerInfo_CompletedTimer_ReturnsCompletedStatus() {
@@ -293,7 +497,7 @@ class TimerServiceTest {
                 .completedAt(pastTargetTime)
                 .build();
 
-        when(timerRepository.findById(TEST_TIMER_ID)).thenReturn(Mono.just(completedTimer));
+        when(timerCache.findById(TEST_TIMER_ID)).thenReturn(Mono.just(completedTimer));
         when(connectionManager.getOnlineUserCount(anyString())).thenReturn(Mono.just(1L));
 
         // When & Then
@@ -309,54 +513,65 @@ class TimerServiceTest {
     }
 
     @Test
-    @DisplayName("타이머 히스토리 조회 - 사용자별 타임스탬프 목록 반환")
-    void getTimerHistory_ReturnsUserTimestamps() {
+    @DisplayName("타이머 히스토리 조회 - 페이지 크기보다 많으면 마지막 엔트리 기준 다음 커서를 반환해야 함")
+    void getTimerHistoryPage_MoreThanPage_ReturnsNextCursor() {
         // Given
-        TimestampEntry entry1 = TimestampEntry.builder()
-                .id("ts-1")
-                .timerId(TEST_TIMER_ID)
-                .userId(TEST_USER_ID)
-                .savedAt(Instant.now().minusSeconds(100))
-                .build();
-                
-        TimestampEntry entry2 = TimestampEntry.builder()
-                .id("ts-2")
-                .timerId(TEST_TIMER_ID)
-                .userId(TEST_USER_ID)
-                .savedAt(Instant.now().minusSeconds(50))
-                .build();
+        ReflectionTestUtils.setField(timerService, "historyMaxPageSize", 1000);
+        Instant createdAt = Instant.ofEpochMilli(Instant.now().toEpochMilli());
+        TimestampEntry entry1 = historyEntry("ts-1", createdAt.minusSeconds(100));
+        TimestampEntry entry2 = historyEntry("ts-2", createdAt);
+        TimestampEntry entry3 = historyEntry("ts-3", createdAt);
 
-        when(timestampRepository.findByTimerIdOrderByCreatedAtAsc(TEST_TIMER_ID))
-                .thenReturn(Flux.just(entry1, entry2));
+        // 다음 페이지 존재 여부 판단을 위해 limit + 1건 조회
+        when(timestampRepository.findHistoryAfter(TEST_TIMER_ID, null, null, 3, false))
+                .thenReturn(Flux.just(entry1, entry2, entry3));
 
         // When & Then
-        StepVerifier.create(timerService.getTimerHistory(TEST_TIMER_ID))
-                .expectNext(entry1)
-                .expectNext(entry2)
+        StepVerifier.create(timerService.getTimerHistoryPage(TEST_TIMER_ID, null, null, 2, false))
+                .assertNext(page -> {
+                    assertThat(page.getEntries()).containsExactly(entry1, entry2);
+                    assertThat(TimestampHistoryCursor.decode(page.getNextCursor()))
+                            .isEqualTo(new TimestampHistoryCursor(createdAt, "ts-2"));
+                })
                 .verifyComplete();
-
-        verify(timestampRepository).findByTimerIdOrderByCreatedAtAsc(TEST_TIMER_ID);
     }
 
     @Test
-    @DisplayName("사용자별 타이머 히스토리 조회 - 특정 사용자의 타임스탬프만 반환")
-    void getUserTimerHistory_ReturnsSpecificUserTimestamps() {
+    @DisplayName("사용자별 타이머 히스토리 조회 - 커서 이후부터 조회하고 마지막 페이지면 커서가 없어야 함")
+    void getTimerHistoryPage_UserLastPage_NoNextCursor() {
         // Given
-        TimestampEntry userEntry = TimestampEntry.builder()
-                .id("ts-user")
-                .timerId(TEST_TIMER_ID)
-                .userId(TEST_USER_ID)
-                .savedAt(Instant.now())
-                .build();
+        ReflectionTestUtils.setField(timerService, "historyDefaultPageSize", 100);
+        TimestampHistoryCursor cursor = new TimestampHistoryCursor(Instant.ofEpochMilli(1_700_000_000_000L), "ts-1");
+        TimestampEntry userEntry = historyEntry("ts-user", Instant.now());
 
-        when(timestampRepository.findByTimerIdAndUserIdOrderByCreatedAtAsc(TEST_TIMER_ID, TEST_USER_ID))
+        when(timestampRepository.findHistoryAfter(TEST_TIMER_ID, TEST_USER_ID, cursor, 101, true))
                 .thenReturn(Flux.just(userEntry));
 
         // When & Then
-        StepVerifier.create(timerService.getUserTimerHistory(TEST_TIMER_ID, TEST_USER_ID))
-                .expectNext(userEntry)
+        StepVerifier.create(timerService.getTimerHistoryPage(TEST_TIMER_ID, TEST_USER_ID, cursor.encode(), 0, true))
+                .assertNext(page -> {
+                    assertThat(page.getEntries()).containsExactly(userEntry);
+                    assertThat(page.getNextCursor()).isNull();
+                })
                 .verifyComplete();
+    }
 
-        verify(timestampRepository).findByTimerIdAndUserIdOrderByCreatedAtAsc(TEST_TIMER_ID, TEST_USER_ID);
+    @Test
+    @DisplayName("타이머 히스토리 조회 - 잘못된 커서는 IllegalArgumentException으로 거부해야 함")
+    void getTimerHistoryPage_InvalidCursor_Rejected() {
+        // When & Then
+        assertThatThrownBy(() -> timerService.getTimerHistoryPage(TEST_TIMER_ID, null, "not-a-cursor", 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(timestampRepository);
+    }
+
+    private TimestampEntry historyEntry(String id, Instant createdAt) {
+        return TimestampEntry.builder()
+                .id(id)
+                .timerId(TEST_TIMER_ID)
+                .userId(TEST_USER_ID)
+                .savedAt(createdAt)
+                .createdAt(createdAt)
+                .build();
     }
 }
@@ -0,0 +1,198 @@
+package com.kb.timer.service;
+
+import com.kb.timer.model.entity.Timer;
+import com.kb.timer.model.event.TimerCompletionEvent;
+import com.kb.timer.model.event.TimerScheduleEvent;
+import com.kb.timer.repository.TimerRepository;
+import com.kb.timer.util.HierarchicalTimingWheel;
+import com.kb.timer.util.ServerInstanceIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TimingWheelSchedulerService 테스트
+ *
+ * 테스트 범위:
+ * - 소유하지 않은 타이머의 스케줄 변경은 채널로 전달
+ * - 다른 노드가 보낸 스케줄 변경을 소유 노드의 휠에 반영
+ * - 샤드 획득 시 목표 시간이 지난 미완료 타이머도 복구하여 처리
+ * - 샤드 상실 시 해당 샤드 타이머를 휠에서 제거
+ *
+ * timer-2는 이 노드가 리스를 보유한 샤드 0, timer-1은 다른 노드 소유 샤드 1
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimingWheelSchedulerService 파티션 소유 테스트")
+class TimingWheelSchedulerServiceTest {
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private ServerInstanceIdGenerator serverInstanceIdGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ScheduleShardManager shardManager;
+
+    private TimingWheelSchedulerService schedulerService;
+
+    private final String TEST_SERVER_ID = "test-server-0";
+    private final String OTHER_SERVER_ID = "test-server-1";
+    private final String OWNED_TIMER_ID = "timer-2";
+    private final String FOREIGN_TIMER_ID = "timer-1";
+    private final int OWNED_SHARD = 0;
+    private final int FOREIGN_SHARD = 1;
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = new TimingWheelSchedulerService(
+                timerRepository,
+                serverInstanceIdGenerator,
+                eventPublisher,
+                stringRedisTemplate,
+                shardManager
+        );
+        ReflectionTestUtils.setField(schedulerService, "tickMs", 1L);
+        ReflectionTestUtils.setField(schedulerService, "wheelSize", 512);
+
+        doReturn(Flux.never()).when(stringRedisTemplate).listenToChannel(TimingWheelSchedulerService.SCHEDULE_CHANNEL);
+        lenient().when(serverInstanceIdGenerator.getServerInstanceId()).thenReturn(TEST_SERVER_ID);
+        lenient().when(shardManager.shardOf(OWNED_TIMER_ID)).thenReturn(OWNED_SHARD);
+        lenient().when(shardManager.shardOf(FOREIGN_TIMER_ID)).thenReturn(FOREIGN_SHARD);
+        lenient().when(shardManager.ownsTimer(OWNED_TIMER_ID)).thenReturn(true);
+        lenient().when(shardManager.ownsTimer(FOREIGN_TIMER_ID)).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerService.shutdown();
+    }
+
+    @Test
+    @DisplayName("스케줄 이벤트 - 다른 노드 소유 타이머는 휠에 등록하지 않고 채널로 전달해야 함")
+    void handleTimerScheduleEvent_ForeignTimer_PublishesToOwner() {
+        // Given
+        when(shardManager.getOwnedShards()).thenReturn(List.of());
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+        schedulerService.init();
+
+        Instant targetTime = Instant.now().plusSeconds(300);
+        Timer timer = Timer.builder().id(FOREIGN_TIMER_ID).targetTime(targetTime).completed(false).build();
+
+        // When
+        schedulerService.handleTimerScheduleEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.UPDATE, timer));
+        schedulerService.handleTimerScheduleEvent(new TimerScheduleEvent(this, TimerScheduleEvent.Type.CANCEL, FOREIGN_TIMER_ID));
+
+        // Then
+        verify(stringRedisTemplate).convertAndSend(TimingWheelSchedulerService.SCHEDULE_CHANNEL,
+                "SCHEDULE|" + TEST_SERVER_ID + "|" + FOREIGN_TIMER_ID + "|" + targetTime.toEpochMilli());
+        verify(stringRedisTemplate).convertAndSend(TimingWheelSchedulerService.SCHEDULE_CHANNEL,
+                "CANCEL|" + TEST_SERVER_ID + "|" + FOREIGN_TIMER_ID + "|");
+        assertThat(timingWheel().contains(FOREIGN_TIMER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스케줄 채널 - 다른 노드가 변경한 소유 타이머를 휠에 반영해야 함")
+    void applyScheduleCommand_OwnedTimerFromOtherNode_UpdatesWheel() {
+        // Given
+        when(shardManager.getOwnedShards()).thenReturn(List.of());
+        schedulerService.init();
+        long targetMs = Instant.now().plusSeconds(300).toEpochMilli();
+
+        // When - 다른 노드에서 생성/변경
+        schedulerService.applyScheduleCommand("SCHEDULE|" + OTHER_SERVER_ID + "|" + OWNED_TIMER_ID + "|" + targetMs);
+
+        // Then
+        assertThat(timingWheel().contains(OWNED_TIMER_ID)).isTrue();
+
+        // When - 다른 노드에서 취소
+        schedulerService.applyScheduleCommand("CANCEL|" + OTHER_SERVER_ID + "|" + OWNED_TIMER_ID + "|");
+
+        // Then
+        assertThat(timingWheel().contains(OWNED_TIMER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스케줄 채널 - 소유하지 않은 타이머의 메시지는 무시해야 함")
+    void applyScheduleCommand_ForeignTimer_Ignored() {
+        // Given
+        when(shardManager.getOwnedShards()).thenReturn(List.of());
+        schedulerService.init();
+        long targetMs = Instant.now().plusSeconds(300).toEpochMilli();
+
+        // When
+        schedulerService.applyScheduleCommand("SCHEDULE|" + OTHER_SERVER_ID + "|" + FOREIGN_TIMER_ID + "|" + targetMs);
+
+        // Then
+        assertThat(timingWheel().contains(FOREIGN_TIMER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 목표 시간이 지난 소유 타이머는 완료 로그를 실은 완료 이벤트를 즉시 발행해야 함")
+    void init_OverdueOwnedTimer_FiresImmediately() {
+        // Given
+        Timer overdue = Timer.builder().id(OWNED_TIMER_ID).targetTime(Instant.now().minusSeconds(5)).completed(false).build();
+        Timer foreign = Timer.builder().id(FOREIGN_TIMER_ID).targetTime(Instant.now().minusSeconds(5)).completed(false).build();
+        when(shardManager.getOwnedShards()).thenReturn(List.of(OWNED_SHARD));
+        when(timerRepository.findByCompletedFalse()).thenReturn(Flux.just(overdue, foreign));
+
+        // When
+        schedulerService.init();
+
+        // Then - 소유한 타이머만 완료 처리, 성공 여부는 배치 처리기가 실제 완료 후 기록
+        ArgumentCaptor<TimerCompletionEvent> eventCaptor = ArgumentCaptor.forClass(TimerCompletionEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getTimerId()).isEqualTo(OWNED_TIMER_ID);
+        assertThat(eventCaptor.getValue().getCompletionLog()).isNotNull();
+        assertThat(eventCaptor.getValue().getCompletionLog().isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤드 재배치 - 상실한 샤드의 타이머는 휠에서 제거하고 획득한 샤드의 타이머는 복구해야 함")
+    void onShardOwnershipChanged_Handover_MovesTimers() {
+        // Given - 샤드 0 소유 중
+        when(shardManager.getOwnedShards()).thenReturn(List.of());
+        schedulerService.init();
+        Instant targetTime = Instant.now().plusSeconds(300);
+        schedulerService.scheduleTimer(Timer.builder().id(OWNED_TIMER_ID).targetTime(targetTime).completed(false).build());
+        Timer adopted = Timer.builder().id(FOREIGN_TIMER_ID).targetTime(targetTime).completed(false).build();
+        when(timerRepository.findByCompletedFalse()).thenReturn(Flux.just(adopted));
+        when(shardManager.ownsTimer(FOREIGN_TIMER_ID)).thenReturn(true);
+
+        // When - 샤드 0 상실, 샤드 1 획득 (장애 노드의 리스 만료 후 이어받음)
+        schedulerService.onShardOwnershipChanged(Set.of(FOREIGN_SHARD), Set.of(OWNED_SHARD));
+
+        // Then
+        assertThat(timingWheel().contains(OWNED_TIMER_ID)).isFalse();
+        assertThat(timingWheel().contains(FOREIGN_TIMER_ID)).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private HierarchicalTimingWheel timingWheel() {
+        return (HierarchicalTimingWheel) ReflectionTestUtils.getField(schedulerService, "timingWheel");
+    }
+}
@@ -0,0 +1,202 @@
+package com.kb.timer.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HierarchicalTimingWheel 테스트
+ *
+ * 테스트 범위:
+ * - 최하위 레벨 / 상위(overflow) 레벨 타이머 만료
+ * - 타이머 취소 및 재등록(교체)
+ * - 이미 만료된 타이머 등록 거부
+ * - 틱이 1ms보다 클 때 만료 시각 전에 발화하지 않음
+ */
+@DisplayName("HierarchicalTimingWheel 타이밍 휠 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long START_MS = 1_000L;
+    private static final long POLL_TIMEOUT_MS = 10L;
+
+    private AtomicLong clock;
+    private HierarchicalTimingWheel timingWheel;
+    private List<String> expiredTimerIds;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(START_MS);
+        // 틱 1ms, 레벨당 8개 버킷 → 8ms 초과 타이머는 상위 레벨로 위임
+        timingWheel = new HierarchicalTimingWheel(1, 8, clock::get);
+        expiredTimerIds = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("최하위 레벨 타이머 - 만료 시각 도달 시 콜백이 호출되어야 함")
+    void advanceClock_LowestLevel_FiresOnExpiration() throws InterruptedException {
+        // Given
+        assertThat(timingWheel.schedule("timer-1", START_MS + 5)).isTrue();
+
+        // When - 만료 전
+        clock.set(START_MS + 4);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).isEmpty();
+        assertThat(timingWheel.contains("timer-1")).isTrue();
+
+        // When - 만료 시각 도달
+        clock.set(START_MS + 5);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).containsExactly("timer-1");
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨 타이머 - 하위 레벨로 재배치된 뒤 정확한 시각에 만료되어야 함")
+    void advanceClock_OverflowLevel_CascadesAndFires() throws InterruptedException {
+        // Given
+        List<Long> expirations = new ArrayList<>();
+        assertThat(timingWheel.schedule("timer-far", START_MS + 100)).isTrue();
+
+        // When - 상위 레벨 버킷만 만료된 시점
+        clock.set(START_MS + 95);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expirations.add(expirationMs));
+
+        // Then
+        assertThat(expirations).isEmpty();
+
+        // When - 실제 만료 시각 도달
+        clock.set(START_MS + 100);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expirations.add(expirationMs));
+
+        // Then
+        assertThat(expirations).containsExactly(START_MS + 100);
+    }
+
+    @Test
+    @DisplayName("타이머 취소 - 취소된 타이머는 만료 콜백이 호출되지 않아야 함")
+    void cancel_CancelledTimer_DoesNotFire() throws InterruptedException {
+        // Given
+        timingWheel.schedule("timer-1", START_MS + 3);
+
+        // When
+        boolean cancelled = timingWheel.cancel("timer-1");
+        clock.set(START_MS + 10);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(timingWheel.cancel("timer-1")).isFalse();
+        assertThat(expiredTimerIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건부 일괄 취소 - 조건에 맞는 타이머만 취소되어야 함")
+    void cancelIf_MatchingTimers_CancelsOnlyMatches() throws InterruptedException {
+        // Given
+        timingWheel.schedule("shard-a-1", START_MS + 3);
+        timingWheel.schedule("shard-a-2", START_MS + 50);
+        timingWheel.schedule("shard-b-1", START_MS + 3);
+
+        // When
+        int cancelled = timingWheel.cancelIf(timerId -> timerId.startsWith("shard-a"));
+        clock.set(START_MS + 100);
+        while (timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId))) {
+            // 만료 버킷이 없을 때까지 진행
+        }
+
+        // Then
+        assertThat(cancelled).isEqualTo(2);
+        assertThat(expiredTimerIds).containsExactly("shard-b-1");
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("타이머 재등록 - 기존 스케줄은 교체되고 새 만료 시각에만 콜백이 호출되어야 함")
+    void schedule_SameTimerId_ReplacesPreviousEntry() throws InterruptedException {
+        // Given
+        timingWheel.schedule("timer-1", START_MS + 3);
+        timingWheel.schedule("timer-1", START_MS + 6);
+
+        // When - 기존 만료 시각
+        clock.set(START_MS + 3);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).isEmpty();
+        assertThat(timingWheel.size()).isEqualTo(1);
+
+        // When - 새 만료 시각
+        clock.set(START_MS + 6);
+        timingWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).containsExactly("timer-1");
+    }
+
+    @Test
+    @DisplayName("이미 만료된 타이머 등록 - false를 반환하고 등록되지 않아야 함")
+    void schedule_AlreadyExpired_ReturnsFalse() {
+        // When
+        boolean scheduled = timingWheel.schedule("timer-past", START_MS - 1);
+
+        // Then
+        assertThat(scheduled).isFalse();
+        assertThat(timingWheel.contains("timer-past")).isFalse();
+    }
+
+    @Test
+    @DisplayName("틱이 큰 휠 - 만료 시각보다 일찍 발화하지 않아야 함")
+    void advanceClock_CoarseTick_NeverFiresEarly() throws InterruptedException {
+        // Given - 틱 10ms
+        HierarchicalTimingWheel coarseWheel = new HierarchicalTimingWheel(10, 8, clock::get);
+        assertThat(coarseWheel.schedule("timer-1", START_MS + 15)).isTrue();
+
+        // When - 만료 시각이 속한 틱의 시작 시각 (버림 시 여기서 발화함)
+        clock.set(START_MS + 14);
+        coarseWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).isEmpty();
+
+        // When - 틱 범위의 마지막 시각
+        clock.set(START_MS + 19);
+        coarseWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).containsExactly("timer-1");
+    }
+
+    @Test
+    @DisplayName("틱이 큰 휠 - 현재 틱 안의 아직 오지 않은 만료 시각은 만료로 처리하지 않아야 함")
+    void schedule_CoarseTickWithinCurrentTick_WaitsForExpiration() throws InterruptedException {
+        // Given - 틱 10ms, 현재 틱 [START, START+10) 안에서 등록
+        HierarchicalTimingWheel coarseWheel = new HierarchicalTimingWheel(10, 8, clock::get);
+        clock.set(START_MS + 3);
+
+        // When
+        boolean scheduled = coarseWheel.schedule("timer-1", START_MS + 8);
+        clock.set(START_MS + 5);
+        coarseWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(scheduled).isTrue();
+        assertThat(expiredTimerIds).isEmpty();
+
+        // When - 만료 시각 이후
+        clock.set(START_MS + 9);
+        coarseWheel.advanceClock(POLL_TIMEOUT_MS, (timerId, expirationMs) -> expiredTimerIds.add(timerId));
+
+        // Then
+        assertThat(expiredTimerIds).containsExactly("timer-1");
+    }
+}
@@ -0,0 +1,137 @@
+package com.kb.timer.util;
+
+import com.kb.timer.model.event.TargetTimeChangedEvent;
+import com.kb.timer.model.event.TimerCompletedEvent;
+import com.kb.timer.model.event.TimerEvent;
+import com.kb.timer.model.event.TimestampSavedEvent;
+import com.kb.timer.model.event.UserJoinedEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimerEventBinaryCodec 테스트
+ *
+ * 테스트 범위:
+ * - 이벤트 타입별 바이너리 인코딩/디코딩 왕복
+ * - 토픽별 포맷 선택 및 JSON 메시지 역직렬화 호환
+ */
+@DisplayName("TimerEventBinaryCodec 바이너리 코덱 테스트")
+class TimerEventBinaryCodecTest {
+
+    @Test
+    @DisplayName("목표 시간 변경 이벤트 - 모든 필드가 그대로 복원되어야 함")
+    void roundTrip_TargetTimeChangedEvent() {
+        // Given
+        TargetTimeChangedEvent event = TargetTimeChangedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .timerId(UUID.randomUUID().toString())
+                .timestamp(Instant.now())
+                .originServerId("server-1")
+                .oldTargetTime(Instant.parse("2026-01-01T00:00:00Z"))
+                .newTargetTime(Instant.parse("2026-01-01T00:05:00.123456789Z"))
+                .changedBy("owner-1")
+                .serverTime(Instant.now())
+                .build();
+
+        // When
+        byte[] encoded = TimerEventBinaryCodec.encode(event);
+        TimerEvent decoded = TimerEventBinaryCodec.decode(encoded);
+
+        // Then
+        assertThat(TimerEventBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(decoded).isInstanceOf(TargetTimeChangedEvent.class).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("타임스탬프 저장 이벤트 - null 필드, Duration, metadata가 복원되어야 함")
+    void roundTrip_TimestampSavedEvent() {
+        // Given
+        TimestampSavedEvent event = TimestampSavedEvent.builder()
+                .eventId("non-uuid-event-id")
+                .timerId(UUID.randomUUID().toString())
+                .timestamp(Instant.now())
+                .originServerId(null)
+                .userId("사용자-1")
+                .savedAt(Instant.now())
+                .remainingTime(Duration.ofMillis(90_500))
+                .targetTime(null)
+                .metadata(Map.of("note", "메모", "count", 3))
+                .build();
+
+        // When
+        TimerEvent decoded = TimerEventBinaryCodec.decode(TimerEventBinaryCodec.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("완료/입장 이벤트 - 정수 필드가 복원되고 JSON보다 작아야 함")
+    void roundTrip_CompactComparedToJson() {
+        // Given
+        TimerCompletedEvent completed = TimerCompletedEvent.builder()
+                .timerId(UUID.randomUUID().toString())
+                .originServerId("server-1")
+                .completedTargetTime(Instant.now())
+                .ownerId("owner-1")
+                .onlineUserCount(42)
+                .build();
+        UserJoinedEvent joined = UserJoinedEvent.builder()
+                .timerId(UUID.randomUUID().toString())
+                .userId("user-1")
+                .serverId("server-1")
+                .onlineUserCount(7)
+                .build();
+
+        TimerEventSerializer jsonSerializer = new TimerEventSerializer();
+        jsonSerializer.configure(Map.of(), false);
+
+        // When & Then
+        for (TimerEvent event : new TimerEvent[]{completed, joined}) {
+            byte[] encoded = TimerEventBinaryCodec.encode(event);
+            assertThat(TimerEventBinaryCodec.decode(encoded)).isEqualTo(event);
+            assertThat(encoded.length).isLessThan(jsonSerializer.serialize("timer-events", event).length / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("토픽별 포맷 선택 - 역직렬화기는 JSON과 바이너리 메시지를 모두 읽어야 함")
+    void serializer_PerTopicFormat_DeserializerReadsBoth() {
+        // Given
+        TimerEventSerializer serializer = new TimerEventSerializer();
+        serializer.configure(Map.of(TimerEventSerializer.BINARY_TOPICS_CONFIG, "timer-events"), false);
+
+        TimerEventDeserializer deserializer = new TimerEventDeserializer();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.kb.timer.model.event",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, TimerEvent.class.getName()), false);
+
+        UserJoinedEvent event = UserJoinedEvent.builder()
+                .timerId(UUID.randomUUID().toString())
+                .userId("user-1")
+                .serverId("server-1")
+                .onlineUserCount(3)
+                .build();
+
+        // When
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = serializer.serialize("timer-events", binaryHeaders, event);
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        byte[] json = serializer.serialize("user-actions", jsonHeaders, event);
+
+        // Then
+        assertThat(TimerEventBinaryCodec.isBinary(binary)).isTrue();
+        assertThat(TimerEventBinaryCodec.isBinary(json)).isFalse();
+        assertThat(deserializer.deserialize("timer-events", binaryHeaders, binary)).isEqualTo(event);
+        assertThat(deserializer.deserialize("user-actions", jsonHeaders, json)).isEqualTo(event);
+    }
+}